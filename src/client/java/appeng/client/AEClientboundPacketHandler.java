@@ -36,6 +36,7 @@
 import net.neoforged.neoforge.common.SoundActions;
 
 import appeng.api.util.IConfigurableObject;
+import appeng.blockentity.AEBaseBlockEntity;
 import appeng.blockentity.crafting.MolecularAssemblerAnimationStatus;
 import appeng.blockentity.crafting.MolecularAssemblerBlockEntity;
 import appeng.client.gui.me.common.PendingCraftingJobs;
@@ -48,9 +49,11 @@
 import appeng.core.AppEng;
 import appeng.core.network.ClientboundPacket;
 import appeng.core.network.bidirectional.ConfigValuePacket;
+import appeng.core.network.clientbound.BlockEntityUpdatesPacket;
 import appeng.core.network.clientbound.BlockTransitionEffectPacket;
 import appeng.core.network.clientbound.ClearPatternAccessTerminalPacket;
 import appeng.core.network.clientbound.CompassResponsePacket;
+import appeng.core.network.clientbound.CraftConfirmPlanEntriesPacket;
 import appeng.core.network.clientbound.CraftConfirmPlanPacket;
 import appeng.core.network.clientbound.CraftingJobStatusPacket;
 import appeng.core.network.clientbound.CraftingStatusPacket;
@@ -71,6 +74,7 @@
 import appeng.menu.guisync.LinkStatusAwareMenu;
 import appeng.menu.me.common.MEStorageMenu;
 import appeng.menu.me.crafting.CraftConfirmMenu;
+import appeng.menu.me.crafting.CraftingPlanSummary;
 
 public class AEClientboundPacketHandler {
     public void handleGuiDataSyncPacket(GuiDataSyncPacket packet, Minecraft minecraft, Player player) {
@@ -181,7 +185,15 @@ public void handleCraftingStatusPacket(CraftingStatusPacket packet, Minecraft mi
 
     public void handleCraftConfirmPlanPacket(CraftConfirmPlanPacket packet, Minecraft minecraft, Player player) {
         if (player.containerMenu instanceof CraftConfirmMenu menu) {
-            menu.setPlan(packet.plan());
+            menu.setPlan(CraftingPlanSummary.createPending(packet.usedBytes(), packet.simulation(),
+                    packet.entryCount()));
+        }
+    }
+
+    public void handleCraftConfirmPlanEntriesPacket(CraftConfirmPlanEntriesPacket packet, Minecraft minecraft,
+            Player player) {
+        if (player.containerMenu instanceof CraftConfirmMenu menu) {
+            menu.receivePlanEntries(packet.offset(), packet.entries());
         }
     }
 
@@ -202,6 +214,15 @@ public void handleMolecularAssemblerAnimationPacket(MolecularAssemblerAnimationP
         }
     }
 
+    public void handleBlockEntityUpdatesPacket(BlockEntityUpdatesPacket packet, Minecraft minecraft, Player player) {
+        var level = player.level();
+        for (var update : packet.updates()) {
+            if (level.getBlockEntity(update.pos()) instanceof AEBaseBlockEntity blockEntity) {
+                blockEntity.receiveUpdateData(update.data());
+            }
+        }
+    }
+
     public void handleMEInventoryUpdatePacket(MEInventoryUpdatePacket packet, Minecraft minecraft, Player player) {
         if (player.containerMenu.containerId == packet.containerId()
                 && player.containerMenu instanceof MEStorageMenu meMenu) {
@@ -332,6 +353,7 @@ public void register(RegisterClientPayloadHandlersEvent event) {
         register(event, BlockTransitionEffectPacket.TYPE, this::handleBlockTransitionEffectPacket);
         register(event, CraftingStatusPacket.TYPE, this::handleCraftingStatusPacket);
         register(event, CraftConfirmPlanPacket.TYPE, this::handleCraftConfirmPlanPacket);
+        register(event, CraftConfirmPlanEntriesPacket.TYPE, this::handleCraftConfirmPlanEntriesPacket);
         register(event, NetworkStatusPacket.TYPE, this::handleNetworkStatusPacket);
         register(event, MolecularAssemblerAnimationPacket.TYPE, this::handleMolecularAssemblerAnimationPacket);
         register(event, MEInventoryUpdatePacket.TYPE, this::handleMEInventoryUpdatePacket);
@@ -342,6 +364,7 @@ public void register(RegisterClientPayloadHandlersEvent event) {
         register(event, ExportedGridContent.TYPE, this::handleExportedGridContent);
         register(event, CraftingJobStatusPacket.TYPE, this::handleCraftingJobStatusPacket);
         register(event, ConfigValuePacket.TYPE, this::handleConfigValuePacket);
+        register(event, BlockEntityUpdatesPacket.TYPE, this::handleBlockEntityUpdatesPacket);
     }
 
     private static <T extends ClientboundPacket> void register(RegisterClientPayloadHandlersEvent event,
@@ -132,6 +132,7 @@
 import appeng.client.render.StaticBlockColor;
 import appeng.client.render.StorageCellClientTooltipComponent;
 import appeng.client.render.cablebus.CableBusModel;
+import appeng.client.render.cablebus.CableModelBenchmark;
 import appeng.client.render.crafting.CraftingCubeModel;
 import appeng.client.render.effects.CraftingParticle;
 import appeng.client.render.effects.EnergyFx;
@@ -176,6 +177,7 @@
 import appeng.core.network.serverbound.MouseWheelPacket;
 import appeng.core.network.serverbound.UpdateHoldingCtrlPacket;
 import appeng.core.particles.ParticleTypes;
+import appeng.crafting.pattern.PatternDetailsCache;
 import appeng.helpers.IMouseWheelItem;
 import appeng.items.storage.StorageCellTooltipComponent;
 import appeng.parts.reporting.ConversionMonitorPart;
@@ -314,6 +316,7 @@ private void registerClientCommands() {
                 for (var commandBuilder : ClientCommands.DEBUG_COMMANDS) {
                     commandBuilder.build(builder);
                 }
+                CableModelBenchmark.register(builder);
             }
             dispatcher.register(builder);
         });
@@ -661,6 +664,7 @@ private void receiveRecipes(RecipesReceivedEvent event) {
         recipeMap = event.getRecipeMap();
         knownRecipeTypes.clear();
         knownRecipeTypes.addAll(event.getRecipeTypes());
+        PatternDetailsCache.clear();
     }
 
     private void registerPipRenderers(RegisterPictureInPictureRenderersEvent event) {
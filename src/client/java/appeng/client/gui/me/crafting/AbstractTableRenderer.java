@@ -87,6 +87,9 @@ public final void render(GuiGraphicsExtractor guiGraphics, int mouseX, int mouse
                 }
 
                 T entry = entries.get(i);
+                if (entry == null) {
+                    continue; // Not received from the server yet
+                }
 
                 int cellX = x + col * (CELL_WIDTH + CELL_BORDER);
                 int cellY = y + row * (CELL_HEIGHT + CELL_BORDER);
@@ -157,6 +160,20 @@ public int getScrollableRows(int size) {
         return getScrollableRows(size, this.rows);
     }
 
+    /**
+     * @return The index of the first entry shown at the given scroll offset.
+     */
+    public int getFirstVisibleEntry(int scrollOffset) {
+        return scrollOffset * COLS;
+    }
+
+    /**
+     * @return The maximum number of entries shown at once.
+     */
+    public int getVisibleEntryCount() {
+        return this.rows * COLS;
+    }
+
     protected static int getScrollableRows(int size, int rows) {
         return (size + COLS - 1) / COLS - rows;
     }
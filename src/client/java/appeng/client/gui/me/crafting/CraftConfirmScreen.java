@@ -102,6 +102,10 @@ protected void updateBeforeRender() {
 
         final int size = plan != null ? plan.getEntries().size() : 0;
         scrollbar.setRange(0, this.table.getScrollableRows(size), 1);
+
+        // Load the visible entries first, the server streams the rest of the plan afterwards
+        var firstVisible = this.table.getFirstVisibleEntry(scrollbar.getCurrentScroll());
+        menu.requestPlanEntries(firstVisible, firstVisible + this.table.getVisibleEntryCount());
     }
 
     private Component getNextCpuButtonLabel() {
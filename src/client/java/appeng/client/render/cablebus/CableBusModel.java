@@ -27,10 +27,6 @@
 import java.util.Map.Entry;
 import java.util.function.Consumer;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
 import com.mojang.serialization.MapCodec;
 
 import org.jetbrains.annotations.Nullable;
@@ -70,7 +66,7 @@ public class CableBusModel implements DynamicBlockStateModel {
     // The number of quads overall that will be cached
     private static final int CACHE_QUAD_COUNT = 5000;
 
-    private final LoadingCache<CableBusRenderState, SimpleModelWrapper> cableModelCache;
+    private final CableModelCache cableModelCache = new CableModelCache(CACHE_QUAD_COUNT);
 
     private final CableBuilder cableBuilder;
 
@@ -89,16 +85,6 @@ private CableBusModel(CableBuilder cableBuilder, FacadeBuilder facadeBuilder,
         this.particleTexture = particleTexture;
         this.partModels = partModels;
         this.emptyCableModel = new SimpleModelWrapper(QuadCollection.EMPTY, false, particleTexture);
-        this.cableModelCache = CacheBuilder.newBuilder()//
-                .maximumWeight(CACHE_QUAD_COUNT)//
-                .weigher((Weigher<CableBusRenderState, SimpleModelWrapper>) (key, value) -> value.quads().getAll()
-                        .size())//
-                .build(new CacheLoader<>() {
-                    @Override
-                    public SimpleModelWrapper load(CableBusRenderState renderState) {
-                        return createCableModel(renderState);
-                    }
-                });
     }
 
     @Override
@@ -115,8 +101,9 @@ public void collectParts(BlockAndTintGetter level, BlockPos pos, BlockState stat
         // Facades will add themselves to whatever the block would be rendered with,
         // except when transparent facades are enabled, they are forced to TRANSPARENT.
 
-        // First, handle the cable at the center of the cable bus
-        var cableModel = cableModelCache.getUnchecked(renderState);
+        // First, handle the cable at the center of the cable bus. The cached model is shared by all cable busses
+        // with the same cable, regardless of their position, attachments or facades.
+        var cableModel = getCableModel(renderState);
         if (cableModel != emptyCableModel) {
             parts.add(cableModel);
         }
@@ -199,9 +186,39 @@ private static boolean isStraightLine(AECableType cableType, EnumMap<Direction,
         return firstType == secondType && cableType == firstType && cableType == secondType;
     }
 
-    private SimpleModelWrapper createCableModel(CableBusRenderState renderState) {
+    private SimpleModelWrapper getCableModel(CableBusRenderState renderState) {
+        if (renderState.getCableType() == AECableType.NONE) {
+            return emptyCableModel;
+        }
+
+        // If the connection is straight, no busses are attached, and no covered core
+        // has been forced (in case of glass
+        // cables), then render the cable as a simplified straight line.
+        var straight = isStraightLine(renderState.getCableType(), renderState.getConnectionTypes())
+                && canAllAttachmentsRenderOnStraightCable(renderState);
+
+        var key = CableModelKey.of(renderState, straight);
+        return cableModelCache.get(key, () -> createCableModel(renderState, straight));
+    }
+
+    /**
+     * Drops all cached cable models, i.e. to measure the time it takes to bake them.
+     */
+    void clearCableModelCache() {
+        cableModelCache.clear();
+    }
+
+    CableModelCache.Stats getCableModelCacheStats() {
+        return cableModelCache.getStats();
+    }
+
+    void resetCableModelCacheStats() {
+        cableModelCache.resetStats();
+    }
+
+    private SimpleModelWrapper createCableModel(CableBusRenderState renderState, boolean straight) {
         var quads = new QuadCollection.Builder();
-        getCableQuads(renderState, quads::addUnculledFace);
+        getCableQuads(renderState, straight, quads::addUnculledFace);
 
         var particleTexture = getCableParticleTexture(renderState);
         if (particleTexture == null) {
@@ -215,7 +232,7 @@ private SimpleModelWrapper createCableModel(CableBusRenderState renderState) {
         return new SimpleModelWrapper(quadCollection, true, particleTexture);
     }
 
-    private void getCableQuads(CableBusRenderState renderState, Consumer<BakedQuad> quadsOut) {
+    private void getCableQuads(CableBusRenderState renderState, boolean straight, Consumer<BakedQuad> quadsOut) {
         AECableType cableType = renderState.getCableType();
         if (cableType == AECableType.NONE) {
             return;
@@ -224,10 +241,7 @@ private void getCableQuads(CableBusRenderState renderState, Consumer<BakedQuad>
         AEColor cableColor = renderState.getCableColor();
         EnumMap<Direction, AECableType> connectionTypes = renderState.getConnectionTypes();
 
-        // If the connection is straight, no busses are attached, and no covered core
-        // has been forced (in case of glass
-        // cables), then render the cable as a simplified straight line.
-        if (isStraightLine(cableType, connectionTypes) && canAllAttachmentsRenderOnStraightCable(renderState)) {
+        if (straight) {
             Direction facing = connectionTypes.keySet().iterator().next();
 
             switch (cableType) {
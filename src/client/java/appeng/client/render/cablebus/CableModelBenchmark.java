@@ -0,0 +1,110 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.block.dispatch.BlockStateModelPart;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.RandomSource;
+
+import appeng.core.definitions.AEBlocks;
+
+/**
+ * Debug command that measures how long it takes to collect the model parts of all cable busses around the player,
+ * once with an empty cable model cache and once with the cache warmed up. Use it together with the
+ * {@code cable_rendering_benchmark} test plot.
+ */
+public final class CableModelBenchmark {
+    private static final int DEFAULT_RADIUS = 32;
+
+    private CableModelBenchmark() {
+    }
+
+    public static void register(LiteralArgumentBuilder<CommandSourceStack> builder) {
+        builder.then(Commands.literal("cable_model_benchmark")
+                .executes(ctx -> run(ctx.getSource(), DEFAULT_RADIUS))
+                .then(Commands.argument("radius", IntegerArgumentType.integer(1, 64))
+                        .executes(ctx -> run(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "radius")))));
+    }
+
+    private static int run(CommandSourceStack source, int radius) {
+        var minecraft = Minecraft.getInstance();
+        var level = minecraft.level;
+        if (level == null || minecraft.player == null) {
+            return 0;
+        }
+
+        var state = AEBlocks.CABLE_BUS.block().defaultBlockState();
+        if (!(minecraft.getModelManager().getBlockModelSet().get(state) instanceof CableBusModel model)) {
+            source.sendFailure(Component.literal("Cable bus model is not loaded"));
+            return 0;
+        }
+
+        var center = minecraft.player.blockPosition();
+        var positions = new ArrayList<BlockPos>();
+        for (var pos : BlockPos.betweenClosed(center.offset(-radius, -radius, -radius),
+                center.offset(radius, radius, radius))) {
+            if (level.getBlockState(pos).is(AEBlocks.CABLE_BUS.block())) {
+                positions.add(pos.immutable());
+            }
+        }
+        if (positions.isEmpty()) {
+            source.sendFailure(Component.literal("No cable busses within " + radius + " blocks"));
+            return 0;
+        }
+
+        model.clearCableModelCache();
+        model.resetCableModelCacheStats();
+        var coldNanos = collectAll(level, model, positions);
+        var warmNanos = collectAll(level, model, positions);
+        var stats = model.getCableModelCacheStats();
+
+        source.sendSystemMessage(Component.literal(String.format(Locale.ROOT,
+                "%d cable busses: cold %.2f ms, warm %.2f ms (%.1f us/block)",
+                positions.size(), coldNanos / 1e6, warmNanos / 1e6, warmNanos / 1e3 / positions.size())));
+        source.sendSystemMessage(Component.literal(String.format(Locale.ROOT,
+                "Cable model cache: %d entries, %d quads, %d hits, %d misses (%.1f%% hit rate), %d evictions",
+                stats.entries(), stats.quads(), stats.hits(), stats.misses(), stats.hitRate() * 100,
+                stats.evictions())));
+        return positions.size();
+    }
+
+    private static long collectAll(ClientLevel level, CableBusModel model, List<BlockPos> positions) {
+        var random = RandomSource.create(0);
+        var parts = new ArrayList<BlockStateModelPart>();
+
+        long start = System.nanoTime();
+        for (var pos : positions) {
+            parts.clear();
+            model.collectParts(level, pos, level.getBlockState(pos), random, parts);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import net.minecraft.client.resources.model.SimpleModelWrapper;
+
+/**
+ * A least-recently-used cache for baked cable models, which is limited by the total number of quads it holds rather
+ * than by its number of entries.
+ * <p>
+ * Chunk sections are meshed on several threads at once. Models are baked outside the lock, so that a miss on one
+ * thread does not stall the others.
+ */
+final class CableModelCache {
+    private final int maxQuads;
+
+    private final LinkedHashMap<CableModelKey, SimpleModelWrapper> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private int quads;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    CableModelCache(int maxQuads) {
+        this.maxQuads = maxQuads;
+    }
+
+    SimpleModelWrapper get(CableModelKey key, Supplier<SimpleModelWrapper> loader) {
+        synchronized (this) {
+            var cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        var model = loader.get();
+
+        synchronized (this) {
+            // Another thread may have baked the same model in the meantime, prefer the instance that won
+            var existing = entries.putIfAbsent(key, model);
+            if (existing != null) {
+                return existing;
+            }
+
+            quads += weigh(model);
+            var it = entries.entrySet().iterator();
+            while (quads > maxQuads && it.hasNext()) {
+                var eldest = it.next();
+                if (eldest.getKey().equals(key)) {
+                    // Never evict the entry we just added, even if it exceeds the budget on its own
+                    break;
+                }
+                quads -= weigh(eldest.getValue());
+                it.remove();
+                evictions++;
+            }
+        }
+        return model;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        quads = 0;
+    }
+
+    synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, entries.size(), quads);
+    }
+
+    synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private static int weigh(SimpleModelWrapper model) {
+        // Empty models still take up an entry
+        return Math.max(1, model.quads().getAll().size());
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, int quads) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
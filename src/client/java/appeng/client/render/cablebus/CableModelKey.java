@@ -0,0 +1,80 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+import net.minecraft.core.Direction;
+
+import appeng.api.util.AECableType;
+import appeng.api.util.AEColor;
+import appeng.block.networking.CableBusRenderState;
+import appeng.block.networking.CableCoreType;
+
+/**
+ * The parts of a {@link CableBusRenderState} that determine the geometry of the cable itself. Unlike the full render
+ * state, this does not include the position, attachments or facades, so that all cable busses with the same cable
+ * share a single cache entry.
+ *
+ * @param straight Whether the cable is rendered as a simplified straight line.
+ * @param sides    Per side, the connection type, whether a cable bus is adjacent and the attachment connection length.
+ * @param channels Per side, the number of channels shown on a connection or attachment connection.
+ */
+record CableModelKey(AECableType cableType, AEColor cableColor, CableCoreType coreType, boolean straight, long sides,
+        long channels) {
+
+    private static final int SIDE_BITS = 8;
+    private static final int CHANNEL_BITS = 6;
+    /**
+     * Smart cables show at most 8 channels, dense cables at most 32. Any higher count renders the same.
+     */
+    private static final int MAX_SHOWN_CHANNELS = 32;
+
+    static CableModelKey of(CableBusRenderState renderState, boolean straight) {
+        var connectionTypes = renderState.getConnectionTypes();
+        var attachmentConnections = renderState.getAttachmentConnections();
+        var channelsOnSide = renderState.getChannelsOnSide();
+
+        long sides = 0;
+        long channels = 0;
+        for (var side : Direction.values()) {
+            var connectionType = connectionTypes.get(side);
+            var attachmentLength = attachmentConnections.get(side);
+
+            // Bits 0-2: connection type + 1, bit 3: cable bus adjacent, bits 4-7: attachment connection length (1-8)
+            long sideBits = 0;
+            if (connectionType != null) {
+                sideBits |= connectionType.ordinal() + 1;
+                if (renderState.getCableBusAdjacent().contains(side)) {
+                    sideBits |= 1 << 3;
+                }
+            }
+            if (attachmentLength != null) {
+                sideBits |= (long) (attachmentLength & 0xF) << 4;
+            }
+            sides |= sideBits << (side.ordinal() * SIDE_BITS);
+
+            if (sideBits != 0) {
+                int shownChannels = Math.clamp(channelsOnSide.getOrDefault(side, 0), 0, MAX_SHOWN_CHANNELS);
+                channels |= (long) shownChannels << (side.ordinal() * CHANNEL_BITS);
+            }
+        }
+
+        return new CableModelKey(renderState.getCableType(), renderState.getCableColor(), renderState.getCoreType(),
+                straight, sides, channels);
+    }
+}
@@ -35,6 +35,7 @@
 import appeng.crafting.pattern.EncodedProcessingPattern;
 import appeng.crafting.pattern.EncodedSmithingTablePattern;
 import appeng.crafting.pattern.EncodedStonecuttingPattern;
+import appeng.items.storage.ExternalCellContents;
 import appeng.items.storage.SpatialPlotInfo;
 
 public final class AEComponents {
@@ -252,6 +253,15 @@ private AEComponents() {
             builder -> builder.persistent(GenericStack.FAULT_TOLERANT_LIST_CODEC)
                     .networkSynchronized(GenericStack.STREAM_CODEC.apply(ByteBufCodecs.list())));
 
+    /**
+     * Reference to the content of a storage cell that is stored outside of the item, used instead of
+     * {@link #STORAGE_CELL_INV}.
+     */
+    public static final DataComponentType<ExternalCellContents> STORAGE_CELL_EXTERNAL_INV = register(
+            "storage_cell_external_inv",
+            builder -> builder.persistent(ExternalCellContents.CODEC)
+                    .networkSynchronized(ExternalCellContents.STREAM_CODEC));
+
     /**
      * Defines partitioning for a storage cell.
      */
@@ -31,6 +31,26 @@ public interface IStackWatcher {
      */
     void remove(AEKey stack);
 
+    /**
+     * Watch a specific {@link AEKey}, but only be notified when its amount crosses the given threshold, i.e. when it
+     * changes from below the threshold to at least the threshold, or the other way around. This is much cheaper than
+     * {@link #add(AEKey)} for keys whose amount changes often.
+     * <p/>
+     * Watchers that don't track thresholds, which includes implementations that predate this method, watch the whole
+     * key with {@link #add(AEKey)} instead. Callers must therefore still check the amount when they are notified.
+     */
+    default void addThreshold(AEKey stack, long threshold) {
+        add(stack);
+    }
+
+    /**
+     * Remove a threshold added by {@link #addThreshold(AEKey, long)}. Watchers that don't track thresholds stop
+     * watching the key with {@link #remove(AEKey)} instead.
+     */
+    default void removeThreshold(AEKey stack, long threshold) {
+        remove(stack);
+    }
+
     /**
      * Removes all watched stacks and resets the watcher to a clean state.
      */
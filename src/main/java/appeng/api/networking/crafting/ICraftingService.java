@@ -26,6 +26,7 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableSet;
 
@@ -148,6 +149,25 @@ ICraftingSubmitResult submitJob(ICraftingPlan job, @Nullable ICraftingRequester
      */
     Set<AEKey> getCraftables(AEKeyFilter filter);
 
+    /**
+     * @return A version number that changes whenever a key becomes or stops being craftable or emittable. Used together
+     *         with {@link #getCraftableChangesSince} to avoid comparing the full set of craftables.
+     */
+    default long getCraftablesVersion() {
+        return 0;
+    }
+
+    /**
+     * Reports every key that may have become or stopped being craftable or emittable since the given
+     * {@link #getCraftablesVersion() version}.
+     *
+     * @return False if the changes are not known, in which case the full set of {@link #getCraftables craftables} has
+     *         to be compared instead.
+     */
+    default boolean getCraftableChangesSince(long version, Consumer<AEKey> changedKeys) {
+        return false;
+    }
+
     /**
      * Returns true if <code>what</code> is currently being requested for a crafting job in this grid.
      * <p/>
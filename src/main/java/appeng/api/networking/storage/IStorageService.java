@@ -23,8 +23,12 @@
 
 package appeng.api.networking.storage;
 
+import java.util.Collection;
+
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridService;
+import appeng.api.stacks.AEKey;
 import appeng.api.stacks.AEKeyType;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.IStorageProvider;
@@ -51,6 +55,22 @@ public interface IStorageService extends IGridService {
      */
     KeyCounter getCachedInventory();
 
+    /**
+     * Collects the keys stored in the network that are fuzzy-equal to the given key, i.e. to find what to extract for a
+     * fuzzy filter.
+     * <p/>
+     * Unlike searching {@link #getCachedInventory()}, this does not require the cache to be up to date. The result may
+     * thus still contain keys that have since been extracted, and may lack keys that were not inserted through the
+     * network (i.e. into an inventory attached to a storage bus) until the cache is refreshed.
+     *
+     * @param out The found keys are added to this collection.
+     */
+    default void findFuzzyVariants(AEKey key, FuzzyMode fuzzyMode, Collection<AEKey> out) {
+        for (var entry : getCachedInventory().findFuzzy(key, fuzzyMode)) {
+            out.add(entry.getKey());
+        }
+    }
+
     /**
      * Adds a {@link IStorageProvider} that is not associated with a specific {@link IGridNode }. This is for adding
      * storage provided by {@link IGridService}s for examples.
@@ -87,6 +87,81 @@ default long extract(AEKey what, long amount, Actionable mode, IActionSource sou
         return 0;
     }
 
+    /**
+     * Simulates inserting into this storage and returns a reservation that can later be committed to perform the
+     * insertion, or released. Storage that can remember where the simulated insertion would go overrides this to avoid
+     * walking its contents twice. By default, committing the reservation simply calls {@link #insert} again.
+     *
+     * @param what   what to insert
+     * @param amount how much of it to insert. must not be negative
+     * @return The reservation, whose {@link StorageReservation#amount()} is what the simulation reported.
+     */
+    default StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+        var possible = insert(what, amount, Actionable.SIMULATE, source);
+        if (possible <= 0) {
+            return StorageReservation.EMPTY;
+        }
+        return new SimulatedReservation(this, what, possible, source, true);
+    }
+
+    /**
+     * Simulates extracting from this storage and returns a reservation that can later be committed to perform the
+     * extraction, or released. See {@link #reserveInsert}.
+     *
+     * @param what   what to extract
+     * @param amount how much of it to extract (at most)
+     * @return The reservation, whose {@link StorageReservation#amount()} is what the simulation reported.
+     */
+    default StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        var possible = extract(what, amount, Actionable.SIMULATE, source);
+        if (possible <= 0) {
+            return StorageReservation.EMPTY;
+        }
+        return new SimulatedReservation(this, what, possible, source, false);
+    }
+
+    /**
+     * Store several keys at once, or simulate doing so. Implementations that route or persist their contents (i.e.
+     * network storage or storage cells) can override this to do that work once per batch instead of once per key.
+     * <p>
+     * When simulating, every key is checked independently against the current state of this storage, which means the
+     * combined result may be more than what would actually be accepted when all keys are inserted together.
+     *
+     * @param what     The keys and amounts to insert. Non-positive amounts are ignored. Is not modified.
+     * @param mode     action type
+     * @param inserted The amounts that were inserted will be added to this tally.
+     */
+    default void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        for (var entry : what) {
+            var amount = entry.getLongValue();
+            if (amount > 0) {
+                var accepted = insert(entry.getKey(), amount, mode, source);
+                if (accepted > 0) {
+                    inserted.add(entry.getKey(), accepted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Extract several keys at once, or simulate doing so. See {@link #insertAll} for the batch semantics.
+     *
+     * @param what      The keys and amounts to extract (at most). Non-positive amounts are ignored. Is not modified.
+     * @param mode      simulate, or perform action?
+     * @param extracted The amounts that were extracted will be added to this tally.
+     */
+    default void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        for (var entry : what) {
+            var amount = entry.getLongValue();
+            if (amount > 0) {
+                var taken = extract(entry.getKey(), amount, mode, source);
+                if (taken > 0) {
+                    extracted.add(entry.getKey(), taken);
+                }
+            }
+        }
+    }
+
     /**
      * request a full report of all available items, storage.
      *
@@ -0,0 +1,61 @@
+package appeng.api.storage;
+
+import org.jetbrains.annotations.Nullable;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEKey;
+
+/**
+ * Fallback reservation for storage without native support. Simply repeats the operation with
+ * {@link Actionable#MODULATE} on commit.
+ */
+final class SimulatedReservation implements StorageReservation {
+    @Nullable
+    private final MEStorage storage;
+    @Nullable
+    private final AEKey what;
+    private final long amount;
+    @Nullable
+    private final IActionSource source;
+    private final boolean insert;
+    private boolean done;
+
+    SimulatedReservation(@Nullable MEStorage storage, @Nullable AEKey what, long amount,
+            @Nullable IActionSource source, boolean insert) {
+        this.storage = storage;
+        this.what = what;
+        this.amount = amount;
+        this.source = source;
+        this.insert = insert;
+    }
+
+    @Override
+    public long amount() {
+        return amount;
+    }
+
+    @Override
+    public long commit(long amount) {
+        if (done || storage == null) {
+            return 0;
+        }
+        done = true;
+
+        amount = Math.min(amount, this.amount);
+        if (amount <= 0) {
+            return 0;
+        }
+
+        if (insert) {
+            return storage.insert(what, amount, Actionable.MODULATE, source);
+        } else {
+            return storage.extract(what, amount, Actionable.MODULATE, source);
+        }
+    }
+
+    @Override
+    public void release() {
+        done = true;
+    }
+}
@@ -37,6 +37,7 @@
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
 import appeng.core.stats.AeStats;
 import appeng.crafting.CraftingLink;
 
@@ -89,17 +90,21 @@ public static long poweredExtraction(IEnergySource energy, MEStorage inv,
         Objects.requireNonNull(src, "src");
         Objects.requireNonNull(mode, "mode");
 
-        var retrieved = inv.extract(request, amount, Actionable.SIMULATE, src);
+        if (mode == Actionable.SIMULATE) {
+            var retrieved = inv.extract(request, amount, Actionable.SIMULATE, src);
+            return getAffordableAmount(energy, request, retrieved);
+        }
 
-        var energyFactor = Math.max(1.0, request.getAmountPerOperation());
-        var availablePower = energy.extractAEPower(retrieved / energyFactor, Actionable.SIMULATE,
-                PowerMultiplier.CONFIG);
-        var itemToExtract = Math.min((long) (availablePower * energyFactor + 0.9), retrieved);
+        // Reserve the extraction so the storage doesn't have to be walked a second time
+        var reservation = inv.reserveExtract(request, amount, src);
+        try {
+            var retrieved = reservation.amount();
+            var itemToExtract = getAffordableAmount(energy, request, retrieved);
 
-        if (itemToExtract > 0) {
-            if (mode == Actionable.MODULATE) {
+            if (itemToExtract > 0) {
+                var energyFactor = Math.max(1.0, request.getAmountPerOperation());
                 energy.extractAEPower(retrieved / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
-                var ret = inv.extract(request, itemToExtract, Actionable.MODULATE, src);
+                var ret = reservation.commit(itemToExtract);
 
                 if (ret != 0 && request instanceof AEItemKey) {
                     src.player().ifPresent(player -> {
@@ -107,12 +112,26 @@ public static long poweredExtraction(IEnergySource energy, MEStorage inv,
                     });
                 }
                 return ret;
-            } else {
-                return itemToExtract;
             }
+
+            return 0;
+        } finally {
+            reservation.release();
+        }
+    }
+
+    /**
+     * @return How much of the given amount can be moved with the power that is available from the energy source.
+     */
+    private static long getAffordableAmount(IEnergySource energy, AEKey what, long amount) {
+        if (amount <= 0) {
+            return 0;
         }
 
-        return 0;
+        var energyFactor = Math.max(1.0, what.getAmountPerOperation());
+        var availablePower = energy.extractAEPower(amount / energyFactor, Actionable.SIMULATE,
+                PowerMultiplier.CONFIG);
+        return Math.min((long) (availablePower * energyFactor + 0.9), amount);
     }
 
     /**
@@ -147,23 +166,22 @@ public static long poweredInsert(IEnergySource energy, MEStorage inv, AEKey inpu
         Objects.requireNonNull(src);
         Objects.requireNonNull(mode);
 
-        amount = inv.insert(input, amount, Actionable.SIMULATE, src);
-        if (amount <= 0) {
-            return 0;
+        if (mode == Actionable.SIMULATE) {
+            amount = inv.insert(input, amount, Actionable.SIMULATE, src);
+            return getAffordableAmount(energy, input, amount);
         }
 
-        final double energyFactor = Math.max(1.0, input.getAmountPerOperation());
-        final double availablePower = energy.extractAEPower(amount / energyFactor, Actionable.SIMULATE,
-                PowerMultiplier.CONFIG);
-        amount = Math.min((long) (availablePower * energyFactor + 0.9), amount);
-
-        if (amount <= 0) {
-            return 0;
-        }
+        // Reserve the insertion so the storage doesn't have to be walked a second time
+        var reservation = inv.reserveInsert(input, amount, src);
+        try {
+            amount = getAffordableAmount(energy, input, reservation.amount());
+            if (amount <= 0) {
+                return 0;
+            }
 
-        if (mode == Actionable.MODULATE) {
+            final double energyFactor = Math.max(1.0, input.getAmountPerOperation());
             energy.extractAEPower(amount / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
-            var inserted = inv.insert(input, amount, Actionable.MODULATE, src);
+            var inserted = reservation.commit(amount);
 
             if (input instanceof AEItemKey) {
                 src.player().ifPresent(player -> {
@@ -172,9 +190,86 @@ public static long poweredInsert(IEnergySource energy, MEStorage inv, AEKey inpu
             }
 
             return inserted;
-        } else {
-            return amount;
+        } finally {
+            reservation.release();
         }
+    }
+
+    /**
+     * Inserts several keys into a {@link MEStorage} at once, respecting power requirements.
+     * <p>
+     * If the energy source can pay for the entire batch, the batch is inserted with a single call to
+     * {@link MEStorage#insertAll} and only the amount that was actually inserted is paid for. Otherwise this falls back
+     * to inserting key by key, to insert as much as the available power allows.
+     *
+     * @param energy   Energy source.
+     * @param inv      Inventory to insert into.
+     * @param input    Keys and amounts to insert. Is not modified.
+     * @param src      Action source.
+     * @param inserted The amounts that were inserted will be added to this tally.
+     */
+    public static void poweredInsert(IEnergySource energy, MEStorage inv, KeyCounter input, IActionSource src,
+            KeyCounter inserted) {
+        Objects.requireNonNull(energy);
+        Objects.requireNonNull(inv);
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(src);
+        Objects.requireNonNull(inserted);
+
+        double requiredPower = 0;
+        for (var entry : input) {
+            if (entry.getLongValue() > 0) {
+                requiredPower += getInsertionPower(entry.getKey(), entry.getLongValue());
+            }
+        }
+        if (requiredPower <= 0) {
+            return;
+        }
+
+        var availablePower = energy.extractAEPower(requiredPower, Actionable.SIMULATE, PowerMultiplier.CONFIG);
+        if (availablePower < requiredPower - 0.0001) {
+            // Not enough power for everything, so determine the affordable amount per key
+            for (var entry : input) {
+                var amount = entry.getLongValue();
+                if (amount > 0) {
+                    var stored = poweredInsert(energy, inv, entry.getKey(), amount, src, Actionable.MODULATE);
+                    if (stored > 0) {
+                        inserted.add(entry.getKey(), stored);
+                    }
+                }
+            }
+            return;
+        }
+
+        var accepted = new KeyCounter();
+        inv.insertAll(input, Actionable.MODULATE, src, accepted);
+
+        double usedPower = 0;
+        long insertedItems = 0;
+        for (var entry : accepted) {
+            var amount = entry.getLongValue();
+            if (amount > 0) {
+                usedPower += getInsertionPower(entry.getKey(), amount);
+                if (entry.getKey() instanceof AEItemKey) {
+                    insertedItems += amount;
+                }
+            }
+        }
+        if (usedPower > 0) {
+            energy.extractAEPower(usedPower, Actionable.MODULATE, PowerMultiplier.CONFIG);
+        }
+
+        if (insertedItems > 0) {
+            var count = Ints.saturatedCast(insertedItems);
+            src.player().ifPresent(player -> {
+                AeStats.ItemsInserted.addToPlayer(player, count);
+            });
+        }
+
+        inserted.addAll(accepted);
+    }
 
+    private static double getInsertionPower(AEKey what, long amount) {
+        return amount / Math.max(1.0, what.getAmountPerOperation());
     }
 }
@@ -0,0 +1,44 @@
+package appeng.api.storage;
+
+/**
+ * The result of simulating an insertion or extraction with {@link MEStorage#reserveInsert} or
+ * {@link MEStorage#reserveExtract}. Committing the reservation performs the operation without repeating the walk
+ * that was needed to simulate it, if the storage supports that. Otherwise, it transparently falls back to a
+ * {@link appeng.api.config.Actionable#MODULATE} call.
+ * <p>
+ * A reservation does not lock anything. It should be committed or released right away, before the storage is used in
+ * any other way. If the storage changed in the meantime, committing may move less than {@link #amount()}.
+ */
+public interface StorageReservation {
+    /**
+     * A reservation of nothing.
+     */
+    StorageReservation EMPTY = new SimulatedReservation(null, null, 0, null, true);
+
+    /**
+     * @return The amount that the simulation reported.
+     */
+    long amount();
+
+    /**
+     * Performs the operation for at most the given amount. Only the first call to commit or {@link #release()} has
+     * any effect.
+     *
+     * @param amount How much to actually insert or extract. Is clamped to {@link #amount()}.
+     * @return The amount that was actually inserted or extracted.
+     */
+    long commit(long amount);
+
+    /**
+     * Performs the operation for the full reserved {@link #amount()}.
+     */
+    default long commit() {
+        return commit(amount());
+    }
+
+    /**
+     * Releases the reservation without performing the operation. Has no effect if the reservation was already
+     * committed.
+     */
+    void release();
+}
@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
@@ -111,6 +112,12 @@ public class AEBaseBlockEntity extends BlockEntity
      * subsequently be equal.
      */
     private byte readyInvoked = 0;
+    /**
+     * The update data last sent to clients by {@link #getChangedUpdateData()}, to avoid sending the same data again.
+     * Reset whenever the full update tag is written, since a client may then have received a different state.
+     */
+    @Nullable
+    private byte[] lastSentUpdateData;
 
     public AEBaseBlockEntity(BlockEntityType<?> blockEntityType, BlockPos pos, BlockState blockState) {
         super(blockEntityType, pos, blockState);
@@ -217,9 +224,40 @@ public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
         var data = new CompoundTag();
         var updateData = FriendlyByteBufUtil.writeCustomData(this::writeToStream, level.registryAccess());
         data.putString("#upd", Base64.getEncoder().encodeToString(updateData));
+        this.lastSentUpdateData = null;
         return data;
     }
 
+    /**
+     * Writes the data for a client update, unless it is the same that was last sent.
+     *
+     * @return The update data, or null if clients already have it.
+     */
+    @ApiStatus.Internal
+    @Nullable
+    public final byte[] getChangedUpdateData() {
+        var updateData = FriendlyByteBufUtil.writeCustomData(this::writeToStream, level.registryAccess());
+        if (Arrays.equals(updateData, this.lastSentUpdateData)) {
+            return null;
+        }
+        this.lastSentUpdateData = updateData;
+        return updateData;
+    }
+
+    /**
+     * Applies update data sent by {@link #getChangedUpdateData()} on the client.
+     */
+    @ApiStatus.Internal
+    public final void receiveUpdateData(byte[] updateData) {
+        var stream = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(updateData), level.registryAccess(),
+                ConnectionType.NEOFORGE);
+        if (readUpdateData(stream)) {
+            // Triggers a chunk re-render
+            requestModelDataUpdate();
+            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 0);
+        }
+    }
+
     private boolean readUpdateData(RegistryFriendlyByteBuf stream) {
         boolean output = false;
 
@@ -270,7 +308,12 @@ public void markForClientUpdate() {
         this.requestModelDataUpdate();
 
         if (this.level != null && !this.isRemoved() && !notLoaded()) {
-            this.level.sendBlockUpdated(this.worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+            if (this.level.isClientSide()) {
+                this.level.sendBlockUpdated(this.worldPosition, getBlockState(), getBlockState(),
+                        Block.UPDATE_CLIENTS);
+            } else {
+                TickHandler.instance().addClientUpdate(this);
+            }
         }
     }
 
@@ -278,10 +321,7 @@ public void markForUpdate() {
         // Clearing the cached model-data is always harmless regardless of status
         this.requestModelDataUpdate();
 
-        // TODO: Optimize Network Load
         if (this.level != null && !this.isRemoved() && !notLoaded()) {
-
-            boolean alreadyUpdated = false;
             // Let the block update its own state with our internal state changes
             BlockState currentState = getBlockState();
             if (currentState.getBlock() instanceof AEBaseEntityBlock<?> block) {
@@ -289,12 +329,15 @@ public void markForUpdate() {
                 if (currentState != newState) {
                     AELog.blockUpdate(this.worldPosition, currentState, newState, this);
                     this.level.setBlockAndUpdate(worldPosition, newState);
-                    alreadyUpdated = true;
+                    return;
                 }
             }
 
-            if (!alreadyUpdated) {
+            if (this.level.isClientSide()) {
                 this.level.sendBlockUpdated(this.worldPosition, currentState, currentState, Block.UPDATE_NEIGHBORS);
+            } else {
+                // Coalesced with the other updates in this chunk and only sent if the update data actually changed
+                TickHandler.instance().addClientUpdate(this);
             }
         }
     }
@@ -422,6 +465,19 @@ public void saveChanges() {
         }
     }
 
+    /**
+     * Like {@link #saveChanges()}, but for state that changes on almost every tick. On the server, the block entity is
+     * only marked as changed after a delay, so that its chunk is not rewritten constantly. Pending changes are still
+     * marked before the chunk is unloaded or the server stops.
+     */
+    public void saveChangesDeferred() {
+        if (this.level instanceof ServerLevel) {
+            TickHandler.instance().addDeferredSave(this);
+        } else {
+            saveChanges();
+        }
+    }
+
     private Object setChangedAtEndOfTick(Level level) {
         this.setChanged();
         this.setChangedQueued = false;
@@ -18,8 +18,11 @@
 
 package appeng.blockentity.crafting;
 
+import java.util.Arrays;
 import java.util.List;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -59,6 +62,7 @@
 import appeng.api.upgrades.UpgradeInventories;
 import appeng.api.util.AECableType;
 import appeng.blockentity.grid.AENetworkedInvBlockEntity;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.AppEng;
 import appeng.core.definitions.AEBlocks;
@@ -67,6 +71,7 @@
 import appeng.core.localization.Tooltips;
 import appeng.core.network.clientbound.MolecularAssemblerAnimationPacket;
 import appeng.crafting.CraftingEvent;
+import appeng.items.misc.WrappedGenericStack;
 import appeng.menu.AutoCraftingMenu;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.CombinedInternalInventory;
@@ -81,6 +86,12 @@ public class MolecularAssemblerBlockEntity extends AENetworkedInvBlockEntity
      */
     public static final Identifier INV_MAIN = AppEng.makeId("molecular_assembler");
 
+    /**
+     * The power a single craft costs with all acceleration cards installed. Additional crafts completed in bulk mode
+     * are charged this amount each.
+     */
+    private static final double BULK_CRAFT_POWER = 100 * 5.0;
+
     private final CraftingContainer craftingInv;
     private final AppEngInternalInventory gridInv = new AppEngInternalInventory(this, 9 + 1, 1);
     private final AppEngInternalInventory patternInv = new AppEngInternalInventory(this, 1, 1);
@@ -159,10 +170,135 @@ public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] table,
                 this.saveChanges();
                 return true;
             }
+
+            if (canQueueCraft(patternDetails, where) && queueCraft(table)) {
+                this.saveChanges();
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * In bulk mode, an assembler with all acceleration cards installed accepts further crafts of the pattern it is
+     * currently working on, and completes all of them at once.
+     */
+    private boolean canQueueCraft(IPatternDetails patternDetails, Direction where) {
+        var maxCrafts = AEConfig.instance().getMolecularAssemblerBulkCrafts();
+        if (maxCrafts <= 1 || !this.forcePlan || this.myPlan == null || !this.myPlan.equals(patternDetails)
+                || where != this.pushDirection || !this.patternInv.isEmpty() || this.canPush()
+                || getInstalledUpgrades(AEItems.SPEED_CARD) < getUpgradeSlots()) {
+            return false;
+        }
+
+        var queued = getQueuedCrafts();
+        if (queued <= 0 || queued >= maxCrafts) {
+            return false;
+        }
+
+        // The output of all crafts is pushed out as one stack
+        var output = this.myPlan.getPrimaryOutput();
+        if (!(output.what() instanceof AEItemKey outputKey)
+                || output.amount() * (queued + 1) > outputKey.getMaxStackSize()) {
+            return false;
+        }
+
+        // Crafts can only be completed together if they don't leave anything behind in the grid
+        fillCraftingInv();
+        for (var remainder : this.myPlan.getRemainingItems(this.craftingInv.asCraftInput())) {
+            if (!remainder.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds another craft's worth of ingredients to the grid, if they stack with the ones already in it.
+     */
+    private boolean queueCraft(KeyCounter[] table) {
+        // Fill a copy first, so that nothing is consumed if the ingredients turn out not to stack
+        var remaining = new KeyCounter[table.length];
+        for (int i = 0; i < table.length; i++) {
+            remaining[i] = new KeyCounter();
+            remaining[i].addAll(table[i]);
+        }
+        var stacks = new ItemStack[9];
+        Arrays.fill(stacks, ItemStack.EMPTY);
+        this.myPlan.fillCraftingGrid(remaining, (slot, stack) -> stacks[slot] = stack);
+        for (var list : remaining) {
+            list.removeZeros();
+            if (!list.isEmpty()) {
+                return false;
+            }
+        }
+
+        var queued = getQueuedCrafts();
+        for (int x = 0; x < 9; x++) {
+            var current = this.gridInv.getStackInSlot(x);
+            if (!canQueueIngredient(current, stacks[x], queued)) {
+                return false;
+            }
+        }
+
+        for (int x = 0; x < 9; x++) {
+            var current = this.gridInv.getStackInSlot(x);
+            if (!current.isEmpty()) {
+                this.gridInv.setItemDirect(x, current.copyWithCount(queued + 1));
+            }
+        }
+        for (var list : table) {
+            list.clear();
+        }
+        return true;
+    }
+
+    /**
+     * Checks if one more craft's worth of an ingredient can be stacked onto a grid slot that holds the ingredients of
+     * <code>queued</code> crafts. The grid is filled with {@link AppEngInternalInventory#setItemDirect}, which does not
+     * check stack sizes, so the ingredient's own stack limit is checked here.
+     */
+    @VisibleForTesting
+    static boolean canQueueIngredient(ItemStack current, ItemStack next, int queued) {
+        if (current.isEmpty() || next.isEmpty()) {
+            return current.isEmpty() && next.isEmpty();
+        }
+        // Wrapped fluids are substituted per craft and can't be stacked
+        return current.getCount() == queued
+                && queued + 1 <= current.getMaxStackSize()
+                && !(current.getItem() instanceof WrappedGenericStack)
+                && ItemStack.isSameItemSameComponents(current, next);
+    }
+
+    /**
+     * @return How many crafts worth of ingredients are in the grid. Only ever more than one in bulk mode.
+     */
+    private int getQueuedCrafts() {
+        int crafts = 0;
+        for (int x = 0; x < 9; x++) {
+            var stack = this.gridInv.getStackInSlot(x);
+            if (!stack.isEmpty()) {
+                crafts = crafts == 0 ? stack.getCount() : Math.min(crafts, stack.getCount());
+            }
+        }
+        return crafts;
+    }
+
+    private boolean extractBulkCraftPower(int additionalCrafts) {
+        var grid = getMainNode().getGrid();
+        if (grid == null) {
+            return false;
+        }
+
+        var energy = grid.getEnergyService();
+        var required = additionalCrafts * BULK_CRAFT_POWER;
+        if (energy.extractAEPower(required, Actionable.SIMULATE, PowerMultiplier.CONFIG) < required - 0.01) {
+            return false;
+        }
+        energy.extractAEPower(required, Actionable.MODULATE, PowerMultiplier.CONFIG);
+        return true;
+    }
+
     private void fillGrid(KeyCounter[] table, IMolecularAssemblerSupportedPattern adapter) {
         adapter.fillCraftingGrid(table, this.gridInv::setItemDirect);
 
@@ -198,11 +334,15 @@ private boolean hasMats() {
             return false;
         }
 
+        fillCraftingInv();
+
+        return !this.myPlan.assemble(this.craftingInv.asCraftInput(), this.getLevel()).isEmpty();
+    }
+
+    private void fillCraftingInv() {
         for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
             this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
         }
-
-        return !this.myPlan.assemble(this.craftingInv.asCraftInput(), this.getLevel()).isEmpty();
     }
 
     @Override
@@ -415,10 +555,14 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
         }
 
         if (this.progress >= 100) {
-            for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
-                this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
+            // In bulk mode, the additional crafts only complete together with the first one
+            var crafts = Math.max(1, getQueuedCrafts());
+            if (crafts > 1 && !extractBulkCraftPower(crafts - 1)) {
+                return TickRateModulation.SLOWER;
             }
 
+            fillCraftingInv();
+
             var positionedInput = craftingInv.asPositionedCraftInput();
             var craftinginput = positionedInput.input();
 
@@ -426,12 +570,15 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
             final ItemStack output = this.myPlan.assemble(craftinginput, this.getLevel());
             if (!output.isEmpty()) {
                 output.onCraftedBySystem(level);
-                CraftingEvent.fireAutoCraftingEvent(getLevel(), this.myPlan, output, this.craftingInv);
+                for (int i = 0; i < crafts; i++) {
+                    CraftingEvent.fireAutoCraftingEvent(getLevel(), this.myPlan, output, this.craftingInv);
+                }
 
-                // pushOut might reset the plan back to null, so get the remaining items before
+                // pushOut might reset the plan back to null, so get the remaining items before.
+                // Bulk crafts are only queued when there are no remainders, so this also clears their ingredients.
                 var craftingRemainders = this.myPlan.getRemainingItems(craftinginput);
 
-                this.pushOut(output.copy());
+                this.pushOut(output.copyWithCount(output.getCount() * crafts));
 
                 int craftingInputLeft = positionedInput.left();
                 int craftingInputTop = positionedInput.top();
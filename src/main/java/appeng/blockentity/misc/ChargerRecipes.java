@@ -3,21 +3,26 @@
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
 
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.handlers.ChargerRecipe;
 
 public class ChargerRecipes {
 
+    private static final RecipeIndex.Definition<Item, ChargerRecipe> BY_INGREDIENT = new RecipeIndex.Definition<>(
+            AERecipeTypes.CHARGER, recipe -> RecipeIndex.itemsOf(recipe.ingredient()));
+
     public static Iterable<RecipeHolder<ChargerRecipe>> getRecipes(ServerLevel level) {
         return level.recipeAccess().recipeMap().byType(AERecipeTypes.CHARGER);
     }
 
     @Nullable
     public static ChargerRecipe findRecipe(ServerLevel level, ItemStack input) {
-        for (var recipe : getRecipes(level)) {
+        for (var recipe : RecipeIndex.get(level, BY_INGREDIENT).getCandidates(input.getItem())) {
             if (recipe.value().ingredient().test(input)) {
                 return recipe.value();
             }
@@ -18,12 +18,14 @@
 
 package appeng.blockentity.misc;
 
+import java.util.ArrayList;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.ItemStackTemplate;
 import net.minecraft.world.item.crafting.Ingredient;
@@ -34,6 +36,7 @@
 import appeng.core.definitions.AEItems;
 import appeng.crafting.RecipeAccess;
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.handlers.InscriberProcessType;
 import appeng.recipes.handlers.InscriberRecipe;
 
@@ -43,6 +46,20 @@
  */
 public final class InscriberRecipes {
 
+    private static final RecipeIndex.Definition<Item, InscriberRecipe> BY_MIDDLE_INPUT = new RecipeIndex.Definition<>(
+            AERecipeTypes.INSCRIBER, recipe -> RecipeIndex.itemsOf(recipe.getMiddleInput()));
+
+    /**
+     * Indexes recipes by the presses they accept in either of the optional slots.
+     */
+    private static final RecipeIndex.Definition<Item, InscriberRecipe> BY_PRESS = new RecipeIndex.Definition<>(
+            AERecipeTypes.INSCRIBER, recipe -> {
+                var presses = new ArrayList<Ingredient>(2);
+                recipe.getTopOptional().ifPresent(presses::add);
+                recipe.getBottomOptional().ifPresent(presses::add);
+                return RecipeIndex.itemsOf(presses.toArray(Ingredient[]::new));
+            });
+
     private InscriberRecipes() {
     }
 
@@ -67,7 +84,7 @@ public static InscriberRecipe findRecipe(Level level, ItemStack input, ItemStack
             }
         }
 
-        for (var holder : getRecipes(level)) {
+        for (var holder : RecipeIndex.get(level, BY_MIDDLE_INPUT).getCandidates(input.getItem())) {
             var recipe = holder.value();
             // The recipe can be flipped at will
             final boolean matchA = testIngredient(recipe.getTopOptional(), plateA)
@@ -125,7 +142,17 @@ private static InscriberRecipe makeNamePressRecipe(ItemStack input, ItemStack pl
      * combination and the reverse will be searched.
      */
     public static boolean isValidOptionalIngredientCombination(Level level, ItemStack pressA, ItemStack pressB) {
-        for (var holder : getRecipes(level)) {
+        // Any matching recipe has to accept one of the non-empty presses
+        Iterable<RecipeHolder<InscriberRecipe>> candidates;
+        if (!pressA.isEmpty()) {
+            candidates = RecipeIndex.get(level, BY_PRESS).getCandidates(pressA.getItem());
+        } else if (!pressB.isEmpty()) {
+            candidates = RecipeIndex.get(level, BY_PRESS).getCandidates(pressB.getItem());
+        } else {
+            candidates = getRecipes(level);
+        }
+
+        for (var holder : candidates) {
             var recipe = holder.value();
             if (testIngredient(recipe.getTopOptional(), pressA) && testIngredient(recipe.getBottomOptional(), pressB)
                     || testIngredient(recipe.getTopOptional(), pressB)
@@ -142,7 +169,9 @@ && testIngredient(recipe.getBottomOptional(), pressA)) {
      * top can be used interchangeably here, because the inscriber will flip the recipe if needed.
      */
     public static boolean isValidOptionalIngredient(Level level, ItemStack is) {
-        for (var holder : getRecipes(level)) {
+        var candidates = is.isEmpty() ? getRecipes(level)
+                : RecipeIndex.get(level, BY_PRESS).getCandidates(is.getItem());
+        for (var holder : candidates) {
             var recipe = holder.value();
             if (testIngredient(recipe.getTopOptional(), is) || testIngredient(recipe.getBottomOptional(), is)) {
                 return true;
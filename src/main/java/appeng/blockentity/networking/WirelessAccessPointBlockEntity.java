@@ -41,6 +41,7 @@
 import appeng.blockentity.grid.AENetworkedInvBlockEntity;
 import appeng.core.AEConfig;
 import appeng.core.definitions.AEItems;
+import appeng.me.service.WirelessService;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.filter.AEItemDefinitionFilter;
 
@@ -132,6 +133,8 @@ private int getBoosters() {
     @Override
     public void saveChanges() {
         this.updatePower();
+        // The number of boosters may have changed, which changes our range
+        this.getMainNode().ifPresent(grid -> WirelessService.get(grid).onAccessPointChanged(this));
         super.saveChanges();
     }
 
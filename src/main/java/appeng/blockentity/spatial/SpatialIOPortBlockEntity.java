@@ -39,6 +39,7 @@
 import appeng.api.util.AECableType;
 import appeng.blockentity.grid.AENetworkedInvBlockEntity;
 import appeng.hooks.ticking.TickHandler;
+import appeng.spatial.SpatialStorageHelper;
 import appeng.util.ILevelRunnable;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.FilteredInternalInventory;
@@ -161,6 +162,13 @@ private void transition() {
                 return;
             }
 
+            // Wait until a previous transfer touching the same chunks has been finished
+            if (SpatialStorageHelper.getInstance().isTransitionInProgress(serverLevel, spc.getMin(), spc.getMax(),
+                    sc.getAllocatedPlotId(cell))) {
+                TickHandler.instance().addCallable(null, transitionCallback);
+                return;
+            }
+
             var energy = grid.getEnergyService();
             final double req = spc.requiredPower();
             final double pr = energy.extractAEPower(req, Actionable.SIMULATE, PowerMultiplier.CONFIG);
@@ -336,40 +336,52 @@ private long transferContents(IGrid grid, StorageCell cellInv, long itemsToMove)
             destination = cellInv;
         }
 
-        var energy = grid.getEnergyService();
-        boolean didStuff;
+        // Gather everything this operation may move from the source first, then insert it as one batch so that
+        // the destination only has to be routed and persisted once.
+        var budget = itemsToMove;
+        var extracted = new KeyCounter();
+        for (var srcEntry : srcList) {
+            if (budget <= 0) {
+                break;
+            }
 
-        do {
-            didStuff = false;
+            var totalStackSize = srcEntry.getLongValue();
+            if (totalStackSize > 0) {
+                var what = srcEntry.getKey();
+                var possible = destination.insert(what, totalStackSize, Actionable.SIMULATE, this.mySrc);
 
-            for (var srcEntry : srcList) {
-                var totalStackSize = srcEntry.getLongValue();
-                if (totalStackSize > 0) {
-                    var what = srcEntry.getKey();
-                    var possible = destination.insert(what, totalStackSize, Actionable.SIMULATE, this.mySrc);
+                if (possible > 0) {
+                    possible = Math.min(possible, budget * what.getAmountPerOperation());
 
+                    possible = src.extract(what, possible, Actionable.MODULATE, this.mySrc);
                     if (possible > 0) {
-                        possible = Math.min(possible, itemsToMove * what.getAmountPerOperation());
+                        extracted.add(what, possible);
+                        budget -= Math.max(1, possible / what.getAmountPerOperation());
+                    }
+                }
+            }
+        }
 
-                        possible = src.extract(what, possible, Actionable.MODULATE, this.mySrc);
-                        if (possible > 0) {
-                            var inserted = StorageHelper.poweredInsert(energy, destination, what, possible, this.mySrc);
+        if (extracted.isEmpty()) {
+            return itemsToMove;
+        }
 
-                            if (inserted < possible) {
-                                src.insert(what, possible - inserted, Actionable.MODULATE, this.mySrc);
-                            }
+        var inserted = new KeyCounter();
+        StorageHelper.poweredInsert(grid.getEnergyService(), destination, extracted, this.mySrc, inserted);
 
-                            if (inserted > 0) {
-                                itemsToMove -= Math.max(1, inserted / what.getAmountPerOperation());
-                                didStuff = true;
-                            }
+        // Return whatever the destination did not accept, and only charge the budget for what was moved
+        for (var entry : extracted) {
+            var what = entry.getKey();
+            var moved = inserted.get(what);
 
-                            break;
-                        }
-                    }
-                }
+            if (moved < entry.getLongValue()) {
+                src.insert(what, entry.getLongValue() - moved, Actionable.MODULATE, this.mySrc);
             }
-        } while (itemsToMove > 0 && didStuff);
+
+            if (moved > 0) {
+                itemsToMove -= Math.max(1, moved / what.getAmountPerOperation());
+            }
+        }
 
         return itemsToMove;
     }
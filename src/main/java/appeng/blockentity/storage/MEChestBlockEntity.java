@@ -61,6 +61,7 @@
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.GenericStack;
+import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.ILinkStatus;
 import appeng.api.storage.IStorageMounts;
 import appeng.api.storage.IStorageProvider;
@@ -68,6 +69,7 @@
 import appeng.api.storage.MEStorage;
 import appeng.api.storage.StorageCells;
 import appeng.api.storage.StorageHelper;
+import appeng.api.storage.StorageReservation;
 import appeng.api.storage.SupplierStorage;
 import appeng.api.storage.cells.CellState;
 import appeng.api.storage.cells.StorageCell;
@@ -604,6 +606,66 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
             }
             return extracted;
         }
+
+        @Override
+        public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+            var accepted = new KeyCounter();
+            super.insertAll(what, mode, source, accepted);
+            if (!accepted.isEmpty() && mode == Actionable.MODULATE) {
+                blinkCell(0);
+            }
+            inserted.addAll(accepted);
+        }
+
+        @Override
+        public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+            var taken = new KeyCounter();
+            super.extractAll(what, mode, source, taken);
+            if (!taken.isEmpty() && mode == Actionable.MODULATE) {
+                blinkCell(0);
+            }
+            extracted.addAll(taken);
+        }
+
+        @Override
+        public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+            return new BlinkingReservation(super.reserveInsert(what, amount, source));
+        }
+
+        @Override
+        public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+            return new BlinkingReservation(super.reserveExtract(what, amount, source));
+        }
+    }
+
+    /**
+     * Blinks the cell once a reservation against it actually moved something.
+     */
+    private class BlinkingReservation implements StorageReservation {
+        private final StorageReservation reservation;
+
+        BlinkingReservation(StorageReservation reservation) {
+            this.reservation = reservation;
+        }
+
+        @Override
+        public long amount() {
+            return reservation.amount();
+        }
+
+        @Override
+        public long commit(long amount) {
+            var moved = reservation.commit(amount);
+            if (moved > 0) {
+                blinkCell(0);
+            }
+            return moved;
+        }
+
+        @Override
+        public void release() {
+            reservation.release();
+        }
     }
 
     @Nullable
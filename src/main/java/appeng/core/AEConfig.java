@@ -238,6 +238,10 @@ public int getCraftingCalculationTimePerTick() {
         return common.craftingCalculationTimePerTick.get();
     }
 
+    public int getExternalCellContentsMinTypes() {
+        return common.externalCellContentsMinTypes.get();
+    }
+
     public boolean isSpatialAnchorEnablesRandomTicks() {
         return common.spatialAnchorEnableRandomTicks.get();
     }
@@ -309,6 +313,10 @@ public int getGrowthAcceleratorSpeed() {
         return common.growthAcceleratorSpeed.get();
     }
 
+    public int getMolecularAssemblerBulkCrafts() {
+        return common.molecularAssemblerBulkCrafts.get();
+    }
+
     public boolean isAnnihilationPlaneSkyDustGenerationEnabled() {
         return common.annihilationPlaneSkyDustGeneration.get();
     }
@@ -522,6 +530,7 @@ private static class CommonConfig {
 
         // Misc
         public final IntValue formationPlaneEntityLimit;
+        public final IntValue externalCellContentsMinTypes;
         public final IntValue craftingCalculationTimePerTick;
         public final BooleanValue debugTools;
         public final BooleanValue matterCannonBlockDamage;
@@ -530,6 +539,7 @@ private static class CommonConfig {
         public final BooleanValue spatialAnchorEnableRandomTicks;
 
         public final IntValue growthAcceleratorSpeed;
+        public final IntValue molecularAssemblerBulkCrafts;
         public final BooleanValue annihilationPlaneSkyDustGeneration;
 
         // Spatial IO/Dimension
@@ -604,6 +614,11 @@ public CommonConfig() {
             formationPlaneEntityLimit = define(builder, "formationPlaneEntityLimit", 128);
             builder.pop();
 
+            builder.push("storageCells");
+            externalCellContentsMinTypes = define(builder, "externalCellContentsMinTypes", 0, 0, Integer.MAX_VALUE,
+                    "Storage cells holding at least this many types keep their content in a separate file of the world instead of the cell item, so it isn't saved with the chunk or player anymore. 0 disables this.");
+            builder.pop();
+
             builder.push("craftingCPU");
             this.craftingCalculationTimePerTick = define(builder, "craftingCalculationTimePerTick", 5);
             builder.pop();
@@ -613,6 +628,8 @@ public CommonConfig() {
                     "Number of ticks between two crystal growth accelerator ticks");
             annihilationPlaneSkyDustGeneration = define(builder, "annihilationPlaneSkyDustGeneration", true,
                     "If enabled, an annihilation placed face up at the maximum world height will generate sky stone passively.");
+            molecularAssemblerBulkCrafts = define(builder, "molecularAssemblerBulkCrafts", 1, 1, 64,
+                    "How many identical crafts a molecular assembler with all acceleration cards installed can accept and complete at once. 1 disables bulk crafting.");
             builder.pop();
 
             builder.push("spatialio");
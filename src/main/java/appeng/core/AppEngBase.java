@@ -32,7 +32,10 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
 import net.minecraft.sounds.SoundEvent;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.CreativeModeTab;
@@ -44,6 +47,7 @@
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.AddServerReloadListenersEvent;
 import net.neoforged.neoforge.event.OnDatapackSyncEvent;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.RegisterGameTestsEvent;
@@ -69,6 +73,7 @@
 import appeng.core.network.ClientboundPacket;
 import appeng.core.network.InitNetwork;
 import appeng.core.particles.InitParticleTypes;
+import appeng.crafting.pattern.PatternDetailsCache;
 import appeng.hooks.SkyStoneBreakSpeed;
 import appeng.hooks.WrenchHook;
 import appeng.hooks.ticking.TickHandler;
@@ -88,8 +93,10 @@
 import appeng.init.internal.InitUpgrades;
 import appeng.init.worldgen.InitStructures;
 import appeng.integration.Integrations;
+import appeng.me.cells.CellContentsStore;
 import appeng.recipes.AERecipeSerializers;
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.transform.TransformLogic;
 import appeng.server.AECommand;
 import appeng.server.services.ChunkLoadingService;
 import appeng.server.testworld.GameTestPlotAdapter;
@@ -186,14 +193,36 @@ public AppEngBase(IEventBus modEventBus, ModContainer container) {
         NeoForge.EVENT_BUS.addListener(this::serverStopped);
         NeoForge.EVENT_BUS.addListener(this::serverStopping);
         NeoForge.EVENT_BUS.addListener(this::registerCommands);
+        NeoForge.EVENT_BUS.addListener(CellContentsStore::onLevelSave);
+        NeoForge.EVENT_BUS.addListener(CellContentsStore::onServerTick);
+        NeoForge.EVENT_BUS.addListener(CellContentsStore::onEntityLeaveLevel);
+        NeoForge.EVENT_BUS.addListener(TransformLogic::onEntityJoinLevel);
+        NeoForge.EVENT_BUS.addListener(TransformLogic::onLevelTickEnd);
 
         NeoForge.EVENT_BUS.addListener(WrenchHook::onPlayerUseBlockEvent);
         NeoForge.EVENT_BUS.addListener(SkyStoneBreakSpeed::handleBreakFaster);
         NeoForge.EVENT_BUS.addListener(this::registerSynchronizedRecipes);
+        NeoForge.EVENT_BUS.addListener(this::addReloadListeners);
 
         HotkeyActions.init();
     }
 
+    private void addReloadListeners(AddServerReloadListenersEvent event) {
+        // Decoded patterns capture the recipe they were decoded against
+        event.addListener(AppEng.makeId("pattern_details_cache_invalidation"),
+                new SimplePreparableReloadListener<Void>() {
+                    @Override
+                    protected Void prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+                        return null;
+                    }
+
+                    @Override
+                    protected void apply(Void object, ResourceManager resourceManager, ProfilerFiller profiler) {
+                        PatternDetailsCache.clear();
+                    }
+                });
+    }
+
     private void registerSynchronizedRecipes(OnDatapackSyncEvent event) {
         event.sendRecipes(
                 RecipeType.CRAFTING,
@@ -255,14 +284,18 @@ public void registerRegistries(NewRegistryEvent e) {
 
     private void onServerAboutToStart(final ServerAboutToStartEvent evt) {
         ChunkLoadingService.getInstance().onServerAboutToStart(evt);
+        CellContentsStore.open(evt.getServer());
     }
 
     private void serverStopping(final ServerStoppingEvent event) {
         ChunkLoadingService.getInstance().onServerStopping(event);
+        // The final save of the chunks happens after this event
+        TickHandler.instance().saveDeferredChanges();
     }
 
     private void serverStopped(final ServerStoppedEvent event) {
         TickHandler.instance().shutdown();
+        CellContentsStore.close();
     }
 
     public void registerCreativeTabs(Registry<CreativeModeTab> registry) {
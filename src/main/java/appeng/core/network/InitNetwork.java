@@ -8,9 +8,11 @@
 
 import appeng.core.AppEng;
 import appeng.core.network.bidirectional.ConfigValuePacket;
+import appeng.core.network.clientbound.BlockEntityUpdatesPacket;
 import appeng.core.network.clientbound.BlockTransitionEffectPacket;
 import appeng.core.network.clientbound.ClearPatternAccessTerminalPacket;
 import appeng.core.network.clientbound.CompassResponsePacket;
+import appeng.core.network.clientbound.CraftConfirmPlanEntriesPacket;
 import appeng.core.network.clientbound.CraftConfirmPlanPacket;
 import appeng.core.network.clientbound.CraftingJobStatusPacket;
 import appeng.core.network.clientbound.CraftingStatusPacket;
@@ -51,6 +53,7 @@ public static void init(RegisterPayloadHandlersEvent event) {
         registrar.playToClient(ClearPatternAccessTerminalPacket.TYPE, ClearPatternAccessTerminalPacket.STREAM_CODEC);
         registrar.playToClient(CompassResponsePacket.TYPE, CompassResponsePacket.STREAM_CODEC);
         registrar.playToClient(CraftConfirmPlanPacket.TYPE, CraftConfirmPlanPacket.STREAM_CODEC);
+        registrar.playToClient(CraftConfirmPlanEntriesPacket.TYPE, CraftConfirmPlanEntriesPacket.STREAM_CODEC);
         registrar.playToClient(CraftingJobStatusPacket.TYPE, CraftingJobStatusPacket.STREAM_CODEC);
         registrar.playToClient(CraftingStatusPacket.TYPE, CraftingStatusPacket.STREAM_CODEC);
         registrar.playToClient(GuiDataSyncPacket.TYPE, GuiDataSyncPacket.STREAM_CODEC);
@@ -62,6 +65,7 @@ public static void init(RegisterPayloadHandlersEvent event) {
         registrar.playToClient(PatternAccessTerminalPacket.TYPE, PatternAccessTerminalPacket.STREAM_CODEC);
         registrar.playToClient(SetLinkStatusPacket.TYPE, SetLinkStatusPacket.STREAM_CODEC);
         registrar.playToClient(ExportedGridContent.TYPE, ExportedGridContent.STREAM_CODEC);
+        registrar.playToClient(BlockEntityUpdatesPacket.TYPE, BlockEntityUpdatesPacket.STREAM_CODEC);
 
         // Serverbound
         serverbound(registrar, ColorApplicatorSelectColorPacket.TYPE, ColorApplicatorSelectColorPacket.STREAM_CODEC);
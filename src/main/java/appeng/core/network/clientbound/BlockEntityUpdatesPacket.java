@@ -0,0 +1,57 @@
+package appeng.core.network.clientbound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+
+import appeng.blockentity.AEBaseBlockEntity;
+import appeng.core.network.ClientboundPacket;
+import appeng.core.network.CustomAppEngPayload;
+
+/**
+ * Carries the client update data of all AE block entities in one chunk that changed during a tick.
+ *
+ * @see AEBaseBlockEntity#markForUpdate()
+ */
+public record BlockEntityUpdatesPacket(List<Update> updates) implements ClientboundPacket {
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, BlockEntityUpdatesPacket> STREAM_CODEC = StreamCodec
+            .ofMember(
+                    BlockEntityUpdatesPacket::write,
+                    BlockEntityUpdatesPacket::decode);
+
+    public static final Type<BlockEntityUpdatesPacket> TYPE = CustomAppEngPayload.createType("block_entity_updates");
+
+    @Override
+    public Type<BlockEntityUpdatesPacket> type() {
+        return TYPE;
+    }
+
+    public static BlockEntityUpdatesPacket decode(RegistryFriendlyByteBuf data) {
+        int count = data.readVarInt();
+        var updates = new ArrayList<Update>(count);
+        for (int i = 0; i < count; i++) {
+            var pos = data.readBlockPos();
+            var updateData = data.readByteArray();
+            updates.add(new Update(pos, updateData));
+        }
+        return new BlockEntityUpdatesPacket(updates);
+    }
+
+    public void write(RegistryFriendlyByteBuf data) {
+        data.writeVarInt(updates.size());
+        for (var update : updates) {
+            data.writeBlockPos(update.pos());
+            data.writeByteArray(update.data());
+        }
+    }
+
+    /**
+     * @param data The data written by the block entity's {@code writeToStream}.
+     */
+    public record Update(BlockPos pos, byte[] data) {
+    }
+}
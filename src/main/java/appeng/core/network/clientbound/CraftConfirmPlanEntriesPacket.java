@@ -0,0 +1,51 @@
+package appeng.core.network.clientbound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+
+import appeng.core.network.ClientboundPacket;
+import appeng.core.network.CustomAppEngPayload;
+import appeng.menu.me.crafting.CraftConfirmMenu;
+import appeng.menu.me.crafting.CraftingPlanSummaryEntry;
+
+/**
+ * Transfers a page of the entries of the crafting plan shown by a {@link CraftConfirmMenu}.
+ *
+ * @param offset The index of the first entry in the sorted plan.
+ */
+public record CraftConfirmPlanEntriesPacket(int offset,
+        List<CraftingPlanSummaryEntry> entries) implements ClientboundPacket {
+    public static final StreamCodec<RegistryFriendlyByteBuf, CraftConfirmPlanEntriesPacket> STREAM_CODEC = StreamCodec
+            .ofMember(
+                    CraftConfirmPlanEntriesPacket::write,
+                    CraftConfirmPlanEntriesPacket::decode);
+
+    public static final Type<CraftConfirmPlanEntriesPacket> TYPE = CustomAppEngPayload
+            .createType("craft_confirm_plan_entries");
+
+    @Override
+    public Type<CraftConfirmPlanEntriesPacket> type() {
+        return TYPE;
+    }
+
+    public static CraftConfirmPlanEntriesPacket decode(RegistryFriendlyByteBuf data) {
+        int offset = data.readVarInt();
+        int count = data.readVarInt();
+        var entries = new ArrayList<CraftingPlanSummaryEntry>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(CraftingPlanSummaryEntry.read(data));
+        }
+        return new CraftConfirmPlanEntriesPacket(offset, entries);
+    }
+
+    public void write(RegistryFriendlyByteBuf data) {
+        data.writeVarInt(offset);
+        data.writeVarInt(entries.size());
+        for (var entry : entries) {
+            entry.write(data);
+        }
+    }
+}
@@ -1,4 +1,3 @@
-
 package appeng.core.network.clientbound;
 
 import net.minecraft.network.RegistryFriendlyByteBuf;
@@ -10,9 +9,10 @@
 import appeng.menu.me.crafting.CraftingPlanSummary;
 
 /**
- * Transfers a {@link CraftingPlanSummary} to the client for a {@link CraftConfirmMenu}
+ * Transfers the totals of a {@link CraftingPlanSummary} to the client for a {@link CraftConfirmMenu}. The entries
+ * follow in {@link CraftConfirmPlanEntriesPacket}s.
  */
-public record CraftConfirmPlanPacket(CraftingPlanSummary plan) implements ClientboundPacket {
+public record CraftConfirmPlanPacket(long usedBytes, boolean simulation, int entryCount) implements ClientboundPacket {
     public static final StreamCodec<RegistryFriendlyByteBuf, CraftConfirmPlanPacket> STREAM_CODEC = StreamCodec
             .ofMember(
                     CraftConfirmPlanPacket::write,
@@ -26,10 +26,12 @@ public Type<CraftConfirmPlanPacket> type() {
     }
 
     public static CraftConfirmPlanPacket decode(RegistryFriendlyByteBuf data) {
-        return new CraftConfirmPlanPacket(CraftingPlanSummary.read(data));
+        return new CraftConfirmPlanPacket(data.readVarLong(), data.readBoolean(), data.readVarInt());
     }
 
     public void write(RegistryFriendlyByteBuf data) {
-        plan.write(data);
+        data.writeVarLong(usedBytes);
+        data.writeBoolean(simulation);
+        data.writeVarInt(entryCount);
     }
 }
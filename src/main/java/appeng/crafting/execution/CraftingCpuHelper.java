@@ -36,6 +36,7 @@
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.GenericStack;
 import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.StorageReservation;
 import appeng.crafting.inv.ICraftingInventory;
 import appeng.crafting.inv.ListCraftingInventory;
 
@@ -52,21 +53,41 @@ public static GenericStack tryExtractInitialItems(ICraftingPlan plan, IGrid grid
             ListCraftingInventory cpuInventory, IActionSource src) {
         var storage = grid.getStorageService().getInventory();
 
-        for (var entry : plan.usedItems()) {
-            var what = entry.getKey();
-            var toExtract = entry.getLongValue();
-            var extracted = storage.extract(what, toExtract, Actionable.MODULATE, src);
-            cpuInventory.insert(what, extracted, Actionable.MODULATE);
-
-            if (extracted < toExtract) {
-                // Failed to extract everything, reinject and hope for the best.
-                // TODO: maybe voiding items that fail to re-insert is not the best thing to do?
-                for (var stored : cpuInventory.list) {
-                    storage.insert(stored.getKey(), stored.getLongValue(), Actionable.MODULATE, src);
+        // Reserve everything first, so nothing has to be extracted and reinjected if something is missing.
+        var reservations = new ArrayList<StorageReservation>(plan.usedItems().size());
+        try {
+            for (var entry : plan.usedItems()) {
+                var what = entry.getKey();
+                var toExtract = entry.getLongValue();
+                var reservation = storage.reserveExtract(what, toExtract, src);
+                reservations.add(reservation);
+
+                if (reservation.amount() < toExtract) {
+                    return new GenericStack(what, toExtract - reservation.amount());
                 }
-                cpuInventory.clear();
+            }
 
-                return new GenericStack(what, toExtract - extracted);
+            var i = 0;
+            for (var entry : plan.usedItems()) {
+                var what = entry.getKey();
+                var toExtract = entry.getLongValue();
+                var extracted = reservations.get(i++).commit(toExtract);
+                cpuInventory.insert(what, extracted, Actionable.MODULATE);
+
+                if (extracted < toExtract) {
+                    // The storage changed since it was reserved, reinject and hope for the best.
+                    // TODO: maybe voiding items that fail to re-insert is not the best thing to do?
+                    for (var stored : cpuInventory.list) {
+                        storage.insert(stored.getKey(), stored.getLongValue(), Actionable.MODULATE, src);
+                    }
+                    cpuInventory.clear();
+
+                    return new GenericStack(what, toExtract - extracted);
+                }
+            }
+        } finally {
+            for (var reservation : reservations) {
+                reservation.release();
             }
         }
 
@@ -31,6 +31,8 @@
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+
 import appeng.api.config.Actionable;
 import appeng.api.config.PowerMultiplier;
 import appeng.api.features.IPlayerRegistry;
@@ -78,6 +80,17 @@ public class CraftingCpuLogic {
 
     private long lastModifiedOnTick = TickHandler.instance().getCurrentTick();
 
+    /**
+     * Journal of the keys whose amounts changed, ordered by their last change and mapped to the version of that change.
+     * Menus showing this CPU use it to resend only the entries that changed since their last update.
+     */
+    private final Object2LongLinkedOpenHashMap<AEKey> changeJournal = new Object2LongLinkedOpenHashMap<>();
+    private long changeVersion = 0;
+    /**
+     * Changes up to this version are no longer contained in the {@link #changeJournal}.
+     */
+    private long changeJournalStart = 0;
+
     public CraftingCpuLogic(CraftingCPUCluster cluster) {
         this.cluster = cluster;
     }
@@ -97,6 +110,10 @@ public ICraftingSubmitResult trySubmitJob(IGrid grid, ICraftingPlan plan, IActio
         if (!inventory.list.isEmpty())
             AELog.warn("Crafting CPU inventory is not empty yet a job was submitted.");
 
+        // Forget the changes of previous jobs, menus that did not see them yet will do a full update instead
+        this.changeJournal.clear();
+        this.changeJournalStart = this.changeVersion;
+
         // Try to extract required items.
         var missingIngredient = CraftingCpuHelper.tryExtractInitialItems(plan, grid, inventory, src);
         if (missingIngredient != null)
@@ -230,9 +247,10 @@ public int executeCrafting(int maxPatterns, CraftingService craftingService, IEn
                                 expectedContainerItem.getKey().getType());
                     }
 
-                    cluster.markDirty();
+                    cluster.markProgressDirty();
 
                     task.getValue().value--;
+                    job.removePendingOutputs(details);
                     if (task.getValue().value <= 0) {
                         it.remove();
                         continue taskLoop;
@@ -284,7 +302,7 @@ public long insert(AEKey what, long amount, Actionable type) {
         if (type == Actionable.MODULATE) {
             job.timeTracker.decrementItems(amount, what.getType()); // Process Fluid and Items
             job.waitingFor.extract(what, amount, Actionable.MODULATE);
-            cluster.markDirty();
+            cluster.markProgressDirty();
         }
 
         long inserted = amount;
@@ -351,6 +369,7 @@ private void finishJob(boolean success) {
 
         // Finish job.
         this.job = null;
+        cluster.markDirty();
 
         // Store all remaining items.
         this.storeItems();
@@ -385,21 +404,23 @@ public void storeItems() {
 
         var storage = g.getStorageService().getInventory();
 
-        for (var entry : this.inventory.list) {
-            this.postChange(entry.getKey());
-            var inserted = storage.insert(entry.getKey(), entry.getLongValue(),
-                    Actionable.MODULATE, cluster.getSrc());
+        var inserted = new KeyCounter();
+        storage.insertAll(this.inventory.list, Actionable.MODULATE, cluster.getSrc(), inserted);
 
-            // The network was unable to receive all of the items, i.e. no or not enough storage space left
-            entry.setValue(entry.getLongValue() - inserted);
-        }
+        // The network may have been unable to receive all of the items, i.e. no or not enough storage space left
+        this.inventory.list.removeAll(inserted);
         this.inventory.list.removeZeros();
 
+        for (var entry : inserted) {
+            this.postChange(entry.getKey());
+        }
+
         cluster.markDirty();
     }
 
     private void postChange(AEKey what) {
         lastModifiedOnTick = TickHandler.instance().getCurrentTick();
+        changeJournal.putAndMoveToLast(what, ++changeVersion);
         for (var listener : listeners) {
             listener.accept(what);
         }
@@ -409,6 +430,40 @@ public long getLastModifiedOnTick() {
         return lastModifiedOnTick;
     }
 
+    /**
+     * @return The version of the last change of an amount in this CPU.
+     * @see #getChangesSince(long, Consumer)
+     */
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    /**
+     * Passes the keys whose amounts changed after the given {@link #getChangeVersion() version} to the consumer.
+     *
+     * @return False if the changes since the given version are no longer known, and the caller has to use
+     *         {@link #getAllItems} instead.
+     */
+    public boolean getChangesSince(long version, Consumer<AEKey> consumer) {
+        if (version < changeJournalStart) {
+            return false;
+        }
+        if (version >= changeVersion) {
+            return true;
+        }
+
+        // Walk backwards from the most recent change until we reach changes that were already seen
+        var it = changeJournal.keySet().iterator(changeJournal.lastKey());
+        while (it.hasPrevious()) {
+            var what = it.previous();
+            if (changeJournal.getLong(what) <= version) {
+                break;
+            }
+            consumer.accept(what);
+        }
+        return true;
+    }
+
     public boolean hasJob() {
         return this.job != null;
     }
@@ -427,10 +482,17 @@ public ElapsedTimeTracker getElapsedTimeTracker() {
     }
 
     public void readFromNBT(ValueInput input) {
-        this.inventory.deserialize(input.childrenListOrEmpty("inventory"));
+        var keys = KeyDictionary.read(input);
+        if (keys != null) {
+            this.inventory.list.clear();
+            keys.readAmounts(input, "inventoryAmounts",
+                    (what, amount) -> this.inventory.insert(what, amount, Actionable.MODULATE));
+        } else {
+            this.inventory.deserialize(input.childrenListOrEmpty("inventory"));
+        }
         var jobData = input.child("job").orElse(null);
         if (jobData != null) {
-            this.job = new ExecutingCraftingJob(jobData, this::postChange, this);
+            this.job = new ExecutingCraftingJob(jobData, keys, this::postChange, this);
             if (this.job.finalOutput == null) {
                 finishJob(false);
             } else {
@@ -442,10 +504,16 @@ public void readFromNBT(ValueInput input) {
     }
 
     public void writeToNBT(ValueOutput output) {
-        this.inventory.serialize(output.childrenList("inventory"));
+        var keys = new KeyDictionary();
+        var inventoryAmounts = keys.writer();
+        for (var entry : this.inventory.list) {
+            inventoryAmounts.add(entry.getKey(), entry.getLongValue());
+        }
+        inventoryAmounts.write(output, "inventoryAmounts");
         if (this.job != null) {
-            this.job.writeToNBT(output.child("job"));
+            this.job.writeToNBT(output.child("job"), keys);
         }
+        keys.write(output);
     }
 
     public ICraftingLink getLastLink() {
@@ -491,17 +559,10 @@ public void getAllWaitingFor(Set<AEKey> waitingFor) {
     }
 
     public long getPendingOutputs(AEKey template) {
-        long count = 0;
         if (this.job != null) {
-            for (var t : job.tasks.entrySet()) {
-                for (var output : t.getKey().getOutputs()) {
-                    if (template.matches(output)) {
-                        count += output.amount() * t.getValue().value;
-                    }
-                }
-            }
+            return this.job.pendingOutputs.get(template);
         }
-        return count;
+        return 0;
     }
 
     /**
@@ -511,11 +572,7 @@ public void getAllItems(KeyCounter out) {
         out.addAll(this.inventory.list);
         if (this.job != null) {
             out.addAll(job.waitingFor.list);
-            for (var t : job.tasks.entrySet()) {
-                for (var output : t.getKey().getOutputs()) {
-                    out.add(output.what(), output.amount() * t.getValue().value);
-                }
-            }
+            out.addAll(job.pendingOutputs);
         }
     }
 
@@ -34,6 +34,7 @@
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.GenericStack;
+import appeng.api.stacks.KeyCounter;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.inv.ListCraftingInventory;
 import appeng.me.service.CraftingService;
@@ -48,10 +49,16 @@ public class ExecutingCraftingJob {
     private static final String NBT_TASKS = "tasks";
     private static final String NBT_SUSPENDED = "suspended";
     private static final String NBT_CRAFTING_PROGRESS = "#craftingProgress";
+    private static final String NBT_WAITING_FOR_AMOUNTS = "waitingForAmounts";
+    private static final String NBT_TASK_PROGRESS = "taskProgress";
 
     final CraftingLink link;
     final ListCraftingInventory waitingFor;
     final Map<IPatternDetails, TaskProgress> tasks = new HashMap<>();
+    /**
+     * The total outputs of the patterns in {@link #tasks} that were not pushed yet.
+     */
+    final KeyCounter pendingOutputs = new KeyCounter();
     final ElapsedTimeTracker timeTracker;
     GenericStack finalOutput;
     long remainingAmount;
@@ -77,7 +84,7 @@ interface CraftingDifferenceListener {
             timeTracker.addMaxItems(entry.getLongValue(), entry.getKey().getType());
         }
         for (var entry : plan.patternTimes().entrySet()) {
-            tasks.computeIfAbsent(entry.getKey(), p -> new TaskProgress()).value += entry.getValue();
+            addTask(entry.getKey(), entry.getValue());
             for (var output : entry.getKey().getOutputs()) {
                 var amount = output.amount() * entry.getValue() * output.what().getAmountPerUnit();
                 timeTracker.addMaxItems(amount, output.what().getType());
@@ -88,7 +95,10 @@ interface CraftingDifferenceListener {
         this.suspended = false;
     }
 
-    ExecutingCraftingJob(ValueInput data,
+    /**
+     * @param keys The dictionary the amounts of the job were written with, or null for jobs saved in the old format.
+     */
+    ExecutingCraftingJob(ValueInput data, @Nullable KeyDictionary keys,
             CraftingDifferenceListener postCraftingDifference, CraftingCpuLogic cpu) {
         this.link = new CraftingLink(data.childOrEmpty(NBT_LINK), cpu.cluster);
         IGrid grid = cpu.cluster.getGrid();
@@ -99,39 +109,68 @@ interface CraftingDifferenceListener {
         this.finalOutput = data.read(NBT_FINAL_OUTPUT, GenericStack.CODEC).orElse(null);
         this.remainingAmount = data.getLongOr(NBT_REMAINING_AMOUNT, 0);
         this.waitingFor = new ListCraftingInventory(postCraftingDifference::onCraftingDifference);
-        this.waitingFor.deserialize(data.childrenListOrEmpty(NBT_WAITING_FOR));
         this.timeTracker = new ElapsedTimeTracker(data.childOrEmpty(NBT_TIME_TRACKER));
         this.playerId = data.getInt(NBT_PLAYER_ID).orElse(null);
 
-        var tasksList = data.childrenListOrEmpty(NBT_TASKS);
-        var index = 0;
-        for (var item : tasksList) {
-            var pattern = AEItemKey.fromTag(item);
-            var details = PatternDetailsHelper.decodePattern(pattern, cpu.cluster.getLevel());
-            if (details != null) {
-                final TaskProgress tp = new TaskProgress();
-                tp.value = item.getLongOr(NBT_CRAFTING_PROGRESS, 0);
-                this.tasks.put(details, tp);
+        if (keys != null) {
+            keys.readAmounts(data, NBT_WAITING_FOR_AMOUNTS,
+                    (what, amount) -> waitingFor.insert(what, amount, Actionable.MODULATE));
+            keys.readAmounts(data, NBT_TASK_PROGRESS, (pattern, progress) -> {
+                if (pattern instanceof AEItemKey itemKey) {
+                    addTask(PatternDetailsHelper.decodePattern(itemKey, cpu.cluster.getLevel()), progress);
+                }
+            });
+        } else {
+            // Jobs saved before the key dictionary was introduced
+            this.waitingFor.deserialize(data.childrenListOrEmpty(NBT_WAITING_FOR));
+            for (var item : data.childrenListOrEmpty(NBT_TASKS)) {
+                var pattern = AEItemKey.fromTag(item);
+                addTask(PatternDetailsHelper.decodePattern(pattern, cpu.cluster.getLevel()),
+                        item.getLongOr(NBT_CRAFTING_PROGRESS, 0));
             }
         }
 
         this.suspended = data.getBooleanOr(NBT_SUSPENDED, false);
     }
 
-    void writeToNBT(ValueOutput output) {
+    private void addTask(@Nullable IPatternDetails details, long progress) {
+        if (details != null) {
+            this.tasks.computeIfAbsent(details, p -> new TaskProgress()).value += progress;
+            for (var output : details.getOutputs()) {
+                this.pendingOutputs.add(output.what(), output.amount() * progress);
+            }
+        }
+    }
+
+    /**
+     * Records that the given pattern of {@link #tasks} was pushed once.
+     */
+    void removePendingOutputs(IPatternDetails details) {
+        for (var output : details.getOutputs()) {
+            this.pendingOutputs.remove(output.what(), output.amount());
+        }
+    }
+
+    /**
+     * Writes the job, adding the keys it references to the given dictionary, which the caller writes afterwards.
+     */
+    void writeToNBT(ValueOutput output, KeyDictionary keys) {
         link.writeToNBT(output.child(NBT_LINK));
 
         output.storeNullable(NBT_FINAL_OUTPUT, GenericStack.CODEC, finalOutput);
 
-        waitingFor.serialize(output.childrenList(NBT_WAITING_FOR));
+        var waitingForAmounts = keys.writer();
+        for (var entry : waitingFor.list) {
+            waitingForAmounts.add(entry.getKey(), entry.getLongValue());
+        }
+        waitingForAmounts.write(output, NBT_WAITING_FOR_AMOUNTS);
         timeTracker.writeToNBT(output.child(NBT_TIME_TRACKER));
 
-        var taskList = output.childrenList(NBT_TASKS);
+        var taskProgress = keys.writer();
         for (var e : this.tasks.entrySet()) {
-            var child = taskList.addChild();
-            e.getKey().getDefinition().toTag(child);
-            child.putLong(NBT_CRAFTING_PROGRESS, e.getValue().value);
+            taskProgress.add(e.getKey().getDefinition(), e.getValue().value);
         }
+        taskProgress.write(output, NBT_TASK_PROGRESS);
 
         output.putLong(NBT_REMAINING_AMOUNT, remainingAmount);
         if (this.playerId != null) {
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting.execution;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+import com.mojang.serialization.Codec;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.storage.ValueInput;
+import net.minecraft.world.level.storage.ValueOutput;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import appeng.api.stacks.AEKey;
+import appeng.core.AELog;
+
+/**
+ * Compact storage of the amounts tracked by a crafting CPU. Every distinct key is written only once into a dictionary,
+ * and lists of amounts are written as a byte array of varint dictionary indices followed by varlong amounts.
+ */
+final class KeyDictionary {
+    private static final String NBT_KEYS = "keys";
+
+    /**
+     * Keys that could not be read (i.e. from removed mods) are kept as null to preserve the indices of the others.
+     */
+    private final List<AEKey> keys;
+    private final Object2IntMap<AEKey> indices = new Object2IntOpenHashMap<>();
+
+    KeyDictionary() {
+        this.keys = new ArrayList<>();
+        this.indices.defaultReturnValue(-1);
+    }
+
+    private KeyDictionary(List<AEKey> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * @return The dictionary stored in the given data, or null if it was written in the old format without one.
+     */
+    @Nullable
+    static KeyDictionary read(ValueInput input) {
+        var keysList = input.childrenList(NBT_KEYS).orElse(null);
+        if (keysList == null) {
+            return null;
+        }
+
+        var keys = new ArrayList<AEKey>();
+        for (var item : keysList) {
+            keys.add(AEKey.fromTagGeneric(item));
+        }
+        return new KeyDictionary(keys);
+    }
+
+    /**
+     * Writes the dictionary. Must be called after all amounts using it were written.
+     */
+    void write(ValueOutput output) {
+        var keysList = output.childrenList(NBT_KEYS);
+        for (var key : keys) {
+            key.toTagGeneric(keysList.addChild());
+        }
+    }
+
+    AmountWriter writer() {
+        return new AmountWriter();
+    }
+
+    /**
+     * Reads the amounts stored under the given name, skipping keys that could not be read.
+     */
+    void readAmounts(ValueInput input, String name, ObjLongConsumer<AEKey> consumer) {
+        var data = input.read(name, Codec.BYTE_BUFFER).orElse(null);
+        if (data == null) {
+            return;
+        }
+
+        var buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+        try {
+            while (buffer.isReadable()) {
+                var index = buffer.readVarInt();
+                var amount = buffer.readVarLong();
+                var key = index >= 0 && index < keys.size() ? keys.get(index) : null;
+                if (key != null) {
+                    consumer.accept(key, amount);
+                }
+            }
+        } catch (RuntimeException e) {
+            AELog.warn("Failed to read crafting CPU amounts %s: %s", name, e);
+        }
+    }
+
+    private int indexOf(AEKey key) {
+        var index = indices.getInt(key);
+        if (index < 0) {
+            index = keys.size();
+            keys.add(key);
+            indices.put(key, index);
+        }
+        return index;
+    }
+
+    final class AmountWriter {
+        private final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+
+        void add(AEKey key, long amount) {
+            buffer.writeVarInt(indexOf(key));
+            buffer.writeVarLong(amount);
+        }
+
+        void write(ValueOutput output, String name) {
+            // Only store the written bytes, not the unused capacity of the buffer
+            output.store(name, Codec.BYTE_BUFFER, ByteBuffer.wrap(ByteBufUtil.getBytes(buffer)));
+        }
+    }
+}
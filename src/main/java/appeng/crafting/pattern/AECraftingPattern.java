@@ -22,12 +22,14 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
 import org.jetbrains.annotations.Nullable;
@@ -64,6 +66,11 @@
 public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSupportedPattern {
     public static final int CRAFTING_GRID_DIMENSION = 3;
     public static final int CRAFTING_GRID_SLOTS = CRAFTING_GRID_DIMENSION * CRAFTING_GRID_DIMENSION;
+    /**
+     * How many results for ingredients with components are remembered per slot, and how many crafting results are
+     * remembered for whole grids.
+     */
+    private static final int MAX_CACHED_RESULTS = 32;
 
     private final AEItemKey definition;
     public final boolean canSubstitute;
@@ -77,10 +84,23 @@ public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSu
     private final List<GenericStack> outputsArray;
     private final CraftingInput.Positioned positionedPattern;
     /**
-     * We cache results of isValid(...) calls for stacks that don't have NBT.
+     * We cache results of isValid(...) calls for stacks that don't have NBT. Decoded patterns are shared between
+     * threads through {@link PatternDetailsCache}, so access to this and {@link #isValidComponentCache} is guarded by
+     * this array.
      */
     @SuppressWarnings("unchecked")
     private final Map<Item, Boolean>[] isValidCache = new Map[9];
+    /**
+     * Results of isValid(...) calls for stacks with components. These are keyed by the exact key, and are bounded
+     * since there may be arbitrarily many variants of an item (i.e. damaged tools).
+     */
+    @SuppressWarnings("unchecked")
+    private final Map<AEItemKey, Boolean>[] isValidComponentCache = new Map[9];
+    /**
+     * Results of {@link #assemble} and {@link #getRemainingItems} for the exact grid contents they were called with.
+     * Molecular assemblers query these for the same grid repeatedly.
+     */
+    private final Map<GridKey, CraftResult> craftResultCache = createBoundedCache(MAX_CACHED_RESULTS);
 
     public AECraftingPattern(AEItemKey definition, Level level) {
         this.definition = definition;
@@ -315,24 +335,41 @@ private ItemStack getRecipeRemainder(int slot, AEItemKey key) {
      */
     @Nullable
     private Boolean getTestResult(int slot, AEItemKey what) {
-        if (what == null || what.hasComponents()) {
+        if (what == null) {
             return null;
         }
-        var cache = isValidCache[slot];
-        if (cache == null) {
-            return null;
-        } else {
-            return cache.get(what.getItem());
+        synchronized (isValidCache) {
+            if (what.hasComponents()) {
+                var cache = isValidComponentCache[slot];
+                return cache != null ? cache.get(what) : null;
+            }
+            var cache = isValidCache[slot];
+            if (cache == null) {
+                return null;
+            } else {
+                return cache.get(what.getItem());
+            }
         }
     }
 
     private void setTestResult(int slot, AEItemKey what, boolean result) {
-        if (what != null && !what.hasComponents()) {
-            var cache = isValidCache[slot];
-            if (cache == null) {
-                cache = isValidCache[slot] = new IdentityHashMap<>();
+        if (what == null) {
+            return;
+        }
+        synchronized (isValidCache) {
+            if (what.hasComponents()) {
+                var cache = isValidComponentCache[slot];
+                if (cache == null) {
+                    cache = isValidComponentCache[slot] = createBoundedCache(MAX_CACHED_RESULTS);
+                }
+                cache.put(what, result);
+            } else {
+                var cache = isValidCache[slot];
+                if (cache == null) {
+                    cache = isValidCache[slot] = new IdentityHashMap<>();
+                }
+                cache.put(what.getItem(), result);
             }
-            cache.put(what.getItem(), result);
         }
     }
 
@@ -391,6 +428,15 @@ public void fillCraftingGrid(KeyCounter[] table, CraftingGridAccessor gridAccess
 
     @Override
     public ItemStack assemble(CraftingInput container, Level level) {
+        var result = getCraftResult(container);
+        if (result.output == null) {
+            result.output = assembleUncached(container, level);
+        }
+        // The regular result is shared anyway, but special recipes produce a fresh stack every time
+        return result.output == output ? output : result.output.copy();
+    }
+
+    private ItemStack assembleUncached(CraftingInput container, Level level) {
         if (positionedPattern.input().width() != container.width()
                 || positionedPattern.input().height() != container.height()) {
             return ItemStack.EMPTY;
@@ -445,6 +491,31 @@ public ItemStack assemble(CraftingInput container, Level level) {
 
     @Override
     public NonNullList<ItemStack> getRemainingItems(CraftingInput container) {
+        var result = getCraftResult(container);
+        if (result.remainders == null) {
+            result.remainders = getRemainingItemsUncached(container);
+        }
+
+        var remainders = NonNullList.withSize(result.remainders.size(), ItemStack.EMPTY);
+        for (int i = 0; i < remainders.size(); i++) {
+            remainders.set(i, result.remainders.get(i).copy());
+        }
+        return remainders;
+    }
+
+    /**
+     * Stack sizes are not part of the key, since crafting only ever consumes one item per slot.
+     */
+    private CraftResult getCraftResult(CraftingInput container) {
+        var items = new AEItemKey[container.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = AEItemKey.of(container.getItem(i));
+        }
+        var key = new GridKey(container.width(), container.height(), Arrays.asList(items));
+        return craftResultCache.computeIfAbsent(key, k -> new CraftResult());
+    }
+
+    private NonNullList<ItemStack> getRemainingItemsUncached(CraftingInput container) {
         // Replace substituted fluids with the original item and ensure the slot is deleted
         // after calling getRemainingItems. This is to fix compatibility with mods that *actually*
         // search for the fluid containers in the container and warn/error if they're not found.
@@ -687,4 +758,29 @@ private List<ItemStack> makeCraftingInputItems() {
         }
         return testFrameItems;
     }
+
+    /**
+     * Creates a cache that evicts the oldest entry once it holds more than the given number of entries. Patterns are
+     * shared between the server thread and the crafting calculation threads, so the cache is synchronized. Eviction is
+     * by insertion order, since an access-ordered map would be modified by every lookup.
+     */
+    @VisibleForTesting
+    static <K, V> Map<K, V> createBoundedCache(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record GridKey(int width, int height, List<AEItemKey> items) {
+    }
+
+    private static class CraftResult {
+        @Nullable
+        ItemStack output;
+        @Nullable
+        NonNullList<ItemStack> remainders;
+    }
 }
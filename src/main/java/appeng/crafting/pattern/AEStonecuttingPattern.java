@@ -70,9 +70,10 @@ public class AEStonecuttingPattern implements IPatternDetails, IMolecularAssembl
     private final List<GenericStack> outputs;
 
     /**
-     * We cache results of isValid(...) calls for stacks that don't have NBT.
+     * We cache results of isValid(...) calls for stacks that don't have NBT. Synchronized since decoded patterns are
+     * shared between threads through {@link PatternDetailsCache}.
      */
-    private final Map<Item, Boolean> isValidCache = new IdentityHashMap<>();
+    private final Map<Item, Boolean> isValidCache = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public AEStonecuttingPattern(AEItemKey definition, Level level) {
         this.definition = definition;
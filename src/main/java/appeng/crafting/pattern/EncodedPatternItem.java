@@ -135,7 +135,8 @@ public void appendHoverText(ItemStack stack, TooltipContext context, TooltipDisp
 
         PatternDetailsTooltip tooltip;
         try {
-            var details = Objects.requireNonNull(decoder.decode(what, clientLevel), "decoder returned null");
+            var details = Objects.requireNonNull(PatternDetailsCache.decode(what, clientLevel, decoder),
+                    "decoder returned null");
             tooltip = details.getTooltip(clientLevel, flags);
         } catch (Exception e) {
             lines.accept(GuiText.InvalidPattern.text().copy().withStyle(ChatFormatting.RED));
@@ -241,7 +242,7 @@ public IPatternDetails decode(ItemStack stack, Level level) {
 
         var what = AEItemKey.of(stack);
         try {
-            return Objects.requireNonNull(decoder.decode(what, level), "decoder returned null");
+            return Objects.requireNonNull(PatternDetailsCache.decode(what, level, decoder), "decoder returned null");
         } catch (Exception e) {
             return null;
         }
@@ -254,7 +255,7 @@ public IPatternDetails decode(AEItemKey what, Level level) {
         }
 
         try {
-            return decoder.decode(what, level);
+            return PatternDetailsCache.decode(what, level, decoder);
         } catch (Exception e) {
             return null;
         }
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting.pattern;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.Level;
+
+import appeng.api.crafting.EncodedPatternDecoder;
+import appeng.api.crafting.IPatternDetails;
+import appeng.api.stacks.AEItemKey;
+
+/**
+ * Interns decoded patterns per level, so that identical encoded patterns (i.e. the same pattern in many pattern
+ * providers) share a single decoded instance and only resolve their recipe once.
+ * <p>
+ * Both the levels and the encoded keys are held weakly. The decoded details are held weakly as well since they
+ * reference their own definition, which would otherwise keep the key alive forever. Cached details are dropped
+ * whenever recipes are reloaded, since they capture the recipe they were decoded against.
+ */
+public final class PatternDetailsCache {
+    private static final Map<Level, Map<AEItemKey, WeakReference<IPatternDetails>>> CACHE = new WeakHashMap<>();
+
+    private PatternDetailsCache() {
+    }
+
+    /**
+     * Returns the previously decoded details for the given pattern, or decodes and remembers them. Exceptions thrown
+     * by the decoder are passed through and are not cached.
+     */
+    @Nullable
+    public static <T extends IPatternDetails> IPatternDetails decode(AEItemKey what, Level level,
+            EncodedPatternDecoder<T> decoder) {
+        synchronized (CACHE) {
+            var levelCache = CACHE.get(level);
+            if (levelCache != null) {
+                var ref = levelCache.get(what);
+                var cached = ref != null ? ref.get() : null;
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        // Decode outside the lock, decoders may be slow or call back into other decoders
+        IPatternDetails decoded = decoder.decode(what, level);
+        if (decoded == null) {
+            return null;
+        }
+
+        synchronized (CACHE) {
+            var levelCache = CACHE.computeIfAbsent(level, l -> new WeakHashMap<>());
+            // Another thread may have decoded the same pattern in the meantime, prefer the instance that won
+            var ref = levelCache.get(what);
+            var existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            levelCache.put(what, new WeakReference<>(decoded));
+        }
+        return decoded;
+    }
+
+    /**
+     * Drops all decoded patterns. Called when recipes are reloaded on the server or received on the client.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package appeng.helpers;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -49,8 +50,10 @@
 import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.GenericStack;
+import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
 import appeng.api.storage.StorageHelper;
+import appeng.api.storage.StorageReservation;
 import appeng.api.upgrades.IUpgradeInventory;
 import appeng.api.upgrades.IUpgradeableObject;
 import appeng.api.upgrades.UpgradeInventories;
@@ -457,10 +460,12 @@ private boolean tryUsePlan(int slot, AEKey what, int amount) {
             // Try a fuzzy import from network instead if we don't have stacks in stock yet
             if (storage.getStack(slot) == null && upgrades.isInstalled(AEItems.FUZZY_CARD)) {
                 FuzzyMode fuzzyMode = getConfigManager().getSetting(Settings.FUZZY_MODE);
-                for (var entry : grid.getStorageService().getCachedInventory().findFuzzy(what, fuzzyMode)) {
+                var variants = new ArrayList<AEKey>();
+                grid.getStorageService().findFuzzyVariants(what, fuzzyMode, variants);
+                for (var variant : variants) {
                     // Simulate insertion first in case the stack size is different
-                    long maxAmount = storage.insert(slot, entry.getKey(), amount, Actionable.SIMULATE);
-                    if (acquireFromNetwork(energySrc, networkInv, slot, entry.getKey(), maxAmount)) {
+                    long maxAmount = storage.insert(slot, variant, amount, Actionable.SIMULATE);
+                    if (acquireFromNetwork(energySrc, networkInv, slot, variant, maxAmount)) {
                         return true;
                     }
                 }
@@ -578,26 +583,66 @@ public long insert(AEKey what, long amount, Actionable mode, IActionSource sourc
             // Prevents other interfaces from injecting their items into this interface when they push
             // their local inventory into the network. This prevents items from bouncing back and forth
             // between interfaces.
-            if (getRequestInterfacePriority(source).isPresent() && isSameGrid(source)) {
+            if (isInsertBlocked(source)) {
                 return 0;
             }
 
             return super.insert(what, amount, mode, source);
         }
 
+        @Override
+        public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+            if (!isInsertBlocked(source)) {
+                super.insertAll(what, mode, source, inserted);
+            }
+        }
+
+        @Override
+        public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+            if (isInsertBlocked(source)) {
+                return StorageReservation.EMPTY;
+            }
+
+            return super.reserveInsert(what, amount, source);
+        }
+
         @Override
         public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
             // Prevents interfaces of lower priority fullfilling their item stocking requests from this interface
             // Otherwise we'd see a "ping-pong" effect where two interfaces could start pulling items back and
             // forth of they wanted to stock the same item and happened to have storage buses on them.
-            var requestPriority = getRequestInterfacePriority(source);
-            if (requestPriority.isPresent() && requestPriority.getAsInt() <= getPriority() && isSameGrid(source)) {
+            if (isExtractBlocked(source)) {
                 return 0;
             }
 
             return super.extract(what, amount, mode, source);
         }
 
+        @Override
+        public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+            if (!isExtractBlocked(source)) {
+                super.extractAll(what, mode, source, extracted);
+            }
+        }
+
+        @Override
+        public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+            if (isExtractBlocked(source)) {
+                return StorageReservation.EMPTY;
+            }
+
+            return super.reserveExtract(what, amount, source);
+        }
+
+        private boolean isInsertBlocked(IActionSource source) {
+            return getRequestInterfacePriority(source).isPresent() && isSameGrid(source);
+        }
+
+        private boolean isExtractBlocked(IActionSource source) {
+            var requestPriority = getRequestInterfacePriority(source);
+            return requestPriority.isPresent() && requestPriority.getAsInt() <= getPriority() && isSameGrid(source);
+        }
+
         @Override
         public Component getDescription() {
             return host.getMainMenuIcon().getHoverName();
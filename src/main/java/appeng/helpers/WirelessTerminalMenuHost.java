@@ -44,13 +44,13 @@
 import appeng.api.util.IConfigManager;
 import appeng.api.util.KeyTypeSelection;
 import appeng.api.util.KeyTypeSelectionHost;
-import appeng.blockentity.networking.WirelessAccessPointBlockEntity;
 import appeng.core.AEConfig;
 import appeng.core.localization.GuiText;
 import appeng.core.localization.PlayerMessages;
 import appeng.items.contents.StackDependentSupplier;
 import appeng.items.tools.powered.WirelessTerminalItem;
 import appeng.me.helpers.PlayerSource;
+import appeng.me.service.WirelessService;
 import appeng.me.storage.NullInventory;
 import appeng.menu.ISubMenu;
 import appeng.menu.locator.ItemMenuHostLocator;
@@ -71,6 +71,12 @@
     protected double currentRemainingRange = Double.MIN_VALUE;
     private final MEStorage storage;
     private ILinkStatus linkStatus = ILinkStatus.ofDisconnected();
+    /**
+     * The access points near the player when the range was last checked. Reused until the player moves into another
+     * cell of the grid's access point index.
+     */
+    @Nullable
+    private WirelessService.NearbyAccessPoints nearbyAccessPoints;
 
     public WirelessTerminalMenuHost(T item, Player player, ItemMenuHostLocator locator,
             BiConsumer<Player, ISubMenu> returnToMainMenu) {
@@ -149,8 +155,11 @@ protected void updateConnectedAccessPoint() {
             double bestSqDistance = Double.MAX_VALUE;
             double bestSqRemainingRange = Double.MIN_VALUE;
 
-            // Find closest WAP
-            for (var wap : targetGrid.getMachines(WirelessAccessPointBlockEntity.class)) {
+            // Find closest WAP, only the ones close to the player can be in range
+            var player = this.getPlayer();
+            this.nearbyAccessPoints = WirelessService.get(targetGrid).getNearbyAccessPoints(player.level(),
+                    player.getX(), player.getZ(), this.nearbyAccessPoints);
+            for (var wap : this.nearbyAccessPoints.accessPoints()) {
                 var signal = getAccessPointSignal(wap);
 
                 // If the WAP is not suitable then MAX_VALUE will be returned and the check will fail
@@ -29,6 +29,7 @@
 import org.slf4j.LoggerFactory;
 
 import net.minecraft.ChatFormatting;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.component.DataComponentMap;
 import net.minecraft.network.chat.Component;
@@ -50,7 +51,6 @@
 import appeng.api.crafting.IPatternDetails;
 import appeng.api.crafting.PatternDetailsHelper;
 import appeng.api.ids.AEComponents;
-import appeng.api.implementations.blockentities.ICraftingMachine;
 import appeng.api.implementations.blockentities.PatternContainerGroup;
 import appeng.api.inventories.InternalInventory;
 import appeng.api.networking.GridFlags;
@@ -73,6 +73,7 @@
 import appeng.core.settings.TickRates;
 import appeng.helpers.InterfaceLogicHost;
 import appeng.me.helpers.MachineSource;
+import appeng.me.service.PatternContainerService;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.InternalInventoryHost;
 import appeng.util.inv.PlayerInternalInventory;
@@ -101,6 +102,11 @@ public class PatternProviderLogic implements InternalInventoryHost, ICraftingPro
     // Pattern storing logic
     private final AppEngInternalInventory patternInventory;
     private final List<IPatternDetails> patterns = new ArrayList<>();
+    /**
+     * Same contents as {@link #patterns}, used to quickly check whether a pattern being pushed belongs to this
+     * provider.
+     */
+    private final Set<IPatternDetails> patternSet = new HashSet<>();
     /**
      * Keeps track of the inputs of all the patterns. When blocking mode is enabled, if any of these is contained in the
      * target, the pattern won't be pushed. Always contains keys with the secondary component dropped.
@@ -113,6 +119,13 @@ public class PatternProviderLogic implements InternalInventoryHost, ICraftingPro
     private final PatternProviderReturnInventory returnInv;
 
     private final PatternProviderTargetCache[] targetCaches = new PatternProviderTargetCache[6];
+    // Reused by pushPattern to collect the adapters that can be pushed to
+    private final List<PushTarget> possibleTargets = new ArrayList<>();
+    /**
+     * Whether we were visible in the pattern access terminal when this was last published to the grid. The terminal
+     * setting defaults to visible.
+     */
+    private boolean publishedTerminalVisibility = true;
 
     private YesNo redstoneState = YesNo.UNDECIDED;
 
@@ -238,6 +251,7 @@ public void saveChangedInventory(AppEngInternalInventory inv) {
     public void onChangeInventory(AppEngInternalInventory inv, int slot) {
         this.saveChanges();
         this.updatePatterns();
+        PatternContainerService.publish(mainNode, host, PatternContainerService.Change.PATTERNS_CHANGED);
     }
 
     @Nullable
@@ -257,6 +271,7 @@ public void updatePatterns() {
         }
 
         patterns.clear();
+        patternSet.clear();
         patternInputs.clear();
 
         for (var stack : this.patternInventory) {
@@ -264,6 +279,7 @@ public void updatePatterns() {
 
             if (details != null) {
                 patterns.add(details);
+                patternSet.add(details);
 
                 for (var iinput : details.getInputs()) {
                     for (var inputCandidate : iinput.getPossibleInputs()) {
@@ -303,27 +319,22 @@ private <T> void rearrangeRoundRobin(List<T> list) {
 
     @Override
     public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] inputHolder) {
-        if (!sendList.isEmpty() || !this.mainNode.isActive() || !this.patterns.contains(patternDetails)) {
+        if (!sendList.isEmpty() || !this.mainNode.isActive() || !this.patternSet.contains(patternDetails)) {
             return false;
         }
 
-        var be = host.getBlockEntity();
-        var level = be.getLevel();
-
         if (getCraftingLockedReason() != LockCraftingMode.NONE) {
             return false;
         }
 
-        record PushTarget(Direction direction, PatternProviderTarget target) {
-        }
-        var possibleTargets = new ArrayList<PushTarget>();
+        var possibleTargets = this.possibleTargets;
+        possibleTargets.clear();
 
         // Push to crafting machines first
         for (var direction : getActiveSides()) {
-            var adjPos = be.getBlockPos().relative(direction);
             var adjBeSide = direction.getOpposite();
 
-            var craftingMachine = ICraftingMachine.of(level, adjPos, adjBeSide);
+            var craftingMachine = getTargetCache(direction).findCraftingMachine();
             if (craftingMachine != null && craftingMachine.acceptsPlans()) {
                 if (craftingMachine.pushPattern(patternDetails, inputHolder, adjBeSide)) {
                     onPushPatternSuccess(patternDetails);
@@ -465,18 +476,35 @@ public boolean isBlocking() {
         return this.configManager.getSetting(Settings.BLOCKING_MODE) == YesNo.YES;
     }
 
-    @Nullable
-    private PatternProviderTarget findAdapter(Direction side) {
-        if (targetCaches[side.get3DDataValue()] == null) {
+    private PatternProviderTargetCache getTargetCache(Direction side) {
+        var targetCache = targetCaches[side.get3DDataValue()];
+        if (targetCache == null) {
             var thisBe = host.getBlockEntity();
-            targetCaches[side.get3DDataValue()] = new PatternProviderTargetCache(
+            targetCache = new PatternProviderTargetCache(
                     (ServerLevel) thisBe.getLevel(),
                     thisBe.getBlockPos().relative(side),
                     side.getOpposite(),
-                    actionSource);
+                    actionSource,
+                    () -> !thisBe.isRemoved());
+            targetCaches[side.get3DDataValue()] = targetCache;
         }
+        return targetCache;
+    }
+
+    @Nullable
+    private PatternProviderTarget findAdapter(Direction side) {
+        return getTargetCache(side).find();
+    }
+
+    /**
+     * Called when a neighboring block may have changed its contents.
+     */
+    public void onNeighborChanged(BlockPos neighbor) {
+        // Our group in the pattern access terminal is derived from the adjacent machines
+        PatternContainerService.publish(mainNode, host, PatternContainerService.Change.GROUP_CHANGED);
+    }
 
-        return targetCaches[side.get3DDataValue()].find();
+    private record PushTarget(Direction direction, PatternProviderTarget target) {
     }
 
     private boolean adapterAcceptsAll(PatternProviderTarget target, KeyCounter[] inputHolder) {
@@ -562,6 +590,18 @@ public void onMainNodeStateChanged() {
                 grid.getTickManager().alertDevice(node);
             });
         }
+        publishTerminalVisibility();
+    }
+
+    /**
+     * Notifies pattern access terminals if our visibility differs from what was last published.
+     */
+    private void publishTerminalVisibility() {
+        var visible = host.isVisibleInTerminal();
+        if (visible != this.publishedTerminalVisibility) {
+            this.publishedTerminalVisibility = visible;
+            PatternContainerService.publish(mainNode, host, PatternContainerService.Change.VISIBILITY_CHANGED);
+        }
     }
 
     public void addDrops(List<ItemStack> drops) {
@@ -804,6 +844,10 @@ private void configChanged(IConfigManager manager, Setting<?> setting) {
         } else {
             saveChanges();
         }
+
+        if (setting == Settings.PATTERN_ACCESS_TERMINAL) {
+            publishTerminalVisibility();
+        }
     }
 
     private boolean getRedstoneState() {
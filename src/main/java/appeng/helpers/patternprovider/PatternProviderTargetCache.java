@@ -3,6 +3,7 @@
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -14,6 +15,7 @@
 import appeng.api.AECapabilities;
 import appeng.api.behaviors.ExternalStorageStrategy;
 import appeng.api.config.Actionable;
+import appeng.api.implementations.blockentities.ICraftingMachine;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.AEKeyType;
@@ -21,19 +23,54 @@
 import appeng.me.storage.CompositeStorage;
 import appeng.parts.automation.StackWorldBehaviors;
 
+/**
+ * Caches what a pattern provider can push to on one of its sides. The crafting machine and the storage adapter are
+ * only resolved again after the capabilities at the target position were invalidated.
+ */
 class PatternProviderTargetCache {
     private final BlockCapabilityCache<MEStorage, Direction> cache;
+    private final BlockCapabilityCache<ICraftingMachine, Direction> craftingMachineCache;
     private final IActionSource src;
     private final Map<AEKeyType, ExternalStorageStrategy> strategies;
 
-    PatternProviderTargetCache(ServerLevel l, BlockPos pos, Direction direction, IActionSource src) {
-        this.cache = BlockCapabilityCache.create(AECapabilities.ME_STORAGE, l, pos, direction);
+    private boolean targetResolved;
+    @Nullable
+    private PatternProviderTarget target;
+
+    PatternProviderTargetCache(ServerLevel l, BlockPos pos, Direction direction, IActionSource src,
+            BooleanSupplier isValid) {
+        this.cache = BlockCapabilityCache.create(AECapabilities.ME_STORAGE, l, pos, direction, isValid,
+                this::invalidate);
+        this.craftingMachineCache = BlockCapabilityCache.create(AECapabilities.CRAFTING_MACHINE, l, pos, direction);
         this.src = src;
         this.strategies = StackWorldBehaviors.createExternalStorageStrategies(l, pos, direction);
     }
 
+    /**
+     * Capability invalidation is tracked per position, so this also covers the platform capabilities used by the
+     * external storage strategies.
+     */
+    private void invalidate() {
+        targetResolved = false;
+        target = null;
+    }
+
+    @Nullable
+    ICraftingMachine findCraftingMachine() {
+        return craftingMachineCache.getCapability();
+    }
+
     @Nullable
     PatternProviderTarget find() {
+        if (!targetResolved) {
+            target = resolve();
+            targetResolved = true;
+        }
+        return target;
+    }
+
+    @Nullable
+    private PatternProviderTarget resolve() {
         // our capability first: allows any storage channel
         var meStorage = cache.getCapability();
         if (meStorage != null) {
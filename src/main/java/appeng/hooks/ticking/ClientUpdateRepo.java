@@ -0,0 +1,101 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks.ticking;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+import appeng.blockentity.AEBaseBlockEntity;
+import appeng.core.network.clientbound.BlockEntityUpdatesPacket;
+
+/**
+ * Collects the block entities that need to be resent to clients during a level tick, and sends them at the end of it
+ * with one packet per chunk. Block entities whose update data did not change since it was last sent are left out.
+ */
+class ClientUpdateRepo {
+    // Mapping is level -> encoded chunk pos -> block entities waiting to be sent
+    private final Map<LevelAccessor, Long2ObjectMap<Set<AEBaseBlockEntity>>> pending = new Object2ObjectOpenHashMap<>();
+
+    void clear() {
+        this.pending.clear();
+    }
+
+    void add(ServerLevel level, AEBaseBlockEntity blockEntity) {
+        var chunkPos = ChunkPos.containing(blockEntity.getBlockPos()).pack();
+        this.pending.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(chunkPos, key -> new ReferenceLinkedOpenHashSet<>())
+                .add(blockEntity);
+    }
+
+    void removeLevel(LevelAccessor level) {
+        this.pending.remove(level);
+    }
+
+    void removeChunk(LevelAccessor level, long chunkPos) {
+        var chunks = this.pending.get(level);
+        if (chunks != null) {
+            chunks.remove(chunkPos);
+        }
+    }
+
+    /**
+     * Sends the updates collected for the given level.
+     */
+    void send(ServerLevel level) {
+        var chunks = this.pending.remove(level);
+        if (chunks == null) {
+            return;
+        }
+
+        var chunkMap = level.getChunkSource().chunkMap;
+        for (var chunkEntry : chunks.long2ObjectEntrySet()) {
+            var chunkPos = ChunkPos.unpack(chunkEntry.getLongKey());
+            // Players starting to watch the chunk later will receive the current state with the chunk itself
+            if (chunkMap.getPlayers(chunkPos, false).isEmpty()) {
+                continue;
+            }
+
+            var updates = new ArrayList<BlockEntityUpdatesPacket.Update>(chunkEntry.getValue().size());
+            for (var blockEntity : chunkEntry.getValue()) {
+                if (blockEntity.isRemoved() || blockEntity.getLevel() != level) {
+                    continue;
+                }
+                var updateData = blockEntity.getChangedUpdateData();
+                if (updateData != null) {
+                    updates.add(new BlockEntityUpdatesPacket.Update(blockEntity.getBlockPos(), updateData));
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                PacketDistributor.sendToPlayersTrackingChunk(level, chunkPos, new BlockEntityUpdatesPacket(updates));
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks.ticking;
+
+import java.util.Map;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkAccess;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import appeng.blockentity.AEBaseBlockEntity;
+
+/**
+ * Tracks block entities with changes that are only marked for saving after a delay.
+ *
+ * @see AEBaseBlockEntity#saveChangesDeferred()
+ */
+class DeferredSaveRepo {
+    // Mapping is level -> block entity -> tick of its first pending change, in the order they were added
+    private final Map<LevelAccessor, Object2LongLinkedOpenHashMap<AEBaseBlockEntity>> pending = new Object2ObjectOpenHashMap<>();
+
+    void clear() {
+        this.pending.clear();
+    }
+
+    void add(ServerLevel level, AEBaseBlockEntity blockEntity, long currentTick) {
+        this.pending.computeIfAbsent(level, key -> new Object2LongLinkedOpenHashMap<>())
+                .putIfAbsent(blockEntity, currentTick);
+    }
+
+    void removeLevel(LevelAccessor level) {
+        this.pending.remove(level);
+    }
+
+    /**
+     * Marks the changes of block entities that have been pending for at least the given number of ticks.
+     */
+    void saveExpired(ServerLevel level, long currentTick, int delay) {
+        var blockEntities = this.pending.get(level);
+        if (blockEntities == null) {
+            return;
+        }
+
+        while (!blockEntities.isEmpty()) {
+            var blockEntity = blockEntities.firstKey();
+            if (currentTick - blockEntities.getLong(blockEntity) < delay) {
+                break;
+            }
+            blockEntities.removeFirstLong();
+            save(blockEntity);
+        }
+    }
+
+    /**
+     * Marks all pending changes in the given level, i.e. before it is saved.
+     */
+    void saveLevel(LevelAccessor level) {
+        var blockEntities = this.pending.remove(level);
+        if (blockEntities != null) {
+            for (var blockEntity : blockEntities.keySet()) {
+                save(blockEntity);
+            }
+        }
+    }
+
+    /**
+     * Marks all pending changes, i.e. before the server stops.
+     */
+    void saveAll() {
+        for (var blockEntities : this.pending.values()) {
+            for (var blockEntity : blockEntities.keySet()) {
+                save(blockEntity);
+            }
+        }
+        this.pending.clear();
+    }
+
+    /**
+     * Marks the given chunk as unsaved if it contains block entities with pending changes, so they are written when it
+     * is unloaded.
+     */
+    void saveChunk(LevelAccessor level, ChunkAccess chunk) {
+        var blockEntities = this.pending.get(level);
+        if (blockEntities == null) {
+            return;
+        }
+
+        var chunkPos = chunk.getPos();
+        var it = blockEntities.keySet().iterator();
+        var changed = false;
+        while (it.hasNext()) {
+            if (ChunkPos.containing(it.next().getBlockPos()).equals(chunkPos)) {
+                it.remove();
+                changed = true;
+            }
+        }
+        if (changed) {
+            chunk.markUnsaved();
+        }
+    }
+
+    private static void save(AEBaseBlockEntity blockEntity) {
+        if (!blockEntity.isRemoved()) {
+            blockEntity.saveChanges();
+        }
+    }
+}
@@ -71,12 +71,19 @@ public class TickHandler {
      */
     private static final int TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS = 25;
 
+    /**
+     * Number of ticks after which deferred changes of block entities are marked for saving.
+     */
+    private static final int DEFERRED_SAVE_TICKS = 20 * 30;
+
     private static final TickHandler INSTANCE = new TickHandler();
     private final Queue<ILevelRunnable> serverQueue = new ArrayDeque<>();
     private final Multimap<LevelAccessor, CraftingCalculation> craftingJobs = LinkedListMultimap.create();
     private final Map<LevelAccessor, Queue<ILevelRunnable>> callQueue = new HashMap<>();
     private final ServerBlockEntityRepo blockEntities = new ServerBlockEntityRepo();
     private final ServerGridRepo grids = new ServerGridRepo();
+    private final ClientUpdateRepo clientUpdates = new ClientUpdateRepo();
+    private final DeferredSaveRepo deferredSaves = new DeferredSaveRepo();
 
     /**
      * A stop watch to limit processing the additional queues to honor
@@ -103,6 +110,7 @@ public void init() {
         NeoForge.EVENT_BUS.addListener(this::onServerLevelTickStart);
         NeoForge.EVENT_BUS.addListener(this::onServerLevelTickEnd);
         NeoForge.EVENT_BUS.addListener(this::onUnloadChunk);
+        NeoForge.EVENT_BUS.addListener(this::onSaveLevel);
         // Try to go last for level unloads since we use it to clean-up state
         NeoForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::onUnloadLevel);
     }
@@ -153,6 +161,35 @@ public <T extends BlockEntity> void addInit(T blockEntity, Consumer<? super T> i
         }
     }
 
+    /**
+     * Queue a {@link AEBaseBlockEntity} to be resent to the clients watching it at the end of the current level tick.
+     * Block entities in the same chunk are sent together.
+     */
+    public void addClientUpdate(AEBaseBlockEntity blockEntity) {
+        if (blockEntity.getLevel() instanceof ServerLevel level) {
+            this.clientUpdates.add(level, blockEntity);
+        }
+    }
+
+    /**
+     * Queue a {@link AEBaseBlockEntity} to be marked as changed after a delay.
+     *
+     * @see AEBaseBlockEntity#saveChangesDeferred()
+     */
+    public void addDeferredSave(AEBaseBlockEntity blockEntity) {
+        if (blockEntity.getLevel() instanceof ServerLevel level) {
+            this.deferredSaves.add(level, blockEntity, this.tickCounter);
+        }
+    }
+
+    /**
+     * Marks all deferred changes of block entities right away, so that they are included in the next save.
+     */
+    public void saveDeferredChanges() {
+        Platform.assertServerThread();
+        this.deferredSaves.saveAll();
+    }
+
     /**
      * Add a new grid for ticking on the next update.
      * <p>
@@ -188,12 +225,15 @@ public void shutdown() {
         Platform.assertServerThread();
         this.blockEntities.clear();
         this.grids.clear();
+        this.clientUpdates.clear();
+        this.deferredSaves.clear();
     }
 
     /**
      * Handles a chunk being unloaded (on the server)
      * <p>
-     * Removes any pending initialization callbacks for block entities in that chunk.
+     * Removes any pending initialization callbacks and client updates for block entities in that chunk, and makes sure
+     * deferred changes are saved with it.
      */
     public void onUnloadChunk(final ChunkEvent.Unload ev) {
         var level = ev.getLevel();
@@ -201,6 +241,21 @@ public void onUnloadChunk(final ChunkEvent.Unload ev) {
 
         if (!level.isClientSide()) {
             this.blockEntities.removeChunk(level, chunk.getPos().pack());
+            this.clientUpdates.removeChunk(level, chunk.getPos().pack());
+            this.deferredSaves.saveChunk(level, chunk);
+        }
+    }
+
+    /**
+     * Handles a level being saved (on the server), i.e. by an autosave.
+     * <p>
+     * Marks the deferred changes of block entities in that level right away, so they are written with it.
+     */
+    public void onSaveLevel(final LevelEvent.Save ev) {
+        var level = ev.getLevel();
+
+        if (!level.isClientSide()) {
+            this.deferredSaves.saveLevel(level);
         }
     }
 
@@ -230,6 +285,8 @@ public void onUnloadLevel(final LevelEvent.Unload ev) {
         }
 
         this.blockEntities.removeLevel(level);
+        this.clientUpdates.removeLevel(level);
+        this.deferredSaves.removeLevel(level);
         this.callQueue.remove(level);
     }
 
@@ -277,6 +334,9 @@ private void onServerLevelTickEnd(LevelTickEvent.Post event) {
                 throw new ReportedException(crashReport);
             }
         }
+
+        this.clientUpdates.send(level);
+        this.deferredSaves.saveExpired(level, this.tickCounter, DEFERRED_SAVE_TICKS);
     }
 
     private void onServerTickStart(ServerTickEvent.Pre event) {
@@ -0,0 +1,53 @@
+package appeng.items.storage;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+import appeng.api.stacks.GenericStack;
+import appeng.me.cells.CellContentsStore;
+
+/**
+ * Stored in place of the content of a storage cell whose content was moved to the {@link CellContentsStore}.
+ *
+ * @param id       The id of the content in the store.
+ * @param revision The revision of the content in the store this cell was last saved with. Copies of a cell share its
+ *                 id, so this is used to detect that another copy has changed the content since.
+ * @param types    The number of stored types, so the cell can be inspected without loading its content.
+ * @param count    The total stored amount.
+ * @param preview  The stacks with the highest amounts. This is only stored in the itemstack to display in the tooltip
+ *                 on the client-side.
+ */
+public record ExternalCellContents(UUID id, int revision, int types, long count, List<GenericStack> preview) {
+    public static final int PREVIEW_SIZE = 8;
+
+    public static final Codec<ExternalCellContents> CODEC = RecordCodecBuilder.create(builder -> builder.group(
+            UUIDUtil.CODEC.fieldOf("id").forGetter(ExternalCellContents::id),
+            Codec.INT.fieldOf("revision").forGetter(ExternalCellContents::revision),
+            Codec.INT.fieldOf("types").forGetter(ExternalCellContents::types),
+            Codec.LONG.fieldOf("count").forGetter(ExternalCellContents::count),
+            GenericStack.FAULT_TOLERANT_LIST_CODEC.optionalFieldOf("preview", List.of())
+                    .forGetter(ExternalCellContents::preview))
+            .apply(builder, ExternalCellContents::new));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, ExternalCellContents> STREAM_CODEC = StreamCodec
+            .composite(
+                    UUIDUtil.STREAM_CODEC,
+                    ExternalCellContents::id,
+                    ByteBufCodecs.VAR_INT,
+                    ExternalCellContents::revision,
+                    ByteBufCodecs.VAR_INT,
+                    ExternalCellContents::types,
+                    ByteBufCodecs.VAR_LONG,
+                    ExternalCellContents::count,
+                    GenericStack.STREAM_CODEC.apply(ByteBufCodecs.list()),
+                    ExternalCellContents::preview,
+                    ExternalCellContents::new);
+}
@@ -60,6 +60,7 @@
 import appeng.hooks.IBlockTool;
 import appeng.items.tools.powered.powersink.AEBasePoweredItem;
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.RecipeIndex;
 import appeng.recipes.entropy.EntropyMode;
 import appeng.recipes.entropy.EntropyRecipe;
 import appeng.util.InteractionUtil;
@@ -72,6 +73,13 @@ public class EntropyManipulatorItem extends AEBasePoweredItem implements IBlockT
      */
     public static final int ENERGY_PER_USE = 1600;
 
+    /**
+     * Recipes without a block input only match by fluid and are candidates for any block.
+     */
+    private static final RecipeIndex.Definition<Block, EntropyRecipe> BY_BLOCK = new RecipeIndex.Definition<>(
+            AERecipeTypes.ENTROPY,
+            recipe -> recipe.getInput().block().map(input -> List.of(input.block())).orElse(null));
+
     public EntropyManipulatorItem(Properties props) {
         super(AEConfig.instance().getEntropyManipulatorBattery(), props);
     }
@@ -280,7 +288,7 @@ private boolean performInWorldSmelting(ItemStack item, ServerLevel level, Player
     @Nullable
     private static EntropyRecipe findRecipe(ServerLevel level, EntropyMode mode, BlockState blockState,
             FluidState fluidState) {
-        for (var holder : level.recipeAccess().recipeMap().byType(AERecipeTypes.ENTROPY)) {
+        for (var holder : RecipeIndex.get(level, BY_BLOCK).getCandidates(blockState.getBlock())) {
             var recipe = holder.value();
             if (recipe.matches(mode, blockState, fluidState)) {
                 return recipe;
@@ -39,6 +39,7 @@
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.tooltip.TooltipComponent;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.component.TooltipDisplay;
@@ -85,6 +86,8 @@
 import appeng.items.tools.powered.powersink.AEBasePoweredItem;
 import appeng.me.helpers.PlayerSource;
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.RecipeIndex;
+import appeng.recipes.mattercannon.MatterCannonAmmo;
 import appeng.util.ConfigInventory;
 import appeng.util.InteractionUtil;
 import appeng.util.LookDirection;
@@ -99,6 +102,9 @@ public class MatterCannonItem extends AEBasePoweredItem implements IBasicCellIte
      */
     private static final int ENERGY_PER_SHOT = 1600;
 
+    private static final RecipeIndex.Definition<Item, MatterCannonAmmo> BY_AMMO = new RecipeIndex.Definition<>(
+            AERecipeTypes.MATTER_CANNON_AMMO, recipe -> RecipeIndex.itemsOf(recipe.getAmmo()));
+
     public MatterCannonItem(Properties props) {
         super(AEConfig.instance().getMatterCannonBattery(), props);
     }
@@ -458,8 +464,8 @@ private float getPenetration(AEItemKey what) {
             return 0;
         }
 
-        var recipes = server.getRecipeManager().recipeMap().byType(AERecipeTypes.MATTER_CANNON_AMMO);
-        for (var holder : recipes) {
+        var recipes = RecipeIndex.get(server.getRecipeManager().recipeMap(), BY_AMMO);
+        for (var holder : recipes.getCandidates(what.getItem())) {
             var ammoRecipe = holder.value();
             if (what.matches(ammoRecipe.getAmmo())) {
                 return ammoRecipe.getWeight();
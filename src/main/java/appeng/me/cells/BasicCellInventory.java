@@ -19,8 +19,11 @@
 package appeng.me.cells;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.UUID;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -42,12 +45,16 @@
 import appeng.api.stacks.GenericStack;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.StorageCells;
+import appeng.api.storage.StorageReservation;
 import appeng.api.storage.cells.CellState;
 import appeng.api.storage.cells.IBasicCellItem;
 import appeng.api.storage.cells.ISaveProvider;
 import appeng.api.storage.cells.StorageCell;
 import appeng.api.upgrades.IUpgradeInventory;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
 import appeng.core.definitions.AEItems;
+import appeng.items.storage.ExternalCellContents;
 import appeng.util.ConfigInventory;
 import appeng.util.prioritylist.FuzzyPriorityList;
 import appeng.util.prioritylist.IPartitionList;
@@ -69,6 +76,11 @@ public class BasicCellInventory implements StorageCell {
     private final long maxItemsPerType; // max items per type, basically infinite unless there is a distribution card.
     private final boolean hasVoidUpgrade;
     private boolean isPersisted = true;
+    // Incremented whenever the content changes, to detect reservations that are no longer valid
+    private int changeCount;
+    // While a batch operation is running, notifying the save provider is deferred until the batch ends
+    private boolean inBatch;
+    private boolean batchChanged;
 
     private BasicCellInventory(IBasicCellItem cellType, ItemStack o, @Nullable ISaveProvider container) {
         this.i = o;
@@ -83,9 +95,16 @@ private BasicCellInventory(IBasicCellItem cellType, ItemStack o, @Nullable ISave
         }
 
         this.container = container;
-        var storedStacks = getStoredStacks();
-        this.storedItems = storedStacks.size();
-        this.storedItemCount = storedStacks.stream().mapToLong(GenericStack::amount).sum();
+        var external = this.i.get(AEComponents.STORAGE_CELL_EXTERNAL_INV);
+        if (external != null) {
+            // Don't load the content from the store just to inspect the cell
+            this.storedItems = external.types();
+            this.storedItemCount = external.count();
+        } else {
+            var storedStacks = this.i.getOrDefault(AEComponents.STORAGE_CELL_INV, List.of());
+            this.storedItems = storedStacks.size();
+            this.storedItemCount = storedStacks.stream().mapToLong(GenericStack::amount).sum();
+        }
         this.storedAmounts = null;
         this.keyType = cellType.getKeyType();
 
@@ -126,7 +145,22 @@ private BasicCellInventory(IBasicCellItem cellType, ItemStack o, @Nullable ISave
     }
 
     private List<GenericStack> getStoredStacks() {
-        return i.getOrDefault(AEComponents.STORAGE_CELL_INV, List.of());
+        var external = i.get(AEComponents.STORAGE_CELL_EXTERNAL_INV);
+        if (external == null) {
+            return i.getOrDefault(AEComponents.STORAGE_CELL_INV, List.of());
+        }
+
+        var store = CellContentsStore.get();
+        if (store == null) {
+            // The full content is only available on the server
+            return external.preview();
+        }
+        var stacks = store.load(external.id());
+        if (stacks == null) {
+            AELog.warn("Content %s of storage cell %s is missing", external.id(), i);
+            return List.of();
+        }
+        return stacks;
     }
 
     public IncludeExclude getPartitionListMode() {
@@ -189,23 +223,54 @@ public void persist() {
             return;
         }
 
-        // add new pretty stuff...
-        var itemCount = 0L;
-        var stacks = new ArrayList<GenericStack>(storedAmounts.size());
-
-        for (var entry : this.storedAmounts.object2LongEntrySet()) {
-            long amount = entry.getLongValue();
-            itemCount += amount;
+        var external = i.get(AEComponents.STORAGE_CELL_EXTERNAL_INV);
+        var store = CellContentsStore.get();
+
+        long itemCount;
+        if (store != null && shouldStoreExternally()) {
+            // Only the summary is stored in the item, the content is written to the store when the world is saved
+            var id = external != null ? external.id() : UUID.randomUUID();
+            var revision = external != null ? external.revision() : 0;
+            if (!store.scheduleWrite(id, revision, this::getStackList)) {
+                // Another copy of this cell has changed the content since, so this copy needs its own
+                id = UUID.randomUUID();
+                revision = 0;
+                store.scheduleWrite(id, revision, this::getStackList);
+            }
 
-            if (amount > 0) {
-                stacks.add(new GenericStack(entry.getKey(), amount));
+            itemCount = 0;
+            var preview = new PriorityQueue<GenericStack>(Comparator.comparingLong(GenericStack::amount));
+            for (var entry : Object2LongMaps.fastIterable(this.storedAmounts)) {
+                long amount = entry.getLongValue();
+                itemCount += amount;
+                if (preview.size() < ExternalCellContents.PREVIEW_SIZE || preview.peek().amount() < amount) {
+                    preview.add(new GenericStack(entry.getKey(), amount));
+                    if (preview.size() > ExternalCellContents.PREVIEW_SIZE) {
+                        preview.poll();
+                    }
+                }
             }
-        }
+            var previewList = new ArrayList<>(preview);
+            previewList.sort(Comparator.comparingLong(GenericStack::amount).reversed());
 
-        if (stacks.isEmpty()) {
             i.remove(AEComponents.STORAGE_CELL_INV);
+            i.set(AEComponents.STORAGE_CELL_EXTERNAL_INV,
+                    new ExternalCellContents(id, revision + 1, storedAmounts.size(), itemCount, previewList));
         } else {
-            i.set(AEComponents.STORAGE_CELL_INV, stacks);
+            if (external != null) {
+                if (store != null) {
+                    store.delete(external.id(), external.revision());
+                }
+                i.remove(AEComponents.STORAGE_CELL_EXTERNAL_INV);
+            }
+
+            var stacks = getStackList();
+            itemCount = stacks.stream().mapToLong(GenericStack::amount).sum();
+            if (stacks.isEmpty()) {
+                i.remove(AEComponents.STORAGE_CELL_INV);
+            } else {
+                i.set(AEComponents.STORAGE_CELL_INV, stacks);
+            }
         }
 
         this.storedItems = (short) this.storedAmounts.size();
@@ -214,6 +279,22 @@ public void persist() {
         this.isPersisted = true;
     }
 
+    private boolean shouldStoreExternally() {
+        var minTypes = AEConfig.instance().getExternalCellContentsMinTypes();
+        return minTypes > 0 && storedAmounts.size() >= minTypes;
+    }
+
+    private List<GenericStack> getStackList() {
+        var stacks = new ArrayList<GenericStack>(storedAmounts.size());
+        for (var entry : Object2LongMaps.fastIterable(this.storedAmounts)) {
+            long amount = entry.getLongValue();
+            if (amount > 0) {
+                stacks.add(new GenericStack(entry.getKey(), amount));
+            }
+        }
+        return stacks;
+    }
+
     protected void saveChanges() {
         // recalculate values
         this.storedItems = (short) this.storedAmounts.size();
@@ -223,6 +304,15 @@ protected void saveChanges() {
         }
 
         this.isPersisted = false;
+        this.changeCount++;
+        if (this.inBatch) {
+            this.batchChanged = true;
+        } else {
+            this.notifySaveProvider();
+        }
+    }
+
+    private void notifySaveProvider() {
         if (this.container != null) {
             this.container.saveChanges();
         } else {
@@ -335,21 +425,28 @@ public CellState getStatus() {
 
     @Override
     public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
-        if (amount == 0 || !keyType.contains(what)) {
+        if (!canInsert(what, amount)) {
             return 0;
         }
 
-        if (!this.partitionList.matchesFilter(what, this.partitionListMode)) {
-            return 0;
+        // Run regular insert logic and then apply void upgrade to the returned value.
+        long inserted = innerInsert(what, amount, mode);
+        return applyVoidUpgrade(what, amount, inserted);
+    }
+
+    private boolean canInsert(AEKey what, long amount) {
+        if (amount == 0 || !keyType.contains(what)) {
+            return false;
         }
 
-        if (this.cellType.isBlackListed(this.i, what)) {
-            return 0;
+        if (!this.partitionList.matchesFilter(what, this.partitionListMode)) {
+            return false;
         }
 
-        // Run regular insert logic and then apply void upgrade to the returned value.
-        long inserted = innerInsert(what, amount, mode);
+        return !this.cellType.isBlackListed(this.i, what);
+    }
 
+    private long applyVoidUpgrade(AEKey what, long amount, long inserted) {
         // In the event that a void card is being used on a (full) unformatted cell, ensure it doesn't void any items
         // that the cell isn't even storing and cannot store to begin with
         if (!isPreformatted() && hasVoidUpgrade && !canHoldNewItem()) {
@@ -359,6 +456,29 @@ public long insert(AEKey what, long amount, Actionable mode, IActionSource sourc
         return hasVoidUpgrade ? amount : inserted;
     }
 
+    @Override
+    public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+        if (!canInsert(what, amount)) {
+            return StorageReservation.EMPTY;
+        }
+
+        var storable = innerInsert(what, amount, Actionable.SIMULATE);
+        var reported = applyVoidUpgrade(what, amount, storable);
+        if (reported <= 0) {
+            return StorageReservation.EMPTY;
+        }
+        return new CellReservation(what, reported, storable, source, true);
+    }
+
+    @Override
+    public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        var possible = Math.min(amount, getCellItems().getLong(what));
+        if (possible <= 0) {
+            return StorageReservation.EMPTY;
+        }
+        return new CellReservation(what, possible, possible, source, false);
+    }
+
     // Inner insert for items that pass the filter.
     private long innerInsert(AEKey what, long amount, Actionable mode) {
         // Prevent non-empty storage cells from being recursively stored inside this cell
@@ -402,6 +522,49 @@ private long innerInsert(AEKey what, long amount, Actionable mode) {
         return amount;
     }
 
+    @Override
+    public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        if (mode == Actionable.SIMULATE) {
+            StorageCell.super.insertAll(what, mode, source, inserted);
+            return;
+        }
+
+        beginBatch();
+        try {
+            StorageCell.super.insertAll(what, mode, source, inserted);
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        if (mode == Actionable.SIMULATE) {
+            StorageCell.super.extractAll(what, mode, source, extracted);
+            return;
+        }
+
+        beginBatch();
+        try {
+            StorageCell.super.extractAll(what, mode, source, extracted);
+        } finally {
+            endBatch();
+        }
+    }
+
+    private void beginBatch() {
+        this.inBatch = true;
+        this.batchChanged = false;
+    }
+
+    private void endBatch() {
+        this.inBatch = false;
+        if (this.batchChanged) {
+            this.batchChanged = false;
+            this.notifySaveProvider();
+        }
+    }
+
     @Override
     public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
         var currentAmount = getCellItems().getLong(what);
@@ -430,4 +593,71 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
     public Component getDescription() {
         return i.getHoverName();
     }
+
+    /**
+     * Applies a previously simulated operation directly, unless the cell was modified since the simulation.
+     */
+    private class CellReservation implements StorageReservation {
+        private final AEKey what;
+        private final long amount;
+        // How much of the amount is actually stored or taken, the rest is voided
+        private final long stored;
+        private final IActionSource source;
+        private final boolean insert;
+        private final int changeCount;
+        private boolean done;
+
+        CellReservation(AEKey what, long amount, long stored, IActionSource source, boolean insert) {
+            this.what = what;
+            this.amount = amount;
+            this.stored = stored;
+            this.source = source;
+            this.insert = insert;
+            this.changeCount = BasicCellInventory.this.changeCount;
+        }
+
+        @Override
+        public long amount() {
+            return amount;
+        }
+
+        @Override
+        public long commit(long amount) {
+            if (done) {
+                return 0;
+            }
+            done = true;
+
+            amount = Math.min(amount, this.amount);
+            if (amount <= 0) {
+                return 0;
+            }
+
+            if (changeCount != BasicCellInventory.this.changeCount) {
+                return insert
+                        ? insert(what, amount, Actionable.MODULATE, source)
+                        : extract(what, amount, Actionable.MODULATE, source);
+            }
+
+            var toStore = Math.min(amount, stored);
+            if (toStore > 0) {
+                var cellItems = getCellItems();
+                var currentAmount = cellItems.getLong(what);
+                if (insert) {
+                    cellItems.put(what, currentAmount + toStore);
+                } else if (currentAmount <= toStore) {
+                    cellItems.removeLong(what);
+                } else {
+                    cellItems.put(what, currentAmount - toStore);
+                }
+                saveChanges();
+            }
+            return amount;
+        }
+
+        @Override
+        public void release() {
+            done = true;
+        }
+    }
 }
@@ -0,0 +1,588 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cells;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import appeng.api.ids.AEComponents;
+import appeng.api.stacks.GenericStack;
+import appeng.util.Platform;
+
+/**
+ * Stores the content of storage cells outside of their item, in an append-only log file per world. This keeps large
+ * cells out of the chunk and player data, which would otherwise be serialized on every autosave.
+ * <p>
+ * Changed content is only written when the world is saved. Every write appends a new record for the cell, so the file
+ * is compacted on a background thread once most of it consists of outdated records. Records are read from the file
+ * lazily, when a cell is first accessed.
+ * <p>
+ * Deleted content is only removed from the file after the world has been saved without the cell referencing it, so a
+ * crash in between can't leave the saved cell without its content. Copies of a cell item share the id of its content,
+ * so every record has a revision that is also stored in the item. A copy that changes content which another copy has
+ * changed since has to move its content to a new id.
+ * <p>
+ * The store may be used from any server-side thread.
+ */
+public final class CellContentsStore {
+    private static final Logger LOG = LoggerFactory.getLogger(CellContentsStore.class);
+
+    private static final String FILENAME = "ae2_cell_contents.log";
+    private static final int MAGIC = 0x41453243; // AE2C
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    // UUID + revision + payload length
+    private static final int RECORD_HEADER_SIZE = 24;
+    // Payload length of a record marking the content as deleted
+    private static final int DELETED = -1;
+    // Don't bother compacting small files, even if most of them is garbage
+    private static final long MIN_COMPACTION_GARBAGE = 1024 * 1024;
+
+    private static final ExecutorService COMPACTION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "AE Cell Contents Compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Nullable
+    private static volatile CellContentsStore current;
+
+    private final Path path;
+    private final HolderLookup.Provider registries;
+    private FileChannel channel;
+    /**
+     * Location of the payload of the last record for each stored content.
+     */
+    private Map<UUID, Entry> index = new HashMap<>();
+    /**
+     * Content that changed since the last save, written when the world is saved.
+     */
+    private final Map<UUID, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    /**
+     * Content that was deleted, mapped to the number of saves that had been started at that time. It is only removed
+     * from the file once another save has completed since.
+     */
+    private final Map<UUID, Integer> pendingDeletes = new LinkedHashMap<>();
+    private int saves;
+    private long lastSaveTick = -1;
+    private long end;
+    private long garbage;
+    private boolean needsSync;
+    @Nullable
+    private Compaction compaction;
+
+    @VisibleForTesting
+    CellContentsStore(Path path, HolderLookup.Provider registries) throws IOException {
+        this.path = path;
+        this.registries = registries;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        readIndex();
+    }
+
+    /**
+     * @return The store of the running server, or null if called outside a server-side thread.
+     */
+    @Nullable
+    public static CellContentsStore get() {
+        return Platform.isServer() ? current : null;
+    }
+
+    public static void open(MinecraftServer server) {
+        close();
+
+        var path = server.getWorldPath(LevelResource.ROOT).resolve(FILENAME);
+        try {
+            current = new CellContentsStore(path, server.registryAccess());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open storage cell contents " + path, e);
+        }
+    }
+
+    public static void close() {
+        var store = current;
+        current = null;
+        if (store != null) {
+            try {
+                store.shutdown();
+            } catch (IOException e) {
+                LOG.error("Failed to close storage cell contents {}", store.path, e);
+            }
+        }
+    }
+
+    public static void onLevelSave(LevelEvent.Save event) {
+        var store = current;
+        if (store != null && event.getLevel() instanceof ServerLevel level) {
+            try {
+                store.save(level.getServer().getTickCount());
+            } catch (IOException e) {
+                LOG.error("Failed to save storage cell contents to {}", store.path, e);
+            }
+        }
+    }
+
+    /**
+     * Deletes the content of storage cells whose item entity was destroyed for certain, i.e. by despawning.
+     */
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        var store = current;
+        if (store != null && !event.getLevel().isClientSide() && event.getEntity() instanceof ItemEntity itemEntity
+                && isDestroyed(itemEntity)) {
+            var external = itemEntity.getItem().get(AEComponents.STORAGE_CELL_EXTERNAL_INV);
+            if (external != null) {
+                store.delete(external.id(), external.revision());
+            }
+        }
+    }
+
+    /**
+     * Checks whether an item entity that is being removed destroys its item. Only killed and despawned item entities
+     * count. Item entities are also discarded when they are picked up, i.e. by allays or by other mods, which don't
+     * necessarily empty the entity first. Since being destroyed by damage looks the same, the content of such cells is
+     * kept, which only costs some space in the store.
+     */
+    @VisibleForTesting
+    static boolean isDestroyed(ItemEntity itemEntity) {
+        if (itemEntity.getItem().isEmpty()) {
+            return false;
+        }
+        var reason = itemEntity.getRemovalReason();
+        if (reason == Entity.RemovalReason.KILLED) {
+            return true;
+        }
+        // Despawning item entities are discarded once they reach their lifespan
+        return reason == Entity.RemovalReason.DISCARDED && itemEntity.getAge() >= itemEntity.lifespan;
+    }
+
+    public static void onServerTick(ServerTickEvent.Post event) {
+        var store = current;
+        if (store != null) {
+            try {
+                store.finishCompaction(false);
+            } catch (IOException e) {
+                LOG.error("Failed to compact storage cell contents {}", store.path, e);
+            }
+        }
+    }
+
+    /**
+     * Loads the content with the given id.
+     *
+     * @return The stored stacks, or null if there is no content with this id.
+     */
+    @Nullable
+    public synchronized List<GenericStack> load(UUID id) {
+        var pending = pendingWrites.get(id);
+        if (pending != null) {
+            return pending.content().get();
+        }
+
+        var entry = index.get(id);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            var tag = NbtIo.read(new DataInputStream(new ByteArrayInputStream(readPayload(channel, entry))),
+                    NbtAccounter.unlimitedHeap());
+            var ops = registries.createSerializationContext(NbtOps.INSTANCE);
+            return GenericStack.FAULT_TOLERANT_LIST_CODEC.parse(ops, tag.get("stacks"))
+                    .resultOrPartial(err -> LOG.error("Failed to read storage cell contents {}: {}", id, err))
+                    .orElse(List.of());
+        } catch (IOException e) {
+            LOG.error("Failed to read storage cell contents {} from {}", id, path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Schedules the content with the given id to be written with the next save. The content is retrieved from the
+     * supplier at that time.
+     *
+     * @param revision The revision of the content the cell was loaded from. The written content has the next revision.
+     * @return False if another copy of the cell has changed the content since. Nothing is written in that case, and
+     *         the content must be written under a new id instead.
+     */
+    public synchronized boolean scheduleWrite(UUID id, int revision, Supplier<List<GenericStack>> content) {
+        var currentRevision = getRevision(id);
+        if (currentRevision >= 0 && currentRevision != revision) {
+            return false;
+        }
+        pendingDeletes.remove(id);
+        pendingWrites.put(id, new PendingWrite(revision + 1, content));
+        return true;
+    }
+
+    /**
+     * Deletes the content with the given id. The deletion is ignored if another copy of the cell has changed the
+     * content since.
+     *
+     * @param revision The revision of the content the cell was loaded from.
+     */
+    public synchronized void delete(UUID id, int revision) {
+        if (getRevision(id) != revision) {
+            return;
+        }
+        pendingWrites.remove(id);
+        if (index.containsKey(id)) {
+            pendingDeletes.put(id, saves);
+        }
+    }
+
+    /**
+     * @return The revision of the current content with the given id, or -1 if there is no such content.
+     */
+    private int getRevision(UUID id) {
+        var pending = pendingWrites.get(id);
+        if (pending != null) {
+            return pending.revision();
+        }
+        var entry = index.get(id);
+        return entry != null ? entry.revision() : -1;
+    }
+
+    /**
+     * Writes changed content as part of saving the world, and starts compacting the file if it contains too many
+     * outdated records. This is called once per saved level, with the server tick that the save happened in.
+     */
+    @VisibleForTesting
+    synchronized void save(long tick) throws IOException {
+        if (tick != lastSaveTick) {
+            lastSaveTick = tick;
+            saves++;
+        }
+
+        // The previous save has completed, so content deleted before it started isn't referenced by saved cells anymore
+        flush(saves - 2);
+
+        if (compaction == null && garbage >= MIN_COMPACTION_GARBAGE && garbage > end / 2) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * @param maxDeleteSave Content deleted before this save was started is removed from the file.
+     */
+    private void flush(int maxDeleteSave) throws IOException {
+        if (!pendingWrites.isEmpty()) {
+            var ops = registries.createSerializationContext(NbtOps.INSTANCE);
+            for (var pending : pendingWrites.entrySet()) {
+                var stacks = GenericStack.FAULT_TOLERANT_LIST_CODEC.encodeStart(ops, pending.getValue().content().get())
+                        .resultOrPartial(err -> LOG.error("Failed to write storage cell contents {}: {}",
+                                pending.getKey(), err));
+                if (stacks.isEmpty()) {
+                    continue;
+                }
+                var tag = new CompoundTag();
+                tag.put("stacks", stacks.get());
+                var bytes = new ByteArrayOutputStream();
+                NbtIo.write(tag, new DataOutputStream(bytes));
+                append(pending.getKey(), pending.getValue().revision(), bytes.toByteArray());
+            }
+            pendingWrites.clear();
+        }
+
+        var it = pendingDeletes.entrySet().iterator();
+        while (it.hasNext()) {
+            var pending = it.next();
+            if (pending.getValue() <= maxDeleteSave) {
+                append(pending.getKey(), index.get(pending.getKey()).revision(), null);
+                it.remove();
+            }
+        }
+
+        if (needsSync) {
+            channel.force(false);
+            needsSync = false;
+        }
+    }
+
+    /**
+     * Writes all changes once the server has stopped. The world has been saved completely at this point, so all
+     * deleted content is removed as well.
+     */
+    @VisibleForTesting
+    synchronized void shutdown() throws IOException {
+        try {
+            flush(Integer.MAX_VALUE);
+            finishCompaction(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Closes the file without writing pending changes, as if the server had crashed.
+     */
+    @VisibleForTesting
+    synchronized void closeWithoutSaving() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @param payload The payload to write, or null to mark the content as deleted.
+     */
+    private void append(UUID id, int revision, @Nullable byte[] payload) throws IOException {
+        int length = payload != null ? payload.length : DELETED;
+        var buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + Math.max(0, length));
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        buffer.putInt(revision);
+        buffer.putInt(length);
+        if (payload != null) {
+            buffer.put(payload);
+        }
+        buffer.flip();
+        writeFully(channel, buffer, end);
+
+        var previous = payload != null
+                ? index.put(id, new Entry(end + RECORD_HEADER_SIZE, length, revision))
+                : index.remove(id);
+        if (previous != null) {
+            garbage += RECORD_HEADER_SIZE + previous.length();
+        }
+        if (payload == null) {
+            garbage += RECORD_HEADER_SIZE;
+        }
+        end += buffer.limit();
+        needsSync = true;
+    }
+
+    private void readIndex() throws IOException {
+        long size = channel.size();
+        if (size < FILE_HEADER_SIZE) {
+            var header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+            channel.truncate(0);
+            writeFully(channel, header, 0);
+            end = FILE_HEADER_SIZE;
+            return;
+        }
+
+        var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unknown file format");
+        }
+
+        long pos = FILE_HEADER_SIZE;
+        try {
+            while (pos + RECORD_HEADER_SIZE <= size) {
+                var id = new UUID(in.readLong(), in.readLong());
+                int revision = in.readInt();
+                int length = in.readInt();
+                if (length < DELETED || length > 0 && pos + RECORD_HEADER_SIZE + length > size) {
+                    break;
+                }
+                Entry previous;
+                if (length == DELETED) {
+                    previous = index.remove(id);
+                    garbage += RECORD_HEADER_SIZE;
+                } else {
+                    in.skipNBytes(length);
+                    previous = index.put(id, new Entry(pos + RECORD_HEADER_SIZE, length, revision));
+                }
+                if (previous != null) {
+                    garbage += RECORD_HEADER_SIZE + previous.length();
+                }
+                pos += RECORD_HEADER_SIZE + Math.max(0, length);
+            }
+        } catch (EOFException ignored) {
+        }
+
+        if (pos < size) {
+            // The last record was only partially written, i.e. because the server crashed
+            LOG.warn("Discarding {} bytes of incomplete storage cell contents at the end of {}", size - pos, path);
+            channel.truncate(pos);
+        }
+        end = pos;
+    }
+
+    @VisibleForTesting
+    synchronized void startCompaction() {
+        var snapshot = Map.copyOf(index);
+        var source = channel;
+        var target = path.resolveSibling(FILENAME + ".compact");
+        var future = CompletableFuture.supplyAsync(() -> {
+            try (var out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(out, ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip(), 0);
+                long pos = FILE_HEADER_SIZE;
+                var compactedIndex = new HashMap<UUID, Entry>(snapshot.size());
+                for (var entry : snapshot.entrySet()) {
+                    pos += copyRecord(source, entry.getKey(), entry.getValue(), out, pos, compactedIndex);
+                }
+                return new CompactedFile(compactedIndex, pos);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, COMPACTION_EXECUTOR);
+        compaction = new Compaction(snapshot, target, future);
+    }
+
+    /**
+     * Replaces the log file with its compacted copy once the compaction has finished. Content changed while the
+     * compaction was running is copied over from the old file.
+     *
+     * @param wait Whether to wait for a running compaction.
+     */
+    @VisibleForTesting
+    synchronized void finishCompaction(boolean wait) throws IOException {
+        if (compaction == null || !wait && !compaction.future().isDone()) {
+            return;
+        }
+        var finished = compaction;
+        compaction = null;
+
+        CompactedFile compacted;
+        try {
+            compacted = finished.future().join();
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(finished.target());
+            throw new IOException("Failed to compact storage cell contents", e);
+        }
+
+        var newIndex = compacted.index();
+        long newEnd = compacted.end();
+        try (var out = FileChannel.open(finished.target(), StandardOpenOption.WRITE)) {
+            for (var entry : index.entrySet()) {
+                if (!entry.getValue().equals(finished.snapshot().get(entry.getKey()))) {
+                    newEnd += copyRecord(channel, entry.getKey(), entry.getValue(), out, newEnd, newIndex);
+                }
+            }
+            // Content deleted while compacting must not come back
+            for (var id : finished.snapshot().keySet()) {
+                if (!index.containsKey(id)) {
+                    var tombstone = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+                    tombstone.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+                            .putInt(finished.snapshot().get(id).revision()).putInt(DELETED).flip();
+                    writeFully(out, tombstone, newEnd);
+                    newEnd += RECORD_HEADER_SIZE;
+                    newIndex.remove(id);
+                }
+            }
+            out.force(false);
+        }
+
+        long oldSize = end;
+        channel.close();
+        Files.move(finished.target(), path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = newIndex;
+        end = newEnd;
+        garbage = 0;
+        needsSync = false;
+        LOG.debug("Compacted storage cell contents from {} to {} bytes", oldSize, newEnd);
+    }
+
+    /**
+     * Copies a record to another file.
+     *
+     * @return The number of bytes written.
+     */
+    private static int copyRecord(FileChannel source, UUID id, Entry entry, FileChannel target, long pos,
+            Map<UUID, Entry> targetIndex) throws IOException {
+        var buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + entry.length());
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+                .putInt(entry.revision()).putInt(entry.length());
+        buffer.put(readPayload(source, entry));
+        buffer.flip();
+        writeFully(target, buffer, pos);
+        targetIndex.put(id, new Entry(pos + RECORD_HEADER_SIZE, entry.length(), entry.revision()));
+        return buffer.limit();
+    }
+
+    private static byte[] readPayload(FileChannel channel, Entry entry) throws IOException {
+        var buffer = ByteBuffer.allocate(entry.length());
+        long pos = entry.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, pos);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            pos += read;
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long pos) throws IOException {
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+
+    /**
+     * @param offset Offset of the payload in the file.
+     */
+    private record Entry(long offset, int length, int revision) {
+    }
+
+    private record PendingWrite(int revision, Supplier<List<GenericStack>> content) {
+    }
+
+    private record CompactedFile(Map<UUID, Entry> index, long end) {
+    }
+
+    /**
+     * @param snapshot The index at the time the compaction was started.
+     */
+    private record Compaction(Map<UUID, Entry> snapshot, Path target, CompletableFuture<CompactedFile> future) {
+    }
+}
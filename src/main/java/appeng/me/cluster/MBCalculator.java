@@ -56,14 +56,21 @@ public static boolean isModificationInProgress() {
         return modificationInProgress.get() != null;
     }
 
+    /**
+     * Skips recalculating the multiblock for neighbor changes that can't affect its shape. Any other change falls back
+     * to recalculating the entire multiblock.
+     */
     public void updateMultiblockAfterNeighborChange(ServerLevel level, BlockPos loc, BlockPos changedPos) {
         boolean recheck;
 
         TCluster cluster = target.getCluster();
         if (cluster != null) {
             if (isWithinBounds(changedPos, cluster.getBoundsMin(), cluster.getBoundsMax())) {
-                // If the location is part of the current multiblock, always re-check
-                recheck = true;
+                // If the block is still a member of this multiblock, its shape didn't change (i.e. the neighbor
+                // only changed its state or data). Otherwise the cuboid now has a hole and needs to be re-checked.
+                recheck = !(level.getBlockEntity(changedPos) instanceof IAEMultiBlock<?> member
+                        && this.isValidBlockEntity((BlockEntity) member)
+                        && member.getCluster() == cluster);
             } else {
                 // If the location is outside, only re-check if it would now be considered part
                 // of it
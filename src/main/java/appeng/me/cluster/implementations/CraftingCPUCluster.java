@@ -46,6 +46,7 @@
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.GenericStack;
 import appeng.api.util.IConfigManager;
+import appeng.blockentity.AEBaseBlockEntity;
 import appeng.blockentity.crafting.CraftingBlockEntity;
 import appeng.blockentity.crafting.CraftingMonitorBlockEntity;
 import appeng.crafting.execution.CraftingCpuLogic;
@@ -171,6 +172,16 @@ public void markDirty() {
         this.getCore().saveChanges();
     }
 
+    /**
+     * Marks the progress of the running job as changed. Since this happens on nearly every tick while crafting, the
+     * core is only saved periodically.
+     *
+     * @see AEBaseBlockEntity#saveChangesDeferred()
+     */
+    public void markProgressDirty() {
+        this.getCore().saveChangesDeferred();
+    }
+
     public void updateOutput(GenericStack finalOutput) {
         var send = finalOutput;
 
@@ -19,7 +19,12 @@
 package appeng.me.helpers;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
@@ -30,6 +35,10 @@
 
     private final Multimap<AEKey, T> container;
     private final Set<T> allStacksWatchers = Sets.newIdentityHashSet();
+    /**
+     * Watchers that are only interested in an amount crossing a threshold, sorted by threshold for every key.
+     */
+    private final Map<AEKey, NavigableMap<Long, Set<T>>> thresholds = new HashMap<>();
 
     public InterestManager(Multimap<AEKey, T> interests) {
         this.container = interests;
@@ -43,6 +52,42 @@ public boolean remove(AEKey stack, T iw) {
         return this.container.remove(stack, iw);
     }
 
+    public void putThreshold(AEKey stack, long threshold, T iw) {
+        this.thresholds.computeIfAbsent(stack, k -> new TreeMap<>())
+                .computeIfAbsent(threshold, k -> Sets.newIdentityHashSet())
+                .add(iw);
+    }
+
+    public void removeThreshold(AEKey stack, long threshold, T iw) {
+        var keyThresholds = this.thresholds.get(stack);
+        if (keyThresholds == null) {
+            return;
+        }
+        var watchers = keyThresholds.get(threshold);
+        if (watchers != null && watchers.remove(iw) && watchers.isEmpty()) {
+            keyThresholds.remove(threshold);
+            if (keyThresholds.isEmpty()) {
+                this.thresholds.remove(stack);
+            }
+        }
+    }
+
+    /**
+     * Passes the watchers of all thresholds of the given key that were crossed by changing its amount from the old to
+     * the new amount to the consumer.
+     */
+    public void forEachCrossedThreshold(AEKey stack, long oldAmount, long newAmount, Consumer<T> consumer) {
+        var keyThresholds = this.thresholds.get(stack);
+        if (keyThresholds == null || oldAmount == newAmount) {
+            return;
+        }
+        // A threshold is crossed if exactly one of the amounts is at least the threshold
+        var crossed = keyThresholds.subMap(Math.min(oldAmount, newAmount), false, Math.max(oldAmount, newAmount), true);
+        for (var watchers : crossed.values()) {
+            watchers.forEach(consumer);
+        }
+    }
+
     public void setWatchAll(boolean watchAll, T watcher) {
         if (watchAll) {
             allStacksWatchers.add(watcher);
@@ -64,6 +109,6 @@ public Collection<T> getAllStacksWatchers() {
     }
 
     public boolean isEmpty() {
-        return allStacksWatchers.isEmpty() && container.isEmpty();
+        return allStacksWatchers.isEmpty() && container.isEmpty() && thresholds.isEmpty();
     }
 }
@@ -15,6 +15,7 @@
     private final InterestManager<StackWatcher<T>> interestManager;
     private final T myHost;
     private final Set<AEKey> myInterests = new HashSet<>();
+    private final Set<Threshold> myThresholds = new HashSet<>();
     private boolean destroyed = false;
 
     public StackWatcher(InterestManager<StackWatcher<T>> interestManager, T host) {
@@ -47,10 +48,29 @@ public void remove(AEKey o) {
         }
     }
 
+    @Override
+    public void addThreshold(AEKey stack, long threshold) {
+        if (!destroyed && this.myThresholds.add(new Threshold(stack, threshold))) {
+            interestManager.putThreshold(stack, threshold, this);
+        }
+    }
+
+    @Override
+    public void removeThreshold(AEKey stack, long threshold) {
+        if (!destroyed && this.myThresholds.remove(new Threshold(stack, threshold))) {
+            interestManager.removeThreshold(stack, threshold, this);
+        }
+    }
+
     @Override
     public void reset() {
         setWatchAll(false);
 
+        for (var threshold : this.myThresholds) {
+            interestManager.removeThreshold(threshold.what(), threshold.amount(), this);
+        }
+        this.myThresholds.clear();
+
         final Iterator<AEKey> i = this.myInterests.iterator();
 
         while (i.hasNext()) {
@@ -68,4 +88,7 @@ public void destroy() {
         reset();
         destroyed = true;
     }
+
+    private record Threshold(AEKey what, long amount) {
+    }
 }
@@ -30,6 +30,7 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
@@ -125,14 +126,13 @@ public class CraftingService implements ICraftingService, IGridServiceProvider {
     private final Set<AEKey> currentlyCrafting = new HashSet<>();
     private final Set<AEKey> currentlyCraftable = new HashSet<>();
     private long lastProcessedCraftingLogicChangeTick;
-    private long lastProcessedCraftableChangeTick;
+    private long lastProcessedCraftablesVersion;
     private boolean updateList = false;
 
     public CraftingService(IGrid grid, IStorageService storageGrid, IEnergyService energyGrid) {
         this.grid = grid;
         this.energyGrid = energyGrid;
         this.lastProcessedCraftingLogicChangeTick = TickHandler.instance().getCurrentTick();
-        this.lastProcessedCraftableChangeTick = TickHandler.instance().getCurrentTick();
 
         storageGrid.addGlobalStorageProvider(new CraftingServiceStorage(this));
     }
@@ -183,37 +183,62 @@ public void onServerEndTick() {
             }
         }
 
-        // Throttle updates of craftables to once every 10 ticks
-        if (lastProcessedCraftableChangeTick != craftingProviders.getLastModifiedOnTick()) {
-            lastProcessedCraftableChangeTick = craftingProviders.getLastModifiedOnTick();
-
-            // If everything is empty, there's nothing to do
-            if (!currentlyCraftable.isEmpty() || !craftingProviders.getCraftableKeys().isEmpty()
-                    || !craftingProviders.getEmittableKeys().isEmpty()) {
-                Set<AEKey> previouslyCraftable = currentlyCraftable.isEmpty() ? Set.of()
-                        : new HashSet<>(currentlyCraftable);
-                this.currentlyCraftable.clear();
-                currentlyCraftable.addAll(craftingProviders.getCraftableKeys());
-                currentlyCraftable.addAll(craftingProviders.getEmittableKeys());
-
-                // Only perform the change tracking if there are watchers
-                if (!interests.isEmpty()) {
-                    var changedCraftable = new HashSet<AEKey>();
-                    changedCraftable.addAll(Sets.difference(previouslyCraftable, currentlyCraftable));
-                    changedCraftable.addAll(Sets.difference(currentlyCraftable, previouslyCraftable));
-                    for (var what : changedCraftable) {
-                        for (var watcher : interestManager.get(what)) {
-                            watcher.getHost().onCraftableChange(what);
-                        }
-                        for (var watcher : interestManager.getAllStacksWatchers()) {
-                            watcher.getHost().onCraftableChange(what);
-                        }
-                    }
+        // Only look at the keys whose craftable state may have changed, unless those changes are no longer known
+        var craftablesVersion = craftingProviders.getCraftablesVersion();
+        if (lastProcessedCraftablesVersion != craftablesVersion) {
+            if (!craftingProviders.getCraftableChangesSince(lastProcessedCraftablesVersion,
+                    this::onCraftableChanged)) {
+                updateAllCraftables();
+            }
+            lastProcessedCraftablesVersion = craftablesVersion;
+        }
+    }
+
+    private void onCraftableChanged(AEKey what) {
+        boolean changed;
+        if (craftingProviders.getCraftableKeys().contains(what)
+                || craftingProviders.getEmittableKeys().contains(what)) {
+            changed = currentlyCraftable.add(what);
+        } else {
+            changed = currentlyCraftable.remove(what);
+        }
+
+        if (changed && !interests.isEmpty()) {
+            postCraftableChange(what);
+        }
+    }
+
+    private void updateAllCraftables() {
+        // If everything is empty, there's nothing to do
+        if (!currentlyCraftable.isEmpty() || !craftingProviders.getCraftableKeys().isEmpty()
+                || !craftingProviders.getEmittableKeys().isEmpty()) {
+            Set<AEKey> previouslyCraftable = currentlyCraftable.isEmpty() ? Set.of()
+                    : new HashSet<>(currentlyCraftable);
+            this.currentlyCraftable.clear();
+            currentlyCraftable.addAll(craftingProviders.getCraftableKeys());
+            currentlyCraftable.addAll(craftingProviders.getEmittableKeys());
+
+            // Only perform the change tracking if there are watchers
+            if (!interests.isEmpty()) {
+                var changedCraftable = new HashSet<AEKey>();
+                changedCraftable.addAll(Sets.difference(previouslyCraftable, currentlyCraftable));
+                changedCraftable.addAll(Sets.difference(currentlyCraftable, previouslyCraftable));
+                for (var what : changedCraftable) {
+                    postCraftableChange(what);
                 }
             }
         }
     }
 
+    private void postCraftableChange(AEKey what) {
+        for (var watcher : interestManager.get(what)) {
+            watcher.getHost().onCraftableChange(what);
+        }
+        for (var watcher : interestManager.getAllStacksWatchers()) {
+            watcher.getHost().onCraftableChange(what);
+        }
+    }
+
     @Override
     public void removeNode(IGridNode gridNode) {
 
@@ -272,6 +297,16 @@ public Set<AEKey> getCraftables(AEKeyFilter filter) {
         return craftingProviders.getCraftables(filter);
     }
 
+    @Override
+    public long getCraftablesVersion() {
+        return craftingProviders.getCraftablesVersion();
+    }
+
+    @Override
+    public boolean getCraftableChangesSince(long version, Consumer<AEKey> changedKeys) {
+        return craftingProviders.getCraftableChangesSince(version, changedKeys);
+    }
+
     private void updateCPUClusters() {
         this.craftingCPUClusters.clear();
 
@@ -317,8 +352,7 @@ public Collection<IPatternDetails> getCraftingFor(AEKey whatToCraft) {
 
     @Override
     public void refreshNodeCraftingProvider(IGridNode node) {
-        this.craftingProviders.removeProvider(node);
-        this.craftingProviders.addProvider(node);
+        this.craftingProviders.refreshProvider(node);
     }
 
     @Override
@@ -333,8 +367,7 @@ public void removeGlobalCraftingProvider(ICraftingProvider cc) {
 
     @Override
     public void refreshGlobalCraftingProvider(ICraftingProvider cc) {
-        this.craftingProviders.removeProvider(cc);
-        this.craftingProviders.addProvider(cc);
+        this.craftingProviders.refreshProvider(cc);
     }
 
     @Nullable
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.nbt.CompoundTag;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridService;
+import appeng.api.networking.IGridServiceProvider;
+import appeng.api.networking.IManagedGridNode;
+import appeng.helpers.patternprovider.PatternContainer;
+
+/**
+ * Relays changes of the {@link PatternContainer}s in a grid to interested listeners (i.e. open pattern access
+ * terminals), so they don't have to scan every container each tick.
+ * <p>
+ * Containers joining or leaving the grid are detected by this service. Anything else has to be published by the
+ * containers themselves through {@link #publish}.
+ */
+public class PatternContainerService implements IGridService, IGridServiceProvider {
+    /**
+     * Listeners are held weakly, so a menu that was never properly closed doesn't stay registered forever.
+     */
+    private final Set<Listener> listeners = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public PatternContainerService(IGrid g) {
+    }
+
+    public static PatternContainerService get(IGrid grid) {
+        return grid.getService(PatternContainerService.class);
+    }
+
+    /**
+     * Publishes a change of the given container to the grid it is currently connected to, if any.
+     */
+    public static void publish(IManagedGridNode mainNode, PatternContainer container, Change change) {
+        var grid = mainNode.getGrid();
+        if (grid != null) {
+            get(grid).onContainerChanged(container, change);
+        }
+    }
+
+    @Override
+    public void removeNode(IGridNode node) {
+        if (node.getOwner() instanceof PatternContainer container) {
+            onContainerChanged(container, Change.REMOVED);
+        }
+    }
+
+    @Override
+    public void addNode(IGridNode node, @Nullable CompoundTag savedData) {
+        if (node.getOwner() instanceof PatternContainer container) {
+            onContainerChanged(container, Change.ADDED);
+        }
+    }
+
+    public void addListener(Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    public void onContainerChanged(PatternContainer container, Change change) {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+        // Listeners may unregister themselves in response
+        for (var listener : new ArrayList<>(this.listeners)) {
+            listener.onPatternContainerChanged(container, change);
+        }
+    }
+
+    public enum Change {
+        /**
+         * The container joined the grid.
+         */
+        ADDED,
+        /**
+         * The container left the grid.
+         */
+        REMOVED,
+        /**
+         * The {@linkplain PatternContainer#getTerminalGroup() group} of the container may have changed, i.e. because
+         * the machine next to it was replaced.
+         */
+        GROUP_CHANGED,
+        /**
+         * Any of the patterns in the {@linkplain PatternContainer#getTerminalPatternInventory() pattern inventory}
+         * changed.
+         */
+        PATTERNS_CHANGED,
+        /**
+         * The {@linkplain PatternContainer#isVisibleInTerminal() terminal visibility setting} of the container
+         * changed.
+         */
+        VISIBILITY_CHANGED
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onPatternContainerChanged(PatternContainer container, Change change);
+    }
+}
@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -46,6 +47,7 @@
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridServiceProvider;
 import appeng.api.networking.storage.IStorageService;
@@ -62,6 +64,11 @@
 
 public class StorageService implements IStorageService, IGridServiceProvider {
     private static final Gson GSON = new Gson();
+    /**
+     * How many ticks {@link #storedVariants} may go without being synced with the actual network content, to pick up
+     * keys that entered the network without being inserted into it.
+     */
+    private static final int STORED_VARIANTS_MAX_AGE = 100;
 
     /**
      * Tracks the storage service's state for each grid node that provides storage to the network.
@@ -93,12 +100,29 @@ public class StorageService implements IStorageService, IGridServiceProvider {
 
     private final StatsAccumulator inventoryRefreshStats = new StatsAccumulator();
 
+    /**
+     * Keys known to be stored in the network, for {@link #findFuzzyVariants}. Resynced from the cached stacks once they
+     * are stale or the mounted storage changed, and updated for every insertion in between. Amounts are not tracked.
+     */
+    private final KeyCounter storedVariants = new KeyCounter();
+    private boolean storedVariantsSynced;
+    private int storedVariantsAge;
+
     public StorageService() {
         this.storage = new NetworkStorage();
+        this.storage.setInsertListener(this::onInserted);
+    }
+
+    private void onInserted(AEKey what) {
+        if (storedVariantsSynced) {
+            storedVariants.set(what, 1);
+        }
     }
 
     @Override
     public void onServerEndTick() {
+        storedVariantsAge++;
+
         if (interestManager.isEmpty()) {
             // lazily rebuild cache list
             cachedStacksNeedUpdate = true;
@@ -120,19 +144,30 @@ private void updateCachedStacks() {
             // so ensure that the outer map gets cleaned up too
             cachedAvailableStacks.removeEmptySubmaps();
 
+            if (isStoredVariantsStale()) {
+                storedVariants.clear();
+                for (var entry : cachedAvailableStacks) {
+                    storedVariants.set(entry.getKey(), 1);
+                }
+                storedVariants.removeEmptySubmaps();
+                storedVariantsSynced = true;
+                storedVariantsAge = 0;
+            }
+
             // Post watcher update for currently available stacks
             for (var entry : cachedAvailableStacks) {
                 var what = entry.getKey();
                 var newAmount = entry.getLongValue();
-                if (newAmount != cachedAvailableAmounts.getLong(what)) {
-                    postWatcherUpdate(what, newAmount);
+                var oldAmount = cachedAvailableAmounts.getLong(what);
+                if (newAmount != oldAmount) {
+                    postWatcherUpdate(what, oldAmount, newAmount);
                 }
             }
             // Post watcher update for removed stacks
             for (var what : cachedAvailableAmounts.keySet()) {
                 var newAmount = cachedAvailableStacks.get(what);
                 if (newAmount == 0) {
-                    postWatcherUpdate(what, newAmount);
+                    postWatcherUpdate(what, cachedAvailableAmounts.getLong(what), newAmount);
                 }
             }
 
@@ -146,10 +181,12 @@ private void updateCachedStacks() {
         }
     }
 
-    private void postWatcherUpdate(AEKey what, long newAmount) {
+    private void postWatcherUpdate(AEKey what, long oldAmount, long newAmount) {
         for (var watcher : interestManager.get(what)) {
             watcher.getHost().onStackChange(what, newAmount);
         }
+        interestManager.forEachCrossedThreshold(what, oldAmount, newAmount,
+                watcher -> watcher.getHost().onStackChange(what, newAmount));
         for (var watcher : interestManager.getAllStacksWatchers()) {
             watcher.getHost().onStackChange(what, newAmount);
         }
@@ -252,6 +289,22 @@ public void refreshGlobalStorageProvider(IStorageProvider provider) {
         throw new IllegalArgumentException("Storage provider " + provider + " is not part of this grid.");
     }
 
+    @Override
+    public void findFuzzyVariants(AEKey key, FuzzyMode fuzzyMode, Collection<AEKey> out) {
+        // Unlike the cached stacks, the variants are not rebuilt every tick unless something else needs that anyway
+        if (isStoredVariantsStale()) {
+            updateCachedStacks();
+        }
+
+        for (var entry : storedVariants.findFuzzy(key, fuzzyMode)) {
+            out.add(entry.getKey());
+        }
+    }
+
+    private boolean isStoredVariantsStale() {
+        return !storedVariantsSynced || storedVariantsAge >= STORED_VARIANTS_MAX_AGE;
+    }
+
     @Override
     public void invalidateCache() {
         cachedStacksNeedUpdate = true;
@@ -291,6 +344,7 @@ public void mount(MEStorage inventory, int priority) {
 
             // Mount this inventory into the network storage
             storage.mount(priority, inventory);
+            storedVariantsSynced = false;
         }
 
         public void update() {
@@ -312,6 +366,7 @@ public void unmount() {
 
         private void unmount(MEStorage inventory) {
             storage.unmount(inventory);
+            storedVariantsSynced = false;
         }
     }
 
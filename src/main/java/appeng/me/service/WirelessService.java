@@ -0,0 +1,166 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridService;
+import appeng.api.networking.IGridServiceProvider;
+import appeng.blockentity.networking.WirelessAccessPointBlockEntity;
+
+/**
+ * Indexes the wireless access points of a grid by their position, so wireless terminals only need to check the access
+ * points that are close to them.
+ * <p>
+ * For each level, access points are sorted into square columns of cells that are as wide as the largest range of any
+ * access point in that level. An access point that can reach a position is thus always in the cell of that position
+ * or one of its eight neighbors. The index is rebuilt lazily after access points were added, removed or changed their
+ * range. Whether an access point is active is not indexed and has to be checked by the caller.
+ */
+public class WirelessService implements IGridService, IGridServiceProvider {
+    private final Set<WirelessAccessPointBlockEntity> accessPoints = new LinkedHashSet<>();
+    private final Map<Level, LevelIndex> indices = new HashMap<>();
+    private int version;
+
+    public WirelessService(IGrid g) {
+    }
+
+    public static WirelessService get(IGrid grid) {
+        return grid.getService(WirelessService.class);
+    }
+
+    @Override
+    public void removeNode(IGridNode node) {
+        if (node.getOwner() instanceof WirelessAccessPointBlockEntity accessPoint) {
+            this.accessPoints.remove(accessPoint);
+            invalidate();
+        }
+    }
+
+    @Override
+    public void addNode(IGridNode node, @Nullable CompoundTag savedData) {
+        if (node.getOwner() instanceof WirelessAccessPointBlockEntity accessPoint) {
+            this.accessPoints.add(accessPoint);
+            invalidate();
+        }
+    }
+
+    /**
+     * Called by access points when their range may have changed.
+     */
+    public void onAccessPointChanged(WirelessAccessPointBlockEntity accessPoint) {
+        if (this.accessPoints.contains(accessPoint)) {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        this.indices.clear();
+        this.version++;
+    }
+
+    /**
+     * Returns the access points of this grid that may be in range of the given position. Their range and whether they
+     * are active still needs to be checked.
+     *
+     * @param previous The result of a previous call. It is returned as-is if the position is still in the same cell and
+     *                 the index did not change since.
+     */
+    public NearbyAccessPoints getNearbyAccessPoints(Level level, double x, double z,
+            @Nullable NearbyAccessPoints previous) {
+        var index = this.indices.computeIfAbsent(level, this::buildIndex);
+        var cell = index.getCell(x, z);
+        if (previous != null && previous.level() == level && previous.cell() == cell
+                && previous.version() == this.version) {
+            return previous;
+        }
+        return new NearbyAccessPoints(level, cell, this.version, index.getNearby(cell));
+    }
+
+    private LevelIndex buildIndex(Level level) {
+        var inLevel = new ArrayList<WirelessAccessPointBlockEntity>();
+        double maxRange = 1;
+        for (var accessPoint : this.accessPoints) {
+            if (accessPoint.getLevel() == level) {
+                inLevel.add(accessPoint);
+                maxRange = Math.max(maxRange, accessPoint.getRange());
+            }
+        }
+
+        var index = new LevelIndex(Math.ceil(maxRange));
+        for (var accessPoint : inLevel) {
+            var pos = accessPoint.getBlockPos();
+            index.cells.computeIfAbsent(index.getCell(pos.getX(), pos.getZ()), c -> new ArrayList<>())
+                    .add(accessPoint);
+        }
+        return index;
+    }
+
+    public record NearbyAccessPoints(Level level, long cell, int version,
+            List<WirelessAccessPointBlockEntity> accessPoints) {
+    }
+
+    private static class LevelIndex {
+        private final double cellSize;
+        private final Long2ObjectMap<List<WirelessAccessPointBlockEntity>> cells = new Long2ObjectOpenHashMap<>();
+
+        LevelIndex(double cellSize) {
+            this.cellSize = cellSize;
+        }
+
+        long getCell(double x, double z) {
+            return pack(Mth.floor(x / cellSize), Mth.floor(z / cellSize));
+        }
+
+        List<WirelessAccessPointBlockEntity> getNearby(long cell) {
+            var cellX = (int) (cell >> 32);
+            var cellZ = (int) cell;
+            var result = new ArrayList<WirelessAccessPointBlockEntity>();
+            for (var dx = -1; dx <= 1; dx++) {
+                for (var dz = -1; dz <= 1; dz++) {
+                    var accessPoints = cells.get(pack(cellX + dx, cellZ + dz));
+                    if (accessPoints != null) {
+                        result.addAll(accessPoints);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static long pack(int cellX, int cellZ) {
+            return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+        }
+    }
+}
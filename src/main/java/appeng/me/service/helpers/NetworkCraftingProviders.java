@@ -11,11 +11,15 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Iterators;
 
 import org.jetbrains.annotations.Nullable;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 import appeng.api.config.FuzzyMode;
 import appeng.api.crafting.IPatternDetails;
 import appeng.api.networking.IGridNode;
@@ -29,6 +33,11 @@
  * Keeps track of the crafting patterns in the network, and related information.
  */
 public class NetworkCraftingProviders {
+    /**
+     * Beyond this many changes, menus that are behind will just compare the full set of craftables again.
+     */
+    private static final int MAX_JOURNAL_SIZE = 4096;
+
     /**
      * Tracks the provider state for each grid node that provides auto-crafting to the network.
      */
@@ -50,6 +59,14 @@ public class NetworkCraftingProviders {
 
     private long lastModifiedOnTick = TickHandler.instance().getCurrentTick();
 
+    /**
+     * Journal of keys that became or stopped being craftable or emittable. The entry at index i was recorded for
+     * version {@code journalStartVersion + i + 1}, the current version being {@code journalStartVersion + size}.
+     */
+    private final List<AEKey> craftableChanges = new ArrayList<>();
+    private long journalStartVersion;
+    private long journalTick = -1;
+
     public void addProvider(IGridNode node) {
         var provider = node.getService(ICraftingProvider.class);
         if (provider != null) {
@@ -99,6 +116,35 @@ public void removeProvider(ICraftingProvider provider) {
         }
     }
 
+    /**
+     * Updates the mounted patterns and emitable items of a provider that is already known, by only applying what
+     * changed. Keys that are unaffected keep their state.
+     */
+    public void refreshProvider(IGridNode node) {
+        var state = craftingProviders.get(node);
+        if (state != null && state.provider == node.getService(ICraftingProvider.class)) {
+            if (state.update(this)) {
+                setLastModifiedOnTick();
+            }
+        } else {
+            removeProvider(node);
+            addProvider(node);
+        }
+    }
+
+    public void refreshProvider(ICraftingProvider provider) {
+        for (var state : globalProviders) {
+            if (state.provider == provider) {
+                if (state.update(this)) {
+                    setLastModifiedOnTick();
+                }
+                return;
+            }
+        }
+
+        addProvider(provider);
+    }
+
     public Set<AEKey> getCraftables(AEKeyFilter filter) {
         var result = new HashSet<AEKey>();
 
@@ -118,6 +164,45 @@ public Set<AEKey> getCraftables(AEKeyFilter filter) {
         return result;
     }
 
+    /**
+     * @return A version number that changes whenever a key becomes or stops being craftable or emittable.
+     */
+    public long getCraftablesVersion() {
+        return journalStartVersion + craftableChanges.size();
+    }
+
+    /**
+     * Reports every key that may have become or stopped being craftable or emittable since the given version. Keys may
+     * be reported multiple times, or even when their state did not actually change.
+     *
+     * @return False if the changes since the given version are no longer known, in which case nothing is reported and
+     *         the caller has to compare the full set of craftables instead.
+     */
+    public boolean getCraftableChangesSince(long version, Consumer<AEKey> changedKeys) {
+        if (version < journalStartVersion || version > getCraftablesVersion()) {
+            return false;
+        }
+
+        for (int i = (int) (version - journalStartVersion); i < craftableChanges.size(); i++) {
+            changedKeys.accept(craftableChanges.get(i));
+        }
+        return true;
+    }
+
+    private void onCraftableChanged(AEKey what) {
+        // Menus process the changes every tick, so the journal is only trimmed between ticks to ensure that
+        // the changes of the previous tick are always available.
+        var currentTick = TickHandler.instance().getCurrentTick();
+        if (currentTick != journalTick) {
+            if (craftableChanges.size() > MAX_JOURNAL_SIZE) {
+                journalStartVersion += craftableChanges.size();
+                craftableChanges.clear();
+            }
+            journalTick = currentTick;
+        }
+        craftableChanges.add(what);
+    }
+
     public Set<AEKey> getCraftableKeys() {
         return craftableKeys;
     }
@@ -179,9 +264,9 @@ public Iterator<ICraftingProvider> iterator() {
 
     private static class ProviderState {
         private final ICraftingProvider provider;
-        private final Set<AEKey> emitableItems;
-        private final List<IPatternDetails> patterns;
-        private final int priority;
+        private Set<AEKey> emitableItems;
+        private List<IPatternDetails> patterns;
+        private int priority;
 
         private ProviderState(ICraftingProvider provider) {
             this.provider = provider;
@@ -192,44 +277,141 @@ private ProviderState(ICraftingProvider provider) {
 
         private void mount(NetworkCraftingProviders methods) {
             for (var emitable : emitableItems) {
-                methods.emitableItems.merge(emitable, 1, Integer::sum);
+                mountEmitable(methods, emitable);
             }
             for (var pattern : patterns) {
-                // output -> pattern (for simulation)
-                var primaryOutput = pattern.getPrimaryOutput();
-
-                methods.craftableItemsList.add(primaryOutput.what(), 1);
-
-                var patternsForKey = methods.craftableItems.computeIfAbsent(primaryOutput.what(),
-                        k -> new PatternsForKey());
-                patternsForKey.patterns.add(new PatternInfo(pattern, this));
-                patternsForKey.needsSorting = true;
-
-                // pattern -> method (for execution)
-                methods.craftingMethods.computeIfAbsent(pattern, d -> new CraftingProviderList()).add(provider);
+                mountPattern(methods, pattern);
             }
         }
 
         private void unmount(NetworkCraftingProviders methods) {
             for (var emitable : emitableItems) {
-                methods.emitableItems.compute(emitable, (key, cnt) -> cnt == 1 ? null : cnt - 1);
+                unmountEmitable(methods, emitable);
             }
             for (var pattern : patterns) {
-                var primaryOutput = pattern.getPrimaryOutput();
+                unmountPattern(methods, pattern, true);
+            }
+        }
 
-                methods.craftableItemsList.remove(primaryOutput.what(), 1);
+        /**
+         * Mounts and unmounts only the patterns and emitable items that changed since this state was mounted.
+         *
+         * @return true if anything changed.
+         */
+        private boolean update(NetworkCraftingProviders methods) {
+            var changed = false;
+
+            var newPriority = provider.getPatternPriority();
+            if (newPriority != priority) {
+                priority = newPriority;
+                for (var pattern : patterns) {
+                    var patternsForKey = methods.craftableItems.get(pattern.getPrimaryOutput().what());
+                    if (patternsForKey != null) {
+                        patternsForKey.needsSorting = true;
+                    }
+                }
+                changed = true;
+            }
 
-                methods.craftableItems.computeIfPresent(primaryOutput.what(), (key, patternsForKey) -> {
-                    patternsForKey.patterns.remove(new PatternInfo(pattern, this));
-                    patternsForKey.needsSorting = true;
-                    return patternsForKey.patterns.isEmpty() ? null : patternsForKey;
-                });
+            var newEmitableItems = new HashSet<>(provider.getEmitableItems());
+            for (var emitable : emitableItems) {
+                if (!newEmitableItems.contains(emitable)) {
+                    unmountEmitable(methods, emitable);
+                    changed = true;
+                }
+            }
+            for (var emitable : newEmitableItems) {
+                if (!emitableItems.contains(emitable)) {
+                    mountEmitable(methods, emitable);
+                    changed = true;
+                }
+            }
+            emitableItems = newEmitableItems;
+
+            // The same pattern may be provided more than once, so the patterns are compared by count
+            var newPatterns = new ArrayList<>(provider.getAvailablePatterns());
+            var newCounts = new Object2IntOpenHashMap<IPatternDetails>(newPatterns.size());
+            for (var pattern : newPatterns) {
+                newCounts.addTo(pattern, 1);
+            }
+            var countChanges = new Object2IntOpenHashMap<>(newCounts);
+            for (var pattern : patterns) {
+                countChanges.addTo(pattern, -1);
+            }
+
+            for (var entry : Object2IntMaps.fastIterable(countChanges)) {
+                var pattern = entry.getKey();
+                var countChange = entry.getIntValue();
+                for (int i = 0; i < countChange; i++) {
+                    mountPattern(methods, pattern);
+                }
+                for (int i = 0; i < -countChange; i++) {
+                    unmountPattern(methods, pattern, !newCounts.containsKey(pattern));
+                }
+                if (countChange != 0) {
+                    changed = true;
+                }
+            }
+            patterns = newPatterns;
+
+            return changed;
+        }
+
+        private void mountEmitable(NetworkCraftingProviders methods, AEKey emitable) {
+            if (methods.emitableItems.merge(emitable, 1, Integer::sum) == 1) {
+                methods.onCraftableChanged(emitable);
+            }
+        }
+
+        private void unmountEmitable(NetworkCraftingProviders methods, AEKey emitable) {
+            if (methods.emitableItems.compute(emitable, (key, cnt) -> cnt == 1 ? null : cnt - 1) == null) {
+                methods.onCraftableChanged(emitable);
+            }
+        }
 
-                methods.craftingMethods.computeIfPresent(pattern, (pat, list) -> {
-                    list.remove(provider);
-                    return list.providers.isEmpty() ? null : list;
-                });
+        private void mountPattern(NetworkCraftingProviders methods, IPatternDetails pattern) {
+            // output -> pattern (for simulation)
+            var primaryOutput = pattern.getPrimaryOutput();
+
+            methods.craftableItemsList.add(primaryOutput.what(), 1);
+
+            var patternsForKey = methods.craftableItems.get(primaryOutput.what());
+            if (patternsForKey == null) {
+                patternsForKey = new PatternsForKey();
+                methods.craftableItems.put(primaryOutput.what(), patternsForKey);
+                methods.onCraftableChanged(primaryOutput.what());
             }
+            if (patternsForKey.patterns.add(new PatternInfo(pattern, this))) {
+                patternsForKey.needsSorting = true;
+            }
+
+            // pattern -> method (for execution)
+            methods.craftingMethods.computeIfAbsent(pattern, d -> new CraftingProviderList()).add(provider);
+        }
+
+        /**
+         * @param lastOfPattern Whether this provider no longer provides the pattern at all after this call.
+         */
+        private void unmountPattern(NetworkCraftingProviders methods, IPatternDetails pattern, boolean lastOfPattern) {
+            var primaryOutput = pattern.getPrimaryOutput();
+
+            methods.craftableItemsList.remove(primaryOutput.what(), 1);
+
+            var patternsForKey = methods.craftableItems.get(primaryOutput.what());
+            if (patternsForKey != null && lastOfPattern) {
+                if (patternsForKey.patterns.remove(new PatternInfo(pattern, this))) {
+                    patternsForKey.needsSorting = true;
+                }
+                if (patternsForKey.patterns.isEmpty()) {
+                    methods.craftableItems.remove(primaryOutput.what());
+                    methods.onCraftableChanged(primaryOutput.what());
+                }
+            }
+
+            methods.craftingMethods.computeIfPresent(pattern, (pat, list) -> {
+                list.remove(provider);
+                return list.providers.isEmpty() ? null : list;
+            });
         }
     }
 
@@ -1,5 +1,6 @@
 package appeng.me.storage;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -63,6 +64,55 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
         return extracted;
     }
 
+    @Override
+    public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        var moved = new KeyCounter();
+        for (var entry : splitByType(what).entrySet()) {
+            var storage = storages.get(entry.getKey());
+            if (storage != null) {
+                storage.insertAll(entry.getValue(), mode, source, moved);
+            }
+        }
+        moved.removeZeros();
+
+        if (!moved.isEmpty()) {
+            inserted.addAll(moved);
+            if (mode == Actionable.MODULATE) {
+                forceCacheRebuild = true;
+            }
+        }
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        var moved = new KeyCounter();
+        for (var entry : splitByType(what).entrySet()) {
+            var storage = storages.get(entry.getKey());
+            if (storage != null) {
+                storage.extractAll(entry.getValue(), mode, source, moved);
+            }
+        }
+        moved.removeZeros();
+
+        if (!moved.isEmpty()) {
+            extracted.addAll(moved);
+            if (mode == Actionable.MODULATE) {
+                forceCacheRebuild = true;
+            }
+        }
+    }
+
+    private static Map<AEKeyType, KeyCounter> splitByType(KeyCounter what) {
+        var result = new IdentityHashMap<AEKeyType, KeyCounter>();
+        for (var entry : what) {
+            if (entry.getLongValue() > 0) {
+                result.computeIfAbsent(entry.getKey().getType(), t -> new KeyCounter())
+                        .add(entry.getKey(), entry.getLongValue());
+            }
+        }
+        return result;
+    }
+
     /**
      * Describes the types of storage represented by this object.
      */
@@ -9,6 +9,7 @@
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
+import appeng.api.storage.StorageReservation;
 
 /**
  * Convenient base class for wrapping another {@link MEStorage} and forwarding <strong>all</strong> methods to the base
@@ -46,6 +47,26 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
         return getDelegate().extract(what, amount, mode, source);
     }
 
+    @Override
+    public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+        return getDelegate().reserveInsert(what, amount, source);
+    }
+
+    @Override
+    public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        return getDelegate().reserveExtract(what, amount, source);
+    }
+
+    @Override
+    public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        getDelegate().insertAll(what, mode, source, inserted);
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        getDelegate().extractAll(what, mode, source, extracted);
+    }
+
     @Override
     public void getAvailableStacks(KeyCounter out) {
         getDelegate().getAvailableStacks(out);
@@ -21,6 +21,8 @@
 import appeng.api.config.Actionable;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.StorageReservation;
 import appeng.api.storage.cells.CellState;
 import appeng.api.storage.cells.StorageCell;
 
@@ -48,12 +50,7 @@ public long insert(AEKey what, long amount, Actionable mode, IActionSource sourc
         var inserted = super.insert(what, amount, mode, source);
 
         if (mode == Actionable.MODULATE && inserted > 0) {
-            var newStatus = this.getStatus();
-
-            if (newStatus != this.oldStatus) {
-                this.activityCallback.run();
-                this.oldStatus = newStatus;
-            }
+            checkStatusChange();
         }
 
         return inserted;
@@ -64,14 +61,54 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
         var extracted = super.extract(what, amount, mode, source);
 
         if (mode == Actionable.MODULATE && extracted > 0) {
-            var newStatus = this.getStatus();
-
-            if (newStatus != this.oldStatus) {
-                this.activityCallback.run();
-                this.oldStatus = newStatus;
-            }
+            checkStatusChange();
         }
 
         return extracted;
     }
+
+    @Override
+    public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+        var reservation = super.reserveInsert(what, amount, source);
+        if (reservation.amount() <= 0) {
+            return reservation;
+        }
+        return new HandlerReservation(reservation, reservation.amount(), false, this::checkStatusChange);
+    }
+
+    @Override
+    public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        var reservation = super.reserveExtract(what, amount, source);
+        if (reservation.amount() <= 0) {
+            return reservation;
+        }
+        return new HandlerReservation(reservation, reservation.amount(), false, this::checkStatusChange);
+    }
+
+    @Override
+    public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        super.insertAll(what, mode, source, inserted);
+
+        if (mode == Actionable.MODULATE) {
+            checkStatusChange();
+        }
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        super.extractAll(what, mode, source, extracted);
+
+        if (mode == Actionable.MODULATE) {
+            checkStatusChange();
+        }
+    }
+
+    private void checkStatusChange() {
+        var newStatus = this.getStatus();
+
+        if (newStatus != this.oldStatus) {
+            this.activityCallback.run();
+            this.oldStatus = newStatus;
+        }
+    }
 }
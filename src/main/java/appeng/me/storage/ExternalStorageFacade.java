@@ -1,5 +1,6 @@
 package appeng.me.storage;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -47,6 +48,13 @@ public void setChangeListener(@Nullable Runnable listener) {
     @Nullable
     public abstract GenericStack getStackInSlot(int slot);
 
+    /**
+     * Like {@link #getStackInSlot}, but only returns the key, which avoids allocating a stack for every slot that is
+     * checked.
+     */
+    @Nullable
+    public abstract AEKey getKeyInSlot(int slot);
+
     public abstract AEKeyType getKeyType();
 
     @Override
@@ -98,6 +106,11 @@ public void setExtractableOnly(boolean extractableOnly) {
             extends ExternalStorageFacade {
         protected final ResourceHandler<R> handler;
 
+        // The resource last seen in each slot and its key, so the key doesn't have to be recreated every time a slot
+        // is checked while its content stays the same
+        private Object[] slotResources = new Object[0];
+        private AEKey[] slotKeys = new AEKey[0];
+
         public ResourceHandlerFacade(ResourceHandler<R> handler) {
             this.handler = handler;
         }
@@ -110,10 +123,32 @@ public int getSlots() {
         @Nullable
         @Override
         public GenericStack getStackInSlot(int slot) {
-            K key = toKey(handler.getResource(slot));
+            var key = getKeyInSlot(slot);
             return key == null ? null : new GenericStack(key, handler.getAmountAsLong(slot));
         }
 
+        @Nullable
+        @Override
+        public AEKey getKeyInSlot(int slot) {
+            var resource = handler.getResource(slot);
+            if (resource.isEmpty()) {
+                return null;
+            }
+
+            if (slot >= slotResources.length) {
+                var size = Math.max(slot + 1, handler.size());
+                slotResources = Arrays.copyOf(slotResources, size);
+                slotKeys = Arrays.copyOf(slotKeys, size);
+            }
+
+            var cached = slotResources[slot];
+            if (cached != resource && !resource.equals(cached)) {
+                slotResources[slot] = resource;
+                slotKeys[slot] = toKey(resource);
+            }
+            return slotKeys[slot];
+        }
+
         @Override
         public int insertExternal(AEKey what, int amount, Actionable mode) {
             var resource = toResource(what);
@@ -18,12 +18,15 @@
 
 package appeng.me.storage;
 
+import org.jetbrains.annotations.Nullable;
+
 import appeng.api.config.Actionable;
 import appeng.api.config.IncludeExclude;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
+import appeng.api.storage.StorageReservation;
 import appeng.util.prioritylist.DefaultPriorityList;
 import appeng.util.prioritylist.IPartitionList;
 
@@ -95,6 +98,67 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
         return super.extract(what, amount, mode, source);
     }
 
+    @Override
+    public StorageReservation reserveInsert(AEKey what, long amount, IActionSource source) {
+        if (!this.allowInsertion || !passesBlackOrWhitelist(what)) {
+            return StorageReservation.EMPTY;
+        }
+
+        var reservation = getDelegate().reserveInsert(what, amount, source);
+        return this.voidOverflow ? new HandlerReservation(reservation, amount, true, null) : reservation;
+    }
+
+    @Override
+    public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        if (this.filterOnExtraction && !canExtract(what)) {
+            return StorageReservation.EMPTY;
+        }
+
+        return getDelegate().reserveExtract(what, amount, source);
+    }
+
+    @Override
+    public void insertAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter inserted) {
+        if (!this.allowInsertion) {
+            return;
+        }
+
+        var allowed = new KeyCounter();
+        for (var entry : what) {
+            if (entry.getLongValue() > 0 && passesBlackOrWhitelist(entry.getKey())) {
+                allowed.add(entry.getKey(), entry.getLongValue());
+            }
+        }
+        if (allowed.isEmpty()) {
+            return;
+        }
+
+        if (this.voidOverflow) {
+            getDelegate().insertAll(allowed, mode, source, new KeyCounter());
+            inserted.addAll(allowed);
+        } else {
+            getDelegate().insertAll(allowed, mode, source, inserted);
+        }
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        if (!this.filterOnExtraction) {
+            getDelegate().extractAll(what, mode, source, extracted);
+            return;
+        }
+
+        var allowed = new KeyCounter();
+        for (var entry : what) {
+            if (entry.getLongValue() > 0 && canExtract(entry.getKey())) {
+                allowed.add(entry.getKey(), entry.getLongValue());
+            }
+        }
+        if (!allowed.isEmpty()) {
+            getDelegate().extractAll(allowed, mode, source, extracted);
+        }
+    }
+
     @Override
     public void getAvailableStacks(KeyCounter out) {
         if (this.gettingAvailableContent) {
@@ -150,4 +214,64 @@ protected boolean canExtract(AEKey request) {
     private boolean passesBlackOrWhitelist(AEKey input) {
         return this.partitionList.matchesFilter(input, this.partitionListMode);
     }
+
+    /**
+     * Wraps the reservation of the delegate to void what it cannot accept, or to be notified once it has been
+     * committed. Like the delegate, only the first call to {@link #commit(long)} or {@link #release()} has any effect.
+     */
+    protected static class HandlerReservation implements StorageReservation {
+        private final StorageReservation delegate;
+        private final long amount;
+        private final boolean voidOverflow;
+        @Nullable
+        private final Runnable onCommit;
+        private boolean done;
+
+        /**
+         * @param amount       The amount reported by this reservation. Must not be less than the amount of the delegate.
+         * @param voidOverflow If true, committing reports the full requested amount as moved even if the delegate
+         *                     accepts less, just like {@link MEInventoryHandler#insert} does when voiding overflow.
+         */
+        public HandlerReservation(StorageReservation delegate, long amount, boolean voidOverflow,
+                @Nullable Runnable onCommit) {
+            this.delegate = delegate;
+            this.amount = amount;
+            this.voidOverflow = voidOverflow;
+            this.onCommit = onCommit;
+        }
+
+        @Override
+        public long amount() {
+            return amount;
+        }
+
+        @Override
+        public long commit(long amount) {
+            if (done) {
+                return 0;
+            }
+            done = true;
+
+            amount = Math.min(amount, this.amount);
+            if (amount <= 0) {
+                delegate.release();
+                return 0;
+            }
+
+            var committed = delegate.commit(Math.min(amount, delegate.amount()));
+            if (onCommit != null && committed > 0) {
+                onCommit.run();
+            }
+            // The difference to what the delegate accepted is voided
+            return voidOverflow ? amount : committed;
+        }
+
+        @Override
+        public void release() {
+            if (!done) {
+                done = true;
+                delegate.release();
+            }
+        }
+    }
 }
@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import com.google.common.base.Preconditions;
 
@@ -35,6 +36,7 @@
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
+import appeng.api.storage.StorageReservation;
 import appeng.core.localization.GuiText;
 
 /**
@@ -50,6 +52,17 @@ public class NetworkStorage implements MEStorage {
     private final NavigableMap<Integer, List<MEStorage>> priorityInventory;
     private final List<MEStorage> secondPassInventories = new ArrayList<>();
 
+    // Incremented whenever the mounted storage changes, to detect reservations that are no longer valid.
+    private int mountsVersion;
+
+    // Incremented whenever storage may have room for keys that it refused before, i.e. because something was extracted
+    // or the mounted storage changed.
+    private int spaceVersion;
+
+    // Notified of every key that was inserted into the network
+    @Nullable
+    private Consumer<AEKey> insertListener;
+
     // Queued mount/unmount operations that occurred while an insert/extract was ongoing
     // Is only non-null if something is queued
     @Nullable
@@ -68,6 +81,8 @@ public void mount(int priority, MEStorage inventory) {
         } else {
             this.priorityInventory.computeIfAbsent(priority, k -> new ArrayList<>())
                     .add(inventory);
+            this.mountsVersion++;
+            this.spaceVersion++;
         }
     }
 
@@ -78,6 +93,8 @@ public void unmount(MEStorage inventory) {
             }
             queuedOperations.add(new UnmountOperation(inventory));
         } else {
+            this.mountsVersion++;
+            this.spaceVersion++;
             var prioIt = this.priorityInventory.entrySet().iterator();
             while (prioIt.hasNext()) {
                 var prioEntry = prioIt.next();
@@ -90,6 +107,26 @@ public void unmount(MEStorage inventory) {
         }
     }
 
+    /**
+     * Sets a listener that is notified of every key that was actually inserted into this storage.
+     */
+    public void setInsertListener(@Nullable Consumer<AEKey> insertListener) {
+        this.insertListener = insertListener;
+    }
+
+    private void onInserted(AEKey what) {
+        if (this.insertListener != null) {
+            this.insertListener.accept(what);
+        }
+    }
+
+    /**
+     * @return A number that changes whenever this storage may have become able to accept keys it refused before.
+     */
+    public int getSpaceVersion() {
+        return this.spaceVersion;
+    }
+
     public long insert(AEKey what, long amount, Actionable type, IActionSource src) {
         if (mountsInUse) {
             return 0; // Prevent recursive use
@@ -137,11 +174,235 @@ public long insert(AEKey what, long amount, Actionable type, IActionSource src)
             mountsInUse = false;
         }
 
+        if (remaining < amount && type == Actionable.MODULATE) {
+            onInserted(what);
+        }
+
         flushQueuedOperations();
 
         return amount - remaining;
     }
 
+    /**
+     * Walks the mounted storage like a simulated insert, but remembers the reservation made with each mount, so that
+     * committing only has to visit the mounts that actually accept the key.
+     */
+    @Override
+    public StorageReservation reserveInsert(AEKey what, long amount, IActionSource src) {
+        if (mountsInUse || amount <= 0) {
+            return StorageReservation.EMPTY; // Prevent recursive use
+        }
+
+        var reservations = new ArrayList<StorageReservation>();
+        var remaining = amount;
+
+        mountsInUse = true;
+        try {
+            for (var invList : this.priorityInventory.values()) {
+                secondPassInventories.clear();
+
+                var ii = invList.iterator();
+                while (ii.hasNext() && remaining > 0) {
+                    var inv = ii.next();
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    if (inv.isPreferredStorageFor(what, src)) {
+                        remaining -= reserve(reservations, inv.reserveInsert(what, remaining, src));
+                    } else {
+                        secondPassInventories.add(inv);
+                    }
+                }
+
+                for (var inv : secondPassInventories) {
+                    if (remaining <= 0) {
+                        break;
+                    }
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    remaining -= reserve(reservations, inv.reserveInsert(what, remaining, src));
+                }
+            }
+        } finally {
+            mountsInUse = false;
+        }
+
+        flushQueuedOperations();
+
+        if (reservations.isEmpty()) {
+            return StorageReservation.EMPTY;
+        }
+        return new NetworkReservation(what, amount - remaining, src, true, reservations);
+    }
+
+    @Override
+    public StorageReservation reserveExtract(AEKey what, long amount, IActionSource source) {
+        if (mountsInUse || amount <= 0) {
+            return StorageReservation.EMPTY; // Prevent recursive use
+        }
+
+        var reservations = new ArrayList<StorageReservation>();
+        var reserved = 0L;
+
+        mountsInUse = true;
+        try {
+            for (var invList : this.priorityInventory.descendingMap().values()) {
+                var ii = invList.iterator();
+                while (ii.hasNext() && reserved < amount) {
+                    var inv = ii.next();
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    reserved += reserve(reservations, inv.reserveExtract(what, amount - reserved, source));
+                }
+            }
+        } finally {
+            mountsInUse = false;
+        }
+
+        flushQueuedOperations();
+
+        if (reservations.isEmpty()) {
+            return StorageReservation.EMPTY;
+        }
+        return new NetworkReservation(what, reserved, source, false, reservations);
+    }
+
+    private static long reserve(List<StorageReservation> reservations, StorageReservation reservation) {
+        var amount = reservation.amount();
+        if (amount > 0) {
+            reservations.add(reservation);
+        }
+        return amount;
+    }
+
+    /**
+     * Walks the mounted storage once for the entire batch. Preferred storage is still determined per key, but every
+     * remaining mount receives all keys that are left over in a single call, which allows cells to save only once.
+     */
+    @Override
+    public void insertAll(KeyCounter what, Actionable type, IActionSource src, KeyCounter inserted) {
+        if (mountsInUse) {
+            return; // Prevent recursive use
+        }
+
+        var remaining = new KeyCounter();
+        for (var entry : what) {
+            if (entry.getLongValue() > 0) {
+                remaining.add(entry.getKey(), entry.getLongValue());
+            }
+        }
+        var accepted = new KeyCounter();
+
+        mountsInUse = true;
+        try {
+            for (var invList : this.priorityInventory.values()) {
+                if (remaining.isEmpty()) {
+                    break;
+                }
+
+                // First give every inventory a chance to accept the keys it is preferential storage for
+                for (var inv : invList) {
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    for (var entry : remaining) {
+                        var amount = entry.getLongValue();
+                        if (amount > 0 && inv.isPreferredStorageFor(entry.getKey(), src)) {
+                            var stored = inv.insert(entry.getKey(), amount, type, src);
+                            if (stored > 0) {
+                                entry.setValue(amount - stored);
+                                inserted.add(entry.getKey(), stored);
+                            }
+                        }
+                    }
+                }
+                remaining.removeZeros();
+
+                // Then give every inventory a chance to take whatever is left in one go
+                for (var inv : invList) {
+                    if (remaining.isEmpty()) {
+                        break;
+                    }
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    accepted.clear();
+                    inv.insertAll(remaining, type, src, accepted);
+                    remaining.removeAll(accepted);
+                    remaining.removeZeros();
+                    inserted.addAll(accepted);
+                }
+            }
+        } finally {
+            mountsInUse = false;
+        }
+
+        if (type == Actionable.MODULATE && insertListener != null) {
+            for (var entry : what) {
+                // Whatever is not left over was inserted somewhere
+                if (entry.getLongValue() > 0 && remaining.get(entry.getKey()) < entry.getLongValue()) {
+                    onInserted(entry.getKey());
+                }
+            }
+        }
+
+        flushQueuedOperations();
+    }
+
+    @Override
+    public void extractAll(KeyCounter what, Actionable mode, IActionSource source, KeyCounter extracted) {
+        if (mountsInUse) {
+            return; // Prevent recursive use
+        }
+
+        var remaining = new KeyCounter();
+        for (var entry : what) {
+            if (entry.getLongValue() > 0) {
+                remaining.add(entry.getKey(), entry.getLongValue());
+            }
+        }
+        var taken = new KeyCounter();
+
+        mountsInUse = true;
+        try {
+            for (var invList : this.priorityInventory.descendingMap().values()) {
+                for (var inv : invList) {
+                    if (remaining.isEmpty()) {
+                        break;
+                    }
+
+                    if (isQueuedForRemoval(inv)) {
+                        continue;
+                    }
+
+                    taken.clear();
+                    inv.extractAll(remaining, mode, source, taken);
+                    remaining.removeAll(taken);
+                    remaining.removeZeros();
+                    extracted.addAll(taken);
+                    if (!taken.isEmpty() && mode == Actionable.MODULATE) {
+                        this.spaceVersion++;
+                    }
+                }
+            }
+        } finally {
+            mountsInUse = false;
+        }
+
+        flushQueuedOperations();
+    }
+
     private void flushQueuedOperations() {
         Preconditions.checkState(!this.mountsInUse);
         var queuedOperations = this.queuedOperations;
@@ -195,6 +456,10 @@ public long extract(AEKey what, long amount, Actionable mode, IActionSource sour
             mountsInUse = false;
         }
 
+        if (extracted > 0 && mode == Actionable.MODULATE) {
+            this.spaceVersion++;
+        }
+
         flushQueuedOperations();
 
         return extracted;
@@ -223,6 +488,94 @@ public Component getDescription() {
         return GuiText.MENetworkStorage.text();
     }
 
+    /**
+     * Remembers the reservations made with individual mounts during a simulated walk of the network storage.
+     */
+    private class NetworkReservation implements StorageReservation {
+        private final AEKey what;
+        private final long amount;
+        private final IActionSource source;
+        private final boolean insert;
+        private final List<StorageReservation> reservations;
+        private final int version;
+        private boolean done;
+
+        NetworkReservation(AEKey what, long amount, IActionSource source, boolean insert,
+                List<StorageReservation> reservations) {
+            this.what = what;
+            this.amount = amount;
+            this.source = source;
+            this.insert = insert;
+            this.reservations = reservations;
+            this.version = mountsVersion;
+        }
+
+        @Override
+        public long amount() {
+            return amount;
+        }
+
+        @Override
+        public long commit(long amount) {
+            if (done) {
+                return 0;
+            }
+            done = true;
+
+            amount = Math.min(amount, this.amount);
+            if (amount <= 0 || mountsInUse) {
+                release();
+                return 0;
+            }
+
+            if (version != mountsVersion) {
+                // The mounts changed since the reservation was made, so we have to walk them again.
+                releaseAll();
+                return insert
+                        ? insert(what, amount, Actionable.MODULATE, source)
+                        : extract(what, amount, Actionable.MODULATE, source);
+            }
+
+            var moved = 0L;
+            mountsInUse = true;
+            try {
+                for (var reservation : reservations) {
+                    if (moved < amount) {
+                        moved += reservation.commit(Math.min(amount - moved, reservation.amount()));
+                    } else {
+                        reservation.release();
+                    }
+                }
+            } finally {
+                mountsInUse = false;
+            }
+
+            if (moved > 0) {
+                if (insert) {
+                    onInserted(what);
+                } else {
+                    spaceVersion++;
+                }
+            }
+
+            flushQueuedOperations();
+
+            return moved;
+        }
+
+        @Override
+        public void release() {
+            done = true;
+            releaseAll();
+        }
+
+        private void releaseAll() {
+            for (var reservation : reservations) {
+                reservation.release();
+            }
+        }
+    }
+
     sealed interface QueuedOperation permits MountOperation, UnmountOperation {
     }
 
@@ -18,12 +18,18 @@
 
 package appeng.menu.guisync;
 
-import java.util.HashMap;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.ShortSet;
 
 import appeng.core.AELog;
@@ -31,38 +37,138 @@
 /**
  * Helper class for synchronizing fields from server-side menus to client-side menus. Fields need to be annotated with
  * {@link GuiSync} and given a unique key within the class hierarchy.
+ * <p>
+ * Plain fields are compared against the value last sent to the client every time the menu checks for changes. Fields
+ * of type {@link SynchronizedValue} or {@link NullableSynchronizedValue} instead mark themselves as dirty when they are
+ * set, which makes them free to check. Fields are always written in the order of their keys.
  */
 public class DataSynchronization {
 
-    private final Map<Short, SynchronizedField<?>> fields = new HashMap<>();
+    private final Object host;
+
+    /**
+     * The keys of all fields, sorted.
+     */
+    private final short[] keys;
+
+    /**
+     * Per key, the polled field or null if the key belongs to a tracked value.
+     */
+    private final SynchronizedField<?>[] polledFields;
+
+    /**
+     * The indices of all polled fields.
+     */
+    private final int[] polledIndices;
+
+    /**
+     * Per key, the reflected field holding a tracked value, or null if the key belongs to a polled field.
+     */
+    private final Field[] trackedFields;
+
+    /**
+     * Per key, the tracked value. These are resolved on first use, since the menu constructor that creates them will
+     * not have run yet when this object is created.
+     */
+    private final TrackedValue<?>[] trackedValues;
+
+    private final Short2IntMap indexByKey = new Short2IntOpenHashMap();
+
+    /**
+     * Indices of the tracked values that have been changed since they were last written.
+     */
+    private final BitSet dirty = new BitSet();
+
+    private boolean trackedValuesBound;
 
     public DataSynchronization(Object host) {
-        collectFields(host, host.getClass());
+        this.host = host;
+
+        var fields = new TreeMap<Short, Field>();
+        collectFields(fields, host.getClass());
+
+        int count = fields.size();
+        this.keys = new short[count];
+        this.polledFields = new SynchronizedField<?>[count];
+        this.trackedFields = new Field[count];
+        this.trackedValues = new TrackedValue<?>[count];
+        this.indexByKey.defaultReturnValue(-1);
+
+        List<Integer> polled = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<Short, Field> entry : fields.entrySet()) {
+            var field = entry.getValue();
+            keys[index] = entry.getKey();
+            indexByKey.put(entry.getKey().shortValue(), index);
+            if (TrackedValue.class.isAssignableFrom(field.getType())) {
+                field.setAccessible(true);
+                trackedFields[index] = field;
+            } else {
+                polledFields[index] = SynchronizedField.create(host, field);
+                polled.add(index);
+            }
+            index++;
+        }
+        this.polledIndices = polled.stream().mapToInt(Integer::intValue).toArray();
     }
 
-    private void collectFields(Object host, Class<?> clazz) {
+    private void collectFields(Map<Short, Field> fields, Class<?> clazz) {
         for (var f : clazz.getDeclaredFields()) {
             if (f.isAnnotationPresent(GuiSync.class)) {
                 var annotation = f.getAnnotation(GuiSync.class);
                 short key = annotation.value();
-                if (this.fields.containsKey(key)) {
+                if (fields.containsKey(key)) {
                     throw new IllegalStateException(
                             "Class " + host.getClass() + " declares the same sync id twice: " + key);
                 }
-                this.fields.put(key, SynchronizedField.create(host, f));
+                fields.put(key, f);
             }
         }
 
         // Recurse upwards through the class hierarchy
         Class<?> superclass = clazz.getSuperclass();
         if (superclass != AbstractContainerMenu.class && superclass != Object.class) {
-            collectFields(host, superclass);
+            collectFields(fields, superclass);
+        }
+    }
+
+    private void bindTrackedValues() {
+        if (trackedValuesBound) {
+            return;
+        }
+        trackedValuesBound = true;
+
+        for (int i = 0; i < trackedFields.length; i++) {
+            var field = trackedFields[i];
+            if (field == null) {
+                continue;
+            }
+            try {
+                if (!(field.get(host) instanceof TrackedValue<?> value)) {
+                    throw new IllegalStateException("Synchronized value " + field + " has not been initialized");
+                }
+                value.bind(this, i);
+                trackedValues[i] = value;
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to access synchronized value " + field, e);
+            }
+            // Values may have been set before they were bound
+            dirty.set(i);
         }
     }
 
+    void markDirty(int index) {
+        dirty.set(index);
+    }
+
     public boolean hasChanges() {
-        for (SynchronizedField<?> value : fields.values()) {
-            if (value.hasChanges()) {
+        bindTrackedValues();
+
+        if (!dirty.isEmpty()) {
+            return true;
+        }
+        for (int index : polledIndices) {
+            if (polledFields[index].hasChanges()) {
                 return true;
             }
         }
@@ -84,26 +190,44 @@ public void writeUpdate(RegistryFriendlyByteBuf data) {
     }
 
     private void writeFields(RegistryFriendlyByteBuf data, boolean includeUnchanged) {
-        for (Map.Entry<Short, SynchronizedField<?>> entry : fields.entrySet()) {
-            if (includeUnchanged || entry.getValue().hasChanges()) {
-                data.writeShort(entry.getKey());
-                entry.getValue().write(data);
+        bindTrackedValues();
+
+        for (int i = 0; i < keys.length; i++) {
+            var trackedValue = trackedValues[i];
+            if (trackedValue != null) {
+                if (includeUnchanged || dirty.get(i)) {
+                    data.writeShort(keys[i]);
+                    trackedValue.write(data);
+                }
+            } else {
+                var field = polledFields[i];
+                if (includeUnchanged || field.hasChanges()) {
+                    data.writeShort(keys[i]);
+                    field.write(data);
+                }
             }
         }
+        dirty.clear();
 
         // Terminator
         data.writeVarInt(-1);
     }
 
     public void readUpdate(RegistryFriendlyByteBuf data, ShortSet updatedFields) {
+        bindTrackedValues();
+
         for (short key = data.readShort(); key != -1; key = data.readShort()) {
-            SynchronizedField<?> field = fields.get(key);
-            if (field == null) {
+            int index = indexByKey.get(key);
+            if (index == -1) {
                 AELog.warn("Server sent update for GUI field %d, which we don't know.", key);
                 continue;
             }
 
-            field.read(data);
+            if (trackedValues[index] != null) {
+                trackedValues[index].read(data);
+            } else {
+                polledFields[index].read(data);
+            }
             updatedFields.add(key);
         }
     }
@@ -112,6 +236,6 @@ public void readUpdate(RegistryFriendlyByteBuf data, ShortSet updatedFields) {
      * @return True if any synchronized fields exist.
      */
     public boolean hasFields() {
-        return !fields.isEmpty();
+        return keys.length > 0;
     }
 }
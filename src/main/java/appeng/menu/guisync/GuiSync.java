@@ -24,7 +24,8 @@
 import java.lang.annotation.Target;
 
 /**
- * Annotates that this field should be synchronized between the server and client. Requires the field to be public.
+ * Annotates that this field should be synchronized between the server and client. Requires the field to be public,
+ * unless it holds a {@link SynchronizedValue} or {@link NullableSynchronizedValue}.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
@@ -5,17 +5,40 @@
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 
-public final class NullableSynchronizedValue<T> {
+/**
+ * Like {@link SynchronizedValue}, but starts out as null and may be reset to null.
+ */
+public final class NullableSynchronizedValue<T> extends TrackedValue<T> {
     private final StreamCodec<? super RegistryFriendlyByteBuf, T> streamCodec;
-    @Nullable
-    private T value;
 
     private NullableSynchronizedValue(StreamCodec<? super RegistryFriendlyByteBuf, T> streamCodec) {
+        super(null);
         this.streamCodec = streamCodec;
     }
 
+    public static <T> NullableSynchronizedValue<T> create(StreamCodec<? super RegistryFriendlyByteBuf, T> streamCodec) {
+        return new NullableSynchronizedValue<>(streamCodec);
+    }
+
     @Nullable
     public T get() {
         return value;
     }
+
+    public void set(@Nullable T value) {
+        update(value);
+    }
+
+    @Override
+    void write(RegistryFriendlyByteBuf data) {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            streamCodec.encode(data, value);
+        }
+    }
+
+    @Override
+    void read(RegistryFriendlyByteBuf data) {
+        value = data.readBoolean() ? streamCodec.decode(data) : null;
+    }
 }
@@ -20,6 +20,7 @@
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
@@ -64,7 +65,14 @@
         CODECS.put(Boolean.class, ByteBufCodecs.BOOL.apply(AECodecs::nullable));
     }
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     private final Object source;
+    /**
+     * Adapted to {@link #GETTER_TYPE} and {@link #SETTER_TYPE}, so they can be called with invokeExact, which avoids
+     * converting the arguments on every call when polling for changes.
+     */
     protected final MethodHandle getter;
     protected final MethodHandle setter;
     protected T clientVersion;
@@ -76,8 +84,8 @@ private SynchronizedField(Object source, Field field, StreamCodec<? super Regist
         this.source = source;
         field.setAccessible(true);
         try {
-            this.getter = MethodHandles.publicLookup().unreflectGetter(field);
-            this.setter = MethodHandles.publicLookup().unreflectSetter(field);
+            this.getter = MethodHandles.publicLookup().unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = MethodHandles.publicLookup().unreflectSetter(field).asType(SETTER_TYPE);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(
                     "Failed to get accessor for field " + field + ". Did you forget to make it public?");
@@ -87,7 +95,7 @@ private SynchronizedField(Object source, Field field, StreamCodec<? super Regist
     @SuppressWarnings("unchecked")
     private T getCurrentValue() {
         try {
-            return (T) this.getter.invoke(source);
+            return (T) (Object) this.getter.invokeExact(source);
         } catch (Throwable throwable) {
             throw new RuntimeException(throwable);
         }
@@ -106,7 +114,7 @@ public final void write(RegistryFriendlyByteBuf data) {
     public final void read(RegistryFriendlyByteBuf data) {
         T value = codec.decode(data);
         try {
-            setter.invoke(source, value);
+            setter.invokeExact(source, (Object) value);
         } catch (Throwable throwable) {
             throw new RuntimeException(throwable);
         }
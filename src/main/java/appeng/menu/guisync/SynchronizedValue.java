@@ -3,15 +3,16 @@
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 
-public final class SynchronizedValue<T> {
+/**
+ * A value that is synchronized from server to client when declared as a {@link GuiSync} field of a menu. Unlike plain
+ * fields, changes are tracked by {@link #set}, so unchanged values cost nothing when the menu checks for updates.
+ */
+public final class SynchronizedValue<T> extends TrackedValue<T> {
     private final StreamCodec<? super RegistryFriendlyByteBuf, T> streamCodec;
-    private final T initialValue;
-    private T value;
 
     private SynchronizedValue(StreamCodec<? super RegistryFriendlyByteBuf, T> streamCodec, T initialValue) {
+        super(initialValue);
         this.streamCodec = streamCodec;
-        this.initialValue = initialValue;
-        this.value = initialValue;
     }
 
     public T get() {
@@ -24,6 +25,16 @@ public static <T> SynchronizedValue<T> create(StreamCodec<? super RegistryFriend
     }
 
     public void set(T value) {
-        this.value = value;
+        update(value);
+    }
+
+    @Override
+    void write(RegistryFriendlyByteBuf data) {
+        streamCodec.encode(data, value);
+    }
+
+    @Override
+    void read(RegistryFriendlyByteBuf data) {
+        value = streamCodec.decode(data);
     }
 }
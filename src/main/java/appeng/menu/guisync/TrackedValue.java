@@ -0,0 +1,47 @@
+package appeng.menu.guisync;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+
+/**
+ * Base of synchronized values that tell their {@link DataSynchronization} when they change, instead of being compared
+ * against the last sent value every tick like plain {@link GuiSync} fields.
+ */
+abstract sealed class TrackedValue<T> permits SynchronizedValue, NullableSynchronizedValue {
+    @Nullable
+    private DataSynchronization owner;
+    private int index;
+    @Nullable
+    protected T value;
+
+    protected TrackedValue(@Nullable T value) {
+        this.value = value;
+    }
+
+    final void bind(DataSynchronization owner, int index) {
+        if (this.owner != null) {
+            throw new IllegalStateException("Synchronized value is already bound to another menu");
+        }
+        this.owner = owner;
+        this.index = index;
+    }
+
+    protected final void update(@Nullable T value) {
+        if (!Objects.equals(this.value, value)) {
+            this.value = value;
+            if (owner != null) {
+                owner.markDirty(index);
+            }
+        }
+    }
+
+    abstract void write(RegistryFriendlyByteBuf data);
+
+    /**
+     * Reads the value sent by the server. This does not mark the value as dirty.
+     */
+    abstract void read(RegistryFriendlyByteBuf data);
+}
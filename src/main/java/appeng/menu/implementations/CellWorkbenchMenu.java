@@ -46,6 +46,7 @@
 import appeng.helpers.externalstorage.GenericStackInv;
 import appeng.menu.SlotSemantics;
 import appeng.menu.guisync.ClientActionKey;
+import appeng.menu.guisync.GuiSync;
 import appeng.menu.guisync.SynchronizedValue;
 import appeng.menu.slot.CellPartitionSlot;
 import appeng.menu.slot.IPartitionSlotHost;
@@ -68,6 +69,7 @@ public class CellWorkbenchMenu extends UpgradeableMenu<CellWorkbenchBlockEntity>
             .create(CellWorkbenchMenu::new, CellWorkbenchBlockEntity.class)
             .build("cellworkbench");
 
+    @GuiSync(2)
     private final SynchronizedValue<CopyMode> copyMode = SynchronizedValue.create(CopyMode.STREAM_CODEC,
             CopyMode.CLEAR_ON_REMOVE);
 
@@ -19,6 +19,7 @@
 package appeng.menu.implementations;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -30,6 +31,7 @@
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.MenuType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
@@ -55,6 +57,7 @@
 import appeng.core.network.clientbound.SetLinkStatusPacket;
 import appeng.helpers.InventoryAction;
 import appeng.helpers.patternprovider.PatternContainer;
+import appeng.me.service.PatternContainerService;
 import appeng.menu.AEBaseMenu;
 import appeng.menu.guisync.GuiSync;
 import appeng.menu.guisync.LinkStatusAwareMenu;
@@ -87,6 +90,10 @@ public ShowPatternProviders getShownProviders() {
     // We use this serial number to uniquely identify all inventories we send to the client
     // It is used in packets sent by the client to interact with these inventories
     private static long inventorySerial = Long.MIN_VALUE;
+    /**
+     * How often the list of containers is compared against the grid, in ticks.
+     */
+    private static final int VERIFY_INTERVAL = 20;
     private final Map<PatternContainer, ContainerTracker> diList = new IdentityHashMap<>();
     private final Long2ObjectOpenHashMap<ContainerTracker> byId = new Long2ObjectOpenHashMap<>();
     /**
@@ -95,6 +102,18 @@ public ShowPatternProviders getShownProviders() {
      */
     private final Set<PatternContainer> pinnedHosts = Collections.newSetFromMap(new IdentityHashMap<>());
 
+    /**
+     * Containers whose patterns or group may have changed since the last update.
+     */
+    private final Set<PatternContainer> changedContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final PatternContainerService.Listener containerListener = this::onPatternContainerChanged;
+    @Nullable
+    private IGrid listenedGrid;
+    @Nullable
+    private ShowPatternProviders sentPatternProviders;
+    private boolean fullUpdateNeeded = true;
+    private int ticksUntilVerify;
+
     public PatternAccessTermMenu(int id, Inventory ip, IPatternAccessTermMenuHost anchor) {
         this(TYPE, id, ip, anchor, true);
     }
@@ -108,7 +127,6 @@ public PatternAccessTermMenu(MenuType<?> menuType, int id, Inventory ip, IPatter
         }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void broadcastChanges() {
         if (isClientSide()) {
@@ -124,30 +142,95 @@ public void broadcastChanges() {
         if (showPatternProviders != ShowPatternProviders.NOT_FULL) {
             this.pinnedHosts.clear();
         }
+        if (showPatternProviders != this.sentPatternProviders) {
+            this.fullUpdateNeeded = true;
+        }
 
         IGrid grid = getGrid();
+        if (grid != this.listenedGrid) {
+            setListenedGrid(grid);
+            this.fullUpdateNeeded = true;
+        }
 
-        var state = new VisitorState();
-        if (grid != null) {
-            for (var machineClass : grid.getMachineClasses()) {
-                if (PatternContainer.class.isAssignableFrom(machineClass)) {
-                    visitPatternProviderHosts(grid, (Class<? extends PatternContainer>) machineClass, state);
-                }
+        // Containers publish their changes, but a group derived from the adjacent machines can still change silently.
+        // Compare the full list every now and then, which also catches anything that slipped through otherwise.
+        var verify = grid != null && --this.ticksUntilVerify <= 0;
+        if (verify) {
+            this.ticksUntilVerify = VERIFY_INTERVAL;
+            if (!isUpToDate(grid)) {
+                this.fullUpdateNeeded = true;
             }
+        }
 
-            // Ensure we don't keep references to removed hosts
-            pinnedHosts.removeIf(host -> host.getGrid() != grid);
-        } else {
-            pinnedHosts.clear();
+        if (!this.fullUpdateNeeded && grid != null && needsFullUpdateForChangedContainers(grid)) {
+            this.fullUpdateNeeded = true;
         }
 
-        if (state.total != this.diList.size() || state.forceFullUpdate) {
+        if (this.fullUpdateNeeded) {
+            if (grid != null) {
+                // Ensure we don't keep references to removed hosts
+                pinnedHosts.removeIf(host -> host.getGrid() != grid);
+            } else {
+                pinnedHosts.clear();
+            }
             sendFullUpdate(grid);
+        } else if (verify) {
+            sendIncrementalUpdate(this.diList.keySet());
         } else {
-            sendIncrementalUpdate();
+            sendIncrementalUpdate(this.changedContainers);
+        }
+        this.changedContainers.clear();
+    }
+
+    @Override
+    public void removed(Player player) {
+        super.removed(player);
+        setListenedGrid(null);
+    }
+
+    private void setListenedGrid(@Nullable IGrid grid) {
+        if (this.listenedGrid != null) {
+            PatternContainerService.get(this.listenedGrid).removeListener(this.containerListener);
+        }
+        this.listenedGrid = grid;
+        if (grid != null) {
+            PatternContainerService.get(grid).addListener(this.containerListener);
+        }
+        this.changedContainers.clear();
+    }
+
+    private void onPatternContainerChanged(PatternContainer container, PatternContainerService.Change change) {
+        switch (change) {
+            case ADDED, VISIBILITY_CHANGED -> this.fullUpdateNeeded = true;
+            case REMOVED -> {
+                if (this.diList.containsKey(container)) {
+                    this.fullUpdateNeeded = true;
+                }
+                this.pinnedHosts.remove(container);
+            }
+            case GROUP_CHANGED, PATTERNS_CHANGED -> this.changedContainers.add(container);
         }
     }
 
+    /**
+     * Checks whether any of the containers that changed since the last update has to be added to or regrouped in the
+     * list shown by the client, which can only be done by a full update.
+     */
+    private boolean needsFullUpdateForChangedContainers(IGrid grid) {
+        for (var container : this.changedContainers) {
+            var tracker = this.diList.get(container);
+            if (tracker == null) {
+                // A container that was hidden because it was full may have to be shown now
+                if (container.getGrid() == grid && isVisible(container)) {
+                    return true;
+                }
+            } else if (!tracker.group.equals(container.getTerminalGroup())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Nullable
     private IGrid getGrid() {
         var agn = host.getGridNode();
@@ -161,13 +244,6 @@ public ILinkStatus getLinkStatus() {
         return linkStatus;
     }
 
-    private static class VisitorState {
-        // Total number of pattern provider hosts found
-        int total;
-        // Set to true if any visited machines were missing from diList, or had a different name
-        boolean forceFullUpdate;
-    }
-
     private boolean isFull(PatternContainer logic) {
         for (int i = 0; i < logic.getTerminalPatternInventory().size(); i++) {
             if (logic.getTerminalPatternInventory().getStackInSlot(i).isEmpty()) {
@@ -187,24 +263,32 @@ private boolean isVisible(PatternContainer container) {
         };
     }
 
-    private <T extends PatternContainer> void visitPatternProviderHosts(IGrid grid, Class<T> machineClass,
-            VisitorState state) {
-        for (var container : grid.getActiveMachines(machineClass)) {
-            if (!isVisible(container)) {
+    /**
+     * @return True if the visible containers of the grid are exactly the ones last sent to the client, in the same
+     *         groups.
+     */
+    private boolean isUpToDate(IGrid grid) {
+        int total = 0;
+        for (var machineClass : grid.getMachineClasses()) {
+            var containerClass = tryCastMachineToContainer(machineClass);
+            if (containerClass == null) {
                 continue;
             }
 
-            if (getShownProviders() == ShowPatternProviders.NOT_FULL) {
-                pinnedHosts.add(container);
-            }
+            for (var container : grid.getActiveMachines(containerClass)) {
+                if (!isVisible(container)) {
+                    continue;
+                }
 
-            var t = this.diList.get(container);
-            if (t == null || !t.group.equals(container.getTerminalGroup())) {
-                state.forceFullUpdate = true;
-            }
+                var t = this.diList.get(container);
+                if (t == null || !t.group.equals(container.getTerminalGroup())) {
+                    return false;
+                }
 
-            state.total++;
+                total++;
+            }
         }
+        return total == this.diList.size();
     }
 
     @Override
@@ -342,6 +426,9 @@ public void quickMovePattern(ServerPlayer player, int clickedSlot, List<Long> al
     private void sendFullUpdate(@Nullable IGrid grid) {
         this.byId.clear();
         this.diList.clear();
+        this.fullUpdateNeeded = false;
+        this.sentPatternProviders = showPatternProviders;
+        this.ticksUntilVerify = VERIFY_INTERVAL;
 
         sendPacketToClient(new ClearPatternAccessTerminalPacket());
 
@@ -357,6 +444,10 @@ private void sendFullUpdate(@Nullable IGrid grid) {
 
             for (var container : grid.getActiveMachines(containerClass)) {
                 if (isVisible(container)) {
+                    if (getShownProviders() == ShowPatternProviders.NOT_FULL) {
+                        pinnedHosts.add(container);
+                    }
+
                     this.diList.put(container, new ContainerTracker(container,
                             container.getTerminalPatternInventory(),
                             container.getTerminalGroup()));
@@ -370,8 +461,12 @@ private void sendFullUpdate(@Nullable IGrid grid) {
         }
     }
 
-    private void sendIncrementalUpdate() {
-        for (var inv : this.diList.values()) {
+    private void sendIncrementalUpdate(Collection<PatternContainer> containers) {
+        for (var container : containers) {
+            var inv = this.diList.get(container);
+            if (inv == null) {
+                continue;
+            }
             var packet = inv.createUpdatePacket();
             if (packet != null) {
                 sendPacketToClient(packet);
@@ -20,13 +20,13 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
 
@@ -55,6 +55,7 @@
 import appeng.api.implementations.menuobjects.IPortableTerminal;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingService;
 import appeng.api.networking.energy.IEnergySource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.stacks.AEFluidKey;
@@ -148,7 +149,13 @@ public class MEStorageMenu extends AEBaseMenu
     /**
      * The last set of craftables sent to the client.
      */
-    private Set<AEKey> previousCraftables = Collections.emptySet();
+    private Set<AEKey> previousCraftables = new HashSet<>();
+    /**
+     * The crafting service and its craftables version that {@link #previousCraftables} was last synchronized with.
+     */
+    @Nullable
+    private ICraftingService craftablesSource;
+    private long craftablesVersion;
     private KeyCounter previousAvailableStacks = new KeyCounter();
 
     public MEStorageMenu(MenuType<?> menuType, int id, Inventory ip, ITerminalHost host) {
@@ -249,7 +256,6 @@ public void broadcastChanges() {
                 this.searchKeyTypes = new SyncedKeyTypes(keyTypeSelectionHost.getKeyTypeSelection().enabled());
             }
 
-            var craftables = getCraftablesFromGrid();
             var availableStacks = storage.getAvailableStacks();
 
             // This is currently not supported/backed by any network service
@@ -257,10 +263,8 @@ public void broadcastChanges() {
 
             try {
                 // Craftables
-                // Newly craftable
-                Sets.difference(previousCraftables, craftables).forEach(updateHelper::addChange);
-                // No longer craftable
-                Sets.difference(craftables, previousCraftables).forEach(updateHelper::addChange);
+                updateCraftables();
+                var craftables = previousCraftables;
 
                 // Available changes
                 previousAvailableStacks.removeAll(availableStacks);
@@ -280,7 +284,6 @@ public void broadcastChanges() {
                 LOG.warn("Failed to send incremental inventory update to client", e);
             }
 
-            previousCraftables = ImmutableSet.copyOf(craftables);
             previousAvailableStacks = availableStacks;
 
             super.broadcastChanges();
@@ -304,20 +307,60 @@ protected boolean showsCraftables() {
         return true;
     }
 
-    private Set<AEKey> getCraftablesFromGrid() {
+    /**
+     * Brings {@link #previousCraftables} up to date and queues changes for every key whose craftable state changed. As
+     * long as the crafting service stays the same, only the keys it reports as changed are processed.
+     */
+    private void updateCraftables() {
+        var craftingService = getCraftingServiceFromGrid();
+
+        if (craftingService == null || craftingService != craftablesSource
+                || !craftingService.getCraftableChangesSince(craftablesVersion, this::onCraftableChanged)) {
+            Set<AEKey> craftables = craftingService != null
+                    ? craftingService.getCraftables(this::isKeyVisible)
+                    : Collections.emptySet();
+            // Newly craftable
+            Sets.difference(previousCraftables, craftables).forEach(updateHelper::addChange);
+            // No longer craftable
+            Sets.difference(craftables, previousCraftables).forEach(updateHelper::addChange);
+            previousCraftables = new HashSet<>(craftables);
+        }
+
+        craftablesSource = craftingService;
+        craftablesVersion = craftingService != null ? craftingService.getCraftablesVersion() : 0;
+    }
+
+    private void onCraftableChanged(AEKey what) {
+        if (craftablesSource == null || !isKeyVisible(what)) {
+            return;
+        }
+
+        boolean changed;
+        if (craftablesSource.isCraftable(what) || craftablesSource.canEmitFor(what)) {
+            changed = previousCraftables.add(what);
+        } else {
+            changed = previousCraftables.remove(what);
+        }
+        if (changed) {
+            updateHelper.addChange(what);
+        }
+    }
+
+    @Nullable
+    private ICraftingService getCraftingServiceFromGrid() {
         IGridNode hostNode = getGridNode();
         // Wireless terminals do not directly expose the target grid (even though they have one)
         if (hostNode == null && host instanceof IActionHost actionHost) {
             hostNode = actionHost.getActionableNode();
         }
         if (!showsCraftables()) {
-            return Collections.emptySet();
+            return null;
         }
 
         if (hostNode != null && hostNode.isActive()) {
-            return hostNode.getGrid().getCraftingService().getCraftables(this::isKeyVisible);
+            return hostNode.getGrid().getCraftingService();
         }
-        return Collections.emptySet();
+        return null;
     }
 
     private void updateActiveCraftingJobs() {
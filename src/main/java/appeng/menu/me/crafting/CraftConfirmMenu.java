@@ -18,8 +18,10 @@
 
 package appeng.menu.me.crafting;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import org.jetbrains.annotations.Nullable;
@@ -30,11 +32,14 @@
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Util;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.MenuType;
 import net.minecraft.world.level.Level;
 
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.crafting.CalculationStrategy;
@@ -51,6 +56,7 @@
 import appeng.api.storage.ISubMenuHost;
 import appeng.core.AELog;
 import appeng.core.AppEng;
+import appeng.core.network.clientbound.CraftConfirmPlanEntriesPacket;
 import appeng.core.network.clientbound.CraftConfirmPlanPacket;
 import appeng.crafting.execution.CraftingSubmitResult;
 import appeng.helpers.ICraftingGridMenu;
@@ -75,6 +81,16 @@ public class CraftConfirmMenu extends AEBaseMenu implements ISubMenu {
     private static final ClientActionKey<Boolean> ACTION_CYCLE_CPU = new ClientActionKey<>("cycleCpu");
     private static final ClientActionKey<Void> ACTION_START_JOB = new ClientActionKey<>("startJob");
     private static final ClientActionKey<Void> ACTION_REPLAN = new ClientActionKey<>("replan");
+    private static final ClientActionKey<Integer> ACTION_REQUEST_PLAN_PAGE = new ClientActionKey<>("requestPlanPage");
+
+    /**
+     * The plan entries are sent to the client in pages of this size.
+     */
+    private static final int PLAN_PAGE_SIZE = 64;
+    /**
+     * How many pages are sent per tick in addition to those requested by the client for display.
+     */
+    private static final int STREAMED_PLAN_PAGES_PER_TICK = 2;
 
     private static final SyncableSubmitResult NO_ERROR = new SyncableSubmitResult((ICraftingSubmitResult) null);
 
@@ -110,6 +126,17 @@ public class CraftConfirmMenu extends AEBaseMenu implements ISubMenu {
 
     private CraftingPlanSummary plan;
 
+    /**
+     * The summary of a plan that is still being built off-thread.
+     */
+    @Nullable
+    private CompletableFuture<CraftingPlanSummary> pendingPlan;
+    /**
+     * Server: Pages of {@link #plan} that were already sent. Client: Pages that were requested or received.
+     */
+    private final BitSet sentPlanPages = new BitSet();
+    private final IntArrayFIFOQueue requestedPlanPages = new IntArrayFIFOQueue();
+
     private final ISubMenuHost host;
 
     /**
@@ -134,6 +161,7 @@ public CraftConfirmMenu(int id, Inventory ip, ISubMenuHost te) {
         registerClientAction(ACTION_CYCLE_CPU, ByteBufCodecs.BOOL, this::cycleSelectedCPU);
         registerClientAction(ACTION_START_JOB, this::startJob);
         registerClientAction(ACTION_REPLAN, this::replan);
+        registerClientAction(ACTION_REQUEST_PLAN_PAGE, ByteBufCodecs.VAR_INT, this::requestPlanPage);
     }
 
     /**
@@ -174,6 +202,10 @@ public boolean planJob(AEKey what, int amount, CalculationStrategy strategy) {
         if (this.job != null) {
             this.job.cancel(true);
         }
+        if (this.pendingPlan != null) {
+            this.pendingPlan.cancel(false);
+            this.pendingPlan = null;
+        }
         this.result = null;
         this.clearError();
 
@@ -233,9 +265,15 @@ public void broadcastChanges() {
                     return;
                 }
 
-                this.plan = CraftingPlanSummary.fromJob(getGrid(), getActionSrc(), this.result);
-
-                sendPacketToClient(new CraftConfirmPlanPacket(plan));
+                if (this.result.simulation()) {
+                    // Missing items have to be checked against the grid inventory on the server thread
+                    setServerPlan(CraftingPlanSummary.fromJob(getGrid(), getActionSrc(), this.result));
+                } else {
+                    var completePlan = this.result;
+                    this.pendingPlan = CompletableFuture.supplyAsync(
+                            () -> CraftingPlanSummary.fromCompletePlan(completePlan),
+                            Util.backgroundExecutor());
+                }
             } catch (Throwable e) {
                 AppEng.instance().sendSystemMessage(this.getPlayerInventory().player, Component.literal("Error: " + e));
                 AELog.warn("Failed to start crafting job.", e);
@@ -245,6 +283,104 @@ public void broadcastChanges() {
 
             this.job = null;
         }
+
+        if (this.pendingPlan != null && this.pendingPlan.isDone()) {
+            var summary = this.pendingPlan;
+            this.pendingPlan = null;
+            try {
+                setServerPlan(summary.join());
+            } catch (Throwable e) {
+                AppEng.instance().sendSystemMessage(this.getPlayerInventory().player, Component.literal("Error: " + e));
+                AELog.warn("Failed to summarize crafting plan.", e);
+                this.setValidMenu(false);
+                this.result = null;
+            }
+        }
+
+        sendPlanPages();
+    }
+
+    /**
+     * Sends the totals of a new plan summary to the client. The entries follow in pages.
+     */
+    private void setServerPlan(CraftingPlanSummary plan) {
+        this.plan = plan;
+        this.sentPlanPages.clear();
+        this.requestedPlanPages.clear();
+        sendPacketToClient(new CraftConfirmPlanPacket(plan.getUsedBytes(), plan.isSimulation(),
+                plan.getEntries().size()));
+    }
+
+    /**
+     * Sends the pages the client requested for display, then continues streaming the rest of the plan in sort order.
+     */
+    private void sendPlanPages() {
+        if (this.plan == null) {
+            return;
+        }
+
+        int pageCount = getPlanPageCount(this.plan);
+        while (!this.requestedPlanPages.isEmpty()) {
+            var page = this.requestedPlanPages.dequeueInt();
+            if (page < pageCount && !this.sentPlanPages.get(page)) {
+                sendPlanPage(page);
+            }
+        }
+
+        for (int i = 0; i < STREAMED_PLAN_PAGES_PER_TICK; i++) {
+            var page = this.sentPlanPages.nextClearBit(0);
+            if (page >= pageCount) {
+                break;
+            }
+            sendPlanPage(page);
+        }
+    }
+
+    private void sendPlanPage(int page) {
+        var entries = this.plan.getEntries();
+        var offset = page * PLAN_PAGE_SIZE;
+        var pageEntries = entries.subList(offset, Math.min(entries.size(), offset + PLAN_PAGE_SIZE));
+        this.sentPlanPages.set(page);
+        sendPacketToClient(new CraftConfirmPlanEntriesPacket(offset, List.copyOf(pageEntries)));
+    }
+
+    private static int getPlanPageCount(CraftingPlanSummary plan) {
+        return (plan.getEntries().size() + PLAN_PAGE_SIZE - 1) / PLAN_PAGE_SIZE;
+    }
+
+    private void requestPlanPage(int page) {
+        if (this.plan != null && page >= 0 && page < getPlanPageCount(this.plan)) {
+            this.requestedPlanPages.enqueue(page);
+        }
+    }
+
+    /**
+     * Requests the entries in the given range of the plan, if they were not received yet. Used by the client to load
+     * the visible part of the plan first.
+     */
+    public void requestPlanEntries(int from, int to) {
+        if (this.plan == null) {
+            return;
+        }
+
+        int pageCount = getPlanPageCount(this.plan);
+        for (int page = Math.max(0, from / PLAN_PAGE_SIZE); page <= (to - 1) / PLAN_PAGE_SIZE
+                && page < pageCount; page++) {
+            if (!this.sentPlanPages.get(page)) {
+                this.sentPlanPages.set(page);
+                sendClientAction(ACTION_REQUEST_PLAN_PAGE, page);
+            }
+        }
+    }
+
+    /**
+     * Client: Stores a page of plan entries received from the server.
+     */
+    public void receivePlanEntries(int offset, List<CraftingPlanSummaryEntry> entries) {
+        if (this.plan != null) {
+            this.plan.setEntries(offset, entries);
+            this.sentPlanPages.set(offset / PLAN_PAGE_SIZE);
+        }
     }
 
     private IGrid getGrid() {
@@ -302,6 +438,10 @@ public void removed(Player player) {
             this.job.cancel(true);
             this.job = null;
         }
+        if (this.pendingPlan != null) {
+            this.pendingPlan.cancel(false);
+            this.pendingPlan = null;
+        }
     }
 
     private void onCPUSelectionChanged(CraftingCPURecord cpuRecord, boolean cpusAvailable) {
@@ -363,6 +503,7 @@ public CraftingPlanSummary getPlan() {
 
     public void setPlan(CraftingPlanSummary plan) {
         this.plan = plan;
+        this.sentPlanPages.clear();
     }
 
     public void goBack() {
@@ -18,18 +18,14 @@
 
 package appeng.menu.me.crafting;
 
-import java.util.function.Consumer;
-
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.MenuType;
 
 import appeng.api.config.CpuSelectionMode;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.crafting.ICraftingCPU;
 import appeng.api.networking.security.IActionHost;
-import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 import appeng.blockentity.crafting.CraftingBlockEntity;
 import appeng.core.network.clientbound.CraftingStatusPacket;
@@ -63,7 +59,11 @@ public class CraftingCPUMenu extends AEBaseMenu {
     private final IncrementalUpdateHelper incrementalUpdateHelper = new IncrementalUpdateHelper();
     private final IGrid grid;
     private CraftingCPUCluster cpu = null;
-    private final Consumer<AEKey> cpuChangeListener = incrementalUpdateHelper::addChange;
+    /**
+     * The {@link appeng.crafting.execution.CraftingCpuLogic#getChangeVersion() change version} of the CPU that was last
+     * sent to the client.
+     */
+    private long sentChangeVersion;
     private boolean cachedSuspend;
 
     @GuiSync(0)
@@ -98,24 +98,13 @@ protected void setCPU(ICraftingCPU c) {
             return;
         }
 
-        if (this.cpu != null) {
-            this.cpu.craftingLogic.removeListener(cpuChangeListener);
-        }
-
-        this.incrementalUpdateHelper.reset();
         this.cachedSuspend = false;
 
         if (c instanceof CraftingCPUCluster) {
             this.cpu = (CraftingCPUCluster) c;
 
             // Initially send all items as a full-update to the client when the CPU changes
-            var allItems = new KeyCounter();
-            cpu.craftingLogic.getAllItems(allItems);
-            for (var entry : allItems) {
-                incrementalUpdateHelper.addChange(entry.getKey());
-            }
-
-            this.cpu.craftingLogic.addListener(cpuChangeListener);
+            queueFullUpdate();
         } else {
             this.cpu = null;
             // Clear the crafting status
@@ -123,6 +112,17 @@ protected void setCPU(ICraftingCPU c) {
         }
     }
 
+    private void queueFullUpdate() {
+        this.incrementalUpdateHelper.reset();
+
+        var allItems = new KeyCounter();
+        cpu.craftingLogic.getAllItems(allItems);
+        for (var entry : allItems) {
+            incrementalUpdateHelper.addChange(entry.getKey());
+        }
+        this.sentChangeVersion = cpu.craftingLogic.getChangeVersion();
+    }
+
     public void cancelCrafting() {
         if (isClientSide()) {
             sendClientAction(ACTION_CANCEL_CRAFTING);
@@ -142,20 +142,18 @@ public void toggleScheduling() {
         }
     }
 
-    @Override
-    public void removed(Player player) {
-        super.removed(player);
-        if (this.cpu != null) {
-            this.cpu.craftingLogic.removeListener(cpuChangeListener);
-        }
-    }
-
     @Override
     public void broadcastChanges() {
         if (isServerSide() && this.cpu != null) {
             this.schedulingMode = this.cpu.getSelectionMode();
             this.cantStoreItems = this.cpu.craftingLogic.isCantStoreItems();
 
+            // Only the entries that changed since the last update are resent
+            if (!this.cpu.craftingLogic.getChangesSince(this.sentChangeVersion, incrementalUpdateHelper::addChange)) {
+                queueFullUpdate();
+            }
+            this.sentChangeVersion = this.cpu.craftingLogic.getChangeVersion();
+
             if (this.incrementalUpdateHelper.hasChanges()
                     || this.cachedSuspend != this.cpu.craftingLogic.isJobSuspended()) {
                 CraftingStatus status = CraftingStatus.create(this.incrementalUpdateHelper, this.cpu.craftingLogic);
@@ -19,14 +19,14 @@
 package appeng.menu.me.crafting;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import com.google.common.collect.ImmutableList;
-
-import net.minecraft.network.RegistryFriendlyByteBuf;
+import com.google.common.base.Preconditions;
 
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGrid;
@@ -65,30 +65,27 @@ public boolean isSimulation() {
         return simulation;
     }
 
+    /**
+     * @return The entries in sort order. On the client, entries that were not received yet are null.
+     */
     public List<CraftingPlanSummaryEntry> getEntries() {
         return entries;
     }
 
-    public void write(RegistryFriendlyByteBuf buffer) {
-        buffer.writeVarLong(usedBytes);
-        buffer.writeBoolean(simulation);
-        buffer.writeVarInt(entries.size());
-        for (CraftingPlanSummaryEntry entry : entries) {
-            entry.write(buffer);
-        }
+    /**
+     * Creates the client-side summary of a plan, whose entries are received later in pages.
+     */
+    public static CraftingPlanSummary createPending(long usedBytes, boolean simulation, int entryCount) {
+        return new CraftingPlanSummary(usedBytes, simulation, Arrays.asList(new CraftingPlanSummaryEntry[entryCount]));
     }
 
-    public static CraftingPlanSummary read(RegistryFriendlyByteBuf buffer) {
-
-        long bytesUsed = buffer.readVarLong();
-        boolean simulation = buffer.readBoolean();
-        int entryCount = buffer.readVarInt();
-        ImmutableList.Builder<CraftingPlanSummaryEntry> entries = ImmutableList.builder();
-        for (int i = 0; i < entryCount; i++) {
-            entries.add(CraftingPlanSummaryEntry.read(buffer));
+    /**
+     * Stores entries received for a summary created by {@link #createPending}.
+     */
+    public void setEntries(int offset, List<CraftingPlanSummaryEntry> received) {
+        for (int i = 0; i < received.size() && offset + i < entries.size(); i++) {
+            entries.set(offset + i, received.get(i));
         }
-
-        return new CraftingPlanSummary(bytesUsed, simulation, entries.build());
     }
 
     private static class KeyStats {
@@ -103,37 +100,12 @@ private static class KeyStats {
      * @param actionSource The action source used to determine the amount of items already stored.
      */
     public static CraftingPlanSummary fromJob(IGrid grid, IActionSource actionSource, ICraftingPlan job) {
-        var plan = new HashMap<AEKey, KeyStats>() {
-            private KeyStats mapping(AEKey key) {
-                Objects.requireNonNull(key, "Key may not be null");
-
-                return computeIfAbsent(key, k -> new KeyStats());
-            }
-        };
-
-        for (var used : job.usedItems()) {
-            plan.mapping(used.getKey()).stored += used.getLongValue();
-        }
-        for (var missing : job.missingItems()) {
-            plan.mapping(missing.getKey()).stored += missing.getLongValue();
-        }
-        for (var emitted : job.emittedItems()) {
-            var entry = plan.mapping(emitted.getKey());
-            entry.stored += emitted.getLongValue();
-            entry.crafting += emitted.getLongValue();
-        }
-        for (var entry : job.patternTimes().entrySet()) {
-            for (var out : entry.getKey().getOutputs()) {
-                plan.mapping(out.what()).crafting += out.amount() * entry.getValue();
-            }
-        }
-
         var entries = new ArrayList<CraftingPlanSummaryEntry>();
 
         var storage = grid.getStorageService().getInventory();
         var crafting = grid.getCraftingService();
 
-        for (var out : plan.entrySet()) {
+        for (var out : collectKeyStats(job).entrySet()) {
             long missingAmount;
             long storedAmount;
             if (job.simulation() && !crafting.canEmitFor(out.getKey())) {
@@ -159,4 +131,50 @@ private KeyStats mapping(AEKey key) {
 
     }
 
+    /**
+     * Creates a plan summary from a planning result that is not a simulation. Such plans have no missing items, so the
+     * summary only depends on the plan itself, and this can be called from any thread.
+     */
+    public static CraftingPlanSummary fromCompletePlan(ICraftingPlan job) {
+        Preconditions.checkArgument(!job.simulation(), "Simulated plans need to be checked against the grid");
+
+        var entries = new ArrayList<CraftingPlanSummaryEntry>();
+        for (var out : collectKeyStats(job).entrySet()) {
+            entries.add(new CraftingPlanSummaryEntry(out.getKey(), 0, out.getValue().stored, out.getValue().crafting));
+        }
+
+        Collections.sort(entries);
+
+        return new CraftingPlanSummary(job.bytes(), false, List.copyOf(entries));
+    }
+
+    private static Map<AEKey, KeyStats> collectKeyStats(ICraftingPlan job) {
+        var plan = new HashMap<AEKey, KeyStats>() {
+            private KeyStats mapping(AEKey key) {
+                Objects.requireNonNull(key, "Key may not be null");
+
+                return computeIfAbsent(key, k -> new KeyStats());
+            }
+        };
+
+        for (var used : job.usedItems()) {
+            plan.mapping(used.getKey()).stored += used.getLongValue();
+        }
+        for (var missing : job.missingItems()) {
+            plan.mapping(missing.getKey()).stored += missing.getLongValue();
+        }
+        for (var emitted : job.emittedItems()) {
+            var entry = plan.mapping(emitted.getKey());
+            entry.stored += emitted.getLongValue();
+            entry.crafting += emitted.getLongValue();
+        }
+        for (var entry : job.patternTimes().entrySet()) {
+            for (var out : entry.getKey().getOutputs()) {
+                plan.mapping(out.what()).crafting += out.amount() * entry.getValue();
+            }
+        }
+
+        return plan;
+    }
+
 }
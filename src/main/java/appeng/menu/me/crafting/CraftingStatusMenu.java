@@ -22,7 +22,9 @@
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableSet;
 
@@ -58,6 +60,12 @@ public class CraftingStatusMenu extends CraftingCPUMenu implements ISubMenu {
             .thenComparing(e -> e.name() != null ? e.name().getString() : "")
             .thenComparingInt(CraftingCpuListEntry::serial);
 
+    /**
+     * Smaller changes of the progress of running jobs don't cause the CPU list to be resent.
+     */
+    private static final float PROGRESS_THRESHOLD = 0.01f;
+    private static final long ELAPSED_TIME_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
     private static final ClientActionKey<Integer> ACTION_SELECT_CPU = new ClientActionKey<>("selectCpu");
 
     public static final MenuType<CraftingStatusMenu> TYPE = MenuTypeBuilder
@@ -105,11 +113,18 @@ protected void setCPU(ICraftingCPU c) {
     public void broadcastChanges() {
         IGrid network = this.getGrid();
         if (isServerSide() && network != null) {
-            if (!lastCpuSet.equals(network.getCraftingService().getCpus())
-                    // Always try to update once every second to show job progress
-                    || ++lastUpdate >= 20) {
-                lastCpuSet = network.getCraftingService().getCpus();
+            var cpus = network.getCraftingService().getCpus();
+            if (!lastCpuSet.equals(cpus)) {
+                lastCpuSet = cpus;
                 cpuList = createCpuList();
+                lastUpdate = 0;
+            } else if (++lastUpdate >= 20) {
+                // Check the job progress once every second, but only resend the list if it changed noticeably
+                lastUpdate = 0;
+                var newCpuList = createCpuList();
+                if (cpuList.differsNoticeably(newCpuList)) {
+                    cpuList = newCpuList;
+                }
             }
         } else {
             lastUpdate = 20;
@@ -215,6 +230,21 @@ private static List<CraftingCpuListEntry> readFromPacket(RegistryFriendlyByteBuf
             return result;
         }
 
+        /**
+         * @return True if any CPU was added, removed or changed, ignoring small changes in the progress of their jobs.
+         */
+        boolean differsNoticeably(CraftingCpuList other) {
+            if (cpus.size() != other.cpus.size()) {
+                return true;
+            }
+            for (int i = 0; i < cpus.size(); i++) {
+                if (cpus.get(i).differsNoticeably(other.cpus.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         @Override
         public void writeToPacket(RegistryFriendlyByteBuf data) {
             data.writeInt(cpus.size());
@@ -245,6 +275,17 @@ public static CraftingCpuListEntry readFromPacket(RegistryFriendlyByteBuf data)
                     data.readVarLong());
         }
 
+        boolean differsNoticeably(CraftingCpuListEntry other) {
+            return serial != other.serial
+                    || storage != other.storage
+                    || coProcessors != other.coProcessors
+                    || !Objects.equals(name, other.name)
+                    || mode != other.mode
+                    || !Objects.equals(currentJob, other.currentJob)
+                    || Math.abs(progress - other.progress) >= PROGRESS_THRESHOLD
+                    || Math.abs(elapsedTimeNanos - other.elapsedTimeNanos) >= ELAPSED_TIME_THRESHOLD_NANOS;
+        }
+
         public void writeToPacket(RegistryFriendlyByteBuf data) {
             data.writeInt(serial);
             data.writeLong(storage);
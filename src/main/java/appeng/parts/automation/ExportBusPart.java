@@ -18,7 +18,9 @@
 
 package appeng.parts.automation;
 
-import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.common.collect.ImmutableSet;
 
 import org.jetbrains.annotations.NotNull;
@@ -60,6 +62,8 @@ public class ExportBusPart extends IOBusPart implements ICraftingRequester {
     private int nextSlot = 0;
     @Nullable
     private StackExportStrategy exportStrategy;
+    // Reused for collecting the fuzzy variants of each configured key
+    private final List<AEKey> fuzzyVariants = new ArrayList<>();
 
     public ExportBusPart(IPartItem<?> partItem) {
         super(TickRates.ExportBus, StackWorldBehaviors.withExportStrategy(), partItem);
@@ -124,19 +128,25 @@ protected boolean doBusWork(IGrid grid) {
             var before = context.getOperationsRemaining();
 
             if (isUpgradedWith(AEItems.FUZZY_CARD)) {
-                // When fuzzy exporting, simply attempt export of all items in the set of fuzzy-equals keys
-                for (var fuzzyWhat : ImmutableList
-                        .copyOf(storageService.getCachedInventory().findFuzzy(what, fzMode))) {
+                // When fuzzy exporting, simply attempt export of all items in the set of fuzzy-equals keys.
+                // They are collected first, since exporting may change the network content we're searching.
+                fuzzyVariants.clear();
+                storageService.findFuzzyVariants(what, fzMode, fuzzyVariants);
+                for (var fuzzyWhat : fuzzyVariants) {
                     // The max amount exported is scaled by the key-space's transfer factor (think millibuckets vs.
                     // items)
-                    var transferFactory = fuzzyWhat.getKey().getAmountPerOperation();
+                    var transferFactory = fuzzyWhat.getAmountPerOperation();
                     long amount = (long) context.getOperationsRemaining() * transferFactory;
-                    amount = getExportStrategy().transfer(context, fuzzyWhat.getKey(), amount);
-                    context.reduceOperationsRemaining(Math.max(1, amount / transferFactory));
+                    amount = getExportStrategy().transfer(context, fuzzyWhat, amount);
+                    // Variants may no longer be stored, which must not use up operations
+                    if (amount > 0) {
+                        context.reduceOperationsRemaining(Math.max(1, amount / transferFactory));
+                    }
                     if (!context.hasOperationsLeft()) {
                         break;
                     }
                 }
+                fuzzyVariants.clear();
             } else {
                 // The max amount exported is scaled by the key-space's transfer factor (think millibuckets vs. items)
                 var transferFactor = what.getAmountPerOperation();
@@ -38,6 +38,9 @@
 public class ImportBusPart extends IOBusPart implements KeyTypeSelectionHost {
     @Nullable
     private StackImportStrategy importStrategy;
+    // Reused across ticks to avoid allocating a new context each time the bus works
+    @Nullable
+    private StackTransferContextImpl transferContext;
     private final KeyTypeSelection keyTypeSelection;
 
     public ImportBusPart(IPartItem<?> partItem) {
@@ -62,12 +65,17 @@ protected boolean doBusWork(IGrid grid) {
                     keyTypeSelection.enabledPredicate());
         }
 
-        var context = new StackTransferContextImpl(
-                grid.getStorageService(),
-                grid.getEnergyService(),
-                this.source,
-                getOperationsPerTick(),
-                getFilter());
+        var context = this.transferContext;
+        if (context == null) {
+            context = this.transferContext = new StackTransferContextImpl(
+                    grid.getStorageService(),
+                    grid.getEnergyService(),
+                    this.source,
+                    getOperationsPerTick(),
+                    getFilter());
+        } else {
+            context.reset(grid.getStorageService(), grid.getEnergyService(), getOperationsPerTick(), getFilter());
+        }
 
         context.setInverted(this.isUpgradedWith(AEItems.INVERTER_CARD));
         importStrategy.transfer(context);
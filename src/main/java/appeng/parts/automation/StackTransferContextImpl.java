@@ -17,12 +17,12 @@
  * Context for stack transfer operations, regardless of whether they occur in or out of the network.
  */
 class StackTransferContextImpl implements StackTransferContext {
-    private final IStorageService internalStorage;
-    private final IEnergySource energySource;
+    private IStorageService internalStorage;
+    private IEnergySource energySource;
     private final IActionSource actionSource;
-    private final IPartitionList filter;
-    private final Set<AEKeyType> keyTypes;
-    private final int initialOperations;
+    private IPartitionList filter;
+    private final Set<AEKeyType> keyTypes = new HashSet<>();
+    private int initialOperations;
     private int operationsRemaining;
     private boolean isInverted;
 
@@ -30,15 +30,26 @@ public StackTransferContextImpl(IStorageService internalStorage, IEnergySource e
             IActionSource actionSource,
             int operationsRemaining,
             IPartitionList filter) {
+        this.actionSource = actionSource;
+        reset(internalStorage, energySource, operationsRemaining, filter);
+    }
+
+    /**
+     * Prepares this context for another transfer, so that busses can reuse their context instead of allocating a new
+     * one every tick.
+     */
+    void reset(IStorageService internalStorage, IEnergySource energySource, int operationsRemaining,
+            IPartitionList filter) {
         this.internalStorage = internalStorage;
         this.energySource = energySource;
-        this.actionSource = actionSource;
-        this.filter = filter;
         this.initialOperations = operationsRemaining;
         this.operationsRemaining = operationsRemaining;
-        this.keyTypes = new HashSet<>();
-        for (AEKey item : filter.getItems()) {
-            this.keyTypes.add(item.getType());
+        if (filter != this.filter) {
+            this.filter = filter;
+            this.keyTypes.clear();
+            for (AEKey item : filter.getItems()) {
+                this.keyTypes.add(item.getType());
+            }
         }
     }
 
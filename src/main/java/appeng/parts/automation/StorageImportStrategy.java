@@ -1,5 +1,10 @@
 package appeng.parts.automation;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -10,15 +15,43 @@
 import appeng.api.behaviors.StackImportStrategy;
 import appeng.api.behaviors.StackTransferContext;
 import appeng.api.config.Actionable;
+import appeng.api.stacks.AEKey;
+import appeng.api.storage.MEStorage;
 import appeng.core.AELog;
+import appeng.me.storage.ExternalStorageFacade;
+import appeng.me.storage.NetworkStorage;
 
 /**
  * Strategy for efficiently importing stacks from external storage into an internal
  * {@link appeng.api.storage.MEStorage}.
  */
 public class StorageImportStrategy<T, S> implements StackImportStrategy {
+    /**
+     * Keys refused by the network are not retried for this many ticks, unless the network storage changed in a way
+     * that may make room for them. Storage busses can gain free space without the network noticing, so this must not
+     * be too long.
+     */
+    private static final int REJECTED_KEYS_TIMEOUT = 20;
+
     private final BlockCapabilityCache<T, Direction> cache;
     private final HandlerStrategy<T, S> conversion;
+    private final ServerLevel level;
+
+    // The facade is only recreated when the adjacent handler changes
+    @Nullable
+    private T facadeHandler;
+    @Nullable
+    private ExternalStorageFacade facade;
+
+    // The slot to continue at in the next transfer, so that we don't walk past the same empty or refused slots again
+    private int nextSlot;
+
+    // Keys that the network refused to accept since it last changed
+    private final Set<AEKey> rejectedKeys = new HashSet<>();
+    @Nullable
+    private MEStorage rejectedBy;
+    private int rejectedSpaceVersion;
+    private long rejectedSince;
 
     public StorageImportStrategy(BlockCapability<T, Direction> capability,
             HandlerStrategy<T, S> conversion,
@@ -27,6 +60,7 @@ public StorageImportStrategy(BlockCapability<T, Direction> capability,
             Direction fromSide) {
         this.cache = BlockCapabilityCache.create(capability, level, fromPos, fromSide);
         this.conversion = conversion;
+        this.level = level;
     }
 
     @Override
@@ -37,58 +71,109 @@ public boolean transfer(StackTransferContext context) {
 
         var adjacentHandler = cache.getCapability();
         if (adjacentHandler == null) {
+            this.facadeHandler = null;
+            this.facade = null;
             return false;
         }
 
-        var adjacentStorage = conversion.getFacade(adjacentHandler);
+        if (adjacentHandler != this.facadeHandler || this.facade == null) {
+            this.facadeHandler = adjacentHandler;
+            this.facade = conversion.getFacade(adjacentHandler);
+        }
+        var adjacentStorage = this.facade;
 
         long remainingTransferAmount = context.getOperationsRemaining()
                 * (long) conversion.getKeyType().getAmountPerOperation();
 
         var inv = context.getInternalStorage();
+        var rememberRejections = updateRejectedKeys(inv.getInventory());
+
+        var slots = adjacentStorage.getSlots();
+        if (nextSlot >= slots) {
+            nextSlot = 0;
+        }
 
         // Try to find an extractable resource that fits our filter
-        for (int i = 0; i < adjacentStorage.getSlots() && remainingTransferAmount > 0; i++) {
-            var resource = adjacentStorage.getStackInSlot(i);
-            if (resource == null
+        for (int n = 0; n < slots && remainingTransferAmount > 0; n++) {
+            var i = (nextSlot + n) % slots;
+            var what = adjacentStorage.getKeyInSlot(i);
+            if (what == null
                     // Regard a filter that is set on the bus
-                    || context.isInFilter(resource.what()) == context.isInverted()) {
+                    || context.isInFilter(what) == context.isInverted()
+                    || rejectedKeys.contains(what)) {
                 continue;
             }
 
             // Check how much of *this* resource we can actually insert into the network, it might be 0
             // if the cells are partitioned or there's not enough types left, etc.
-            var amountForThisResource = inv.getInventory().insert(resource.what(), remainingTransferAmount,
-                    Actionable.SIMULATE,
+            var reservation = inv.getInventory().reserveInsert(what, remainingTransferAmount,
                     context.getActionSource());
+            if (reservation.amount() <= 0) {
+                if (rememberRejections) {
+                    rejectedKeys.add(what);
+                }
+                continue;
+            }
 
-            // Try to simulate-extract it
-            var amount = adjacentStorage.extract(resource.what(), amountForThisResource, Actionable.MODULATE,
-                    context.getActionSource());
-            if (amount > 0) {
-                var inserted = inv.getInventory().insert(resource.what(), amount, Actionable.MODULATE,
+            long amount;
+            long inserted;
+            try {
+                amount = adjacentStorage.extract(what, reservation.amount(), Actionable.MODULATE,
                         context.getActionSource());
+                inserted = amount > 0 ? reservation.commit(amount) : 0;
+            } finally {
+                reservation.release();
+            }
 
+            if (amount > 0) {
                 if (inserted < amount) {
                     // Be nice and try to give the overflow back
                     long leftover = amount - inserted;
-                    leftover -= adjacentStorage.insert(resource.what(), leftover, Actionable.MODULATE,
+                    leftover -= adjacentStorage.insert(what, leftover, Actionable.MODULATE,
                             context.getActionSource());
                     if (leftover > 0) {
                         AELog.warn("Extracted %dx%s from adjacent storage and voided it because network refused insert",
-                                leftover, resource.what());
+                                leftover, what);
                     }
                 }
 
                 var opsUsed = Math.max(1, inserted / conversion.getKeyType().getAmountPerOperation());
                 context.reduceOperationsRemaining(opsUsed);
                 remainingTransferAmount -= inserted;
+
+                // This slot may still have more to give next time
+                nextSlot = i;
             }
         }
 
         return false;
     }
 
+    /**
+     * Forgets the keys refused by the network if it may accept them now.
+     *
+     * @return False if the given storage doesn't tell us when it changes, in which case refused keys must not be
+     *         remembered at all.
+     */
+    private boolean updateRejectedKeys(MEStorage storage) {
+        if (!(storage instanceof NetworkStorage networkStorage)) {
+            rejectedKeys.clear();
+            rejectedBy = null;
+            return false;
+        }
+
+        var gameTime = level.getGameTime();
+        if (storage != rejectedBy
+                || networkStorage.getSpaceVersion() != rejectedSpaceVersion
+                || gameTime - rejectedSince >= REJECTED_KEYS_TIMEOUT) {
+            rejectedKeys.clear();
+            rejectedBy = storage;
+            rejectedSpaceVersion = networkStorage.getSpaceVersion();
+            rejectedSince = gameTime;
+        }
+        return true;
+    }
+
     public static StackImportStrategy createItem(ServerLevel level, BlockPos fromPos, Direction fromSide) {
         return new StorageImportStrategy<>(
                 Capabilities.Item.BLOCK,
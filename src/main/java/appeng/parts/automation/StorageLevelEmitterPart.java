@@ -59,6 +59,13 @@ public class StorageLevelEmitterPart extends AbstractLevelEmitterPart
     private IStackWatcher storageWatcher;
     private IStackWatcher craftingWatcher;
     private long lastUpdateTick = -1;
+    /**
+     * The key and threshold currently registered with the storage watcher, if only the crossing of the reporting
+     * value needs to be watched.
+     */
+    @Nullable
+    private AEKey watchedThresholdKey;
+    private long watchedThreshold;
 
     private final IStorageWatcherNode stackWatcherNode = new IStorageWatcherNode() {
         @Override
@@ -75,6 +82,11 @@ public void onStackChange(AEKey what, long amount) {
             } else { // either fuzzy upgrade or null filter
                 // When using a fuzzy upgrade or no filter at all, the level emitter will actively scan the grid
                 // We need to ensure we only do this once per tick in case any stack has changed.
+                var myStack = getConfiguredKey();
+                if (myStack != null
+                        && !what.fuzzyEquals(myStack, getConfigManager().getSetting(Settings.FUZZY_MODE))) {
+                    return; // Changes of unrelated keys can't change the fuzzy amount
+                }
                 long currentTick = TickHandler.instance().getCurrentTick();
                 if (currentTick != lastUpdateTick) {
                     lastUpdateTick = currentTick;
@@ -177,6 +189,13 @@ && getConfigManager().getSetting(Settings.CRAFT_VIA_REDSTONE) == YesNo.YES) {
 
     @Override
     protected void onReportingValueChanged() {
+        // Move the watched threshold along with the reporting value
+        if (this.storageWatcher != null && this.watchedThresholdKey != null) {
+            this.storageWatcher.removeThreshold(this.watchedThresholdKey, this.watchedThreshold);
+            this.watchedThreshold = getReportingValue();
+            this.storageWatcher.addThreshold(this.watchedThresholdKey, this.watchedThreshold);
+        }
+
         // Since we stop iteration below once lastReportedValue > reportingValue, we must recompute lastReportedValue if
         // reportingValue is updated.
         getMainNode().ifPresent(this::updateReportingValue);
@@ -189,6 +208,7 @@ protected void configureWatchers() {
         if (this.storageWatcher != null) {
             this.storageWatcher.reset();
         }
+        this.watchedThresholdKey = null;
 
         if (this.craftingWatcher != null) {
             this.craftingWatcher.reset();
@@ -209,7 +229,11 @@ protected void configureWatchers() {
                 if (isUpgradedWith(AEItems.FUZZY_CARD) || myStack == null) {
                     this.storageWatcher.setWatchAll(true);
                 } else {
-                    this.storageWatcher.add(myStack);
+                    // The emitter state only depends on whether the amount is at least the reporting value, so we only
+                    // need to be notified when the amount crosses it
+                    this.watchedThresholdKey = myStack;
+                    this.watchedThreshold = getReportingValue();
+                    this.storageWatcher.addThreshold(myStack, this.watchedThreshold);
                 }
             }
 
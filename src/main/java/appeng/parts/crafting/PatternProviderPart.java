@@ -23,10 +23,12 @@
 
 import org.jetbrains.annotations.Nullable;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.component.DataComponentMap;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.phys.Vec3;
@@ -135,6 +137,11 @@ public void onRedstoneLevelMayHaveChanged() {
         logic.updateRedstoneState();
     }
 
+    @Override
+    public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor) {
+        logic.onNeighborChanged(neighbor);
+    }
+
     @Override
     public boolean onUseWithoutItem(Player p, Vec3 pos) {
         if (!p.level().isClientSide()) {
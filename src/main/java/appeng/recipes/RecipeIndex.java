@@ -0,0 +1,126 @@
+package appeng.recipes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeMap;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+
+import appeng.core.AppEng;
+
+/**
+ * Indexes the recipes of one of our recipe types by what they accept (i.e. their input item or block), so that
+ * machines only have to test the recipes that can possibly match instead of all recipes of that type.
+ * <p>
+ * Indices are built lazily for each {@link RecipeMap}. Since a new recipe map is created whenever datapacks are
+ * reloaded on the server or recipes are received on the client, an index can never be stale.
+ */
+public final class RecipeIndex<K, T extends Recipe<?>> {
+    private static final Map<RecipeMap, Map<Definition<?, ?>, RecipeIndex<?, ?>>> INDICES = new WeakHashMap<>();
+
+    private final Map<K, List<RecipeHolder<T>>> byKey = new HashMap<>();
+    /**
+     * Recipes whose keys could not be determined. These are candidates for any key.
+     */
+    private final List<RecipeHolder<T>> unindexed = new ArrayList<>();
+
+    private RecipeIndex(Collection<RecipeHolder<T>> recipes, Function<T, Collection<K>> keyFunction) {
+        // Candidates are kept in the original recipe order, so the first matching recipe stays the same
+        for (var holder : recipes) {
+            var keys = keyFunction.apply(holder.value());
+            if (keys == null) {
+                unindexed.add(holder);
+                for (var candidates : byKey.values()) {
+                    candidates.add(holder);
+                }
+                continue;
+            }
+
+            for (var key : keys) {
+                var candidates = byKey.computeIfAbsent(key, k -> new ArrayList<>(unindexed));
+                // A recipe may produce the same key more than once
+                if (candidates.isEmpty() || candidates.getLast() != holder) {
+                    candidates.add(holder);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The recipes that may accept the given key, in recipe order. They still need to be tested.
+     */
+    public List<RecipeHolder<T>> getCandidates(@Nullable K key) {
+        if (key == null) {
+            return unindexed;
+        }
+        return byKey.getOrDefault(key, unindexed);
+    }
+
+    public static <K, T extends Recipe<?>> RecipeIndex<K, T> get(Level level, Definition<K, T> definition) {
+        return get(AppEng.instance().getRecipeMapForType(level, definition.type()), definition);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <K, T extends Recipe<?>> RecipeIndex<K, T> get(RecipeMap recipeMap, Definition<K, T> definition) {
+        // Client and integrated server may both be looking up recipes
+        synchronized (INDICES) {
+            var indices = INDICES.computeIfAbsent(recipeMap, m -> new HashMap<>());
+            var index = indices.get(definition);
+            if (index == null) {
+                Collection<RecipeHolder<T>> recipes = (Collection) recipeMap.byType((RecipeType) definition.type());
+                index = new RecipeIndex<>(recipes, definition.keys());
+                indices.put(definition, index);
+            }
+            return (RecipeIndex<K, T>) index;
+        }
+    }
+
+    /**
+     * Collects the items matched by the given ingredients.
+     *
+     * @return Null if any of the ingredients is a custom ingredient, whose matching items can't be enumerated.
+     */
+    @Nullable
+    public static List<Item> itemsOf(Ingredient... ingredients) {
+        return itemsOf(List.of(ingredients));
+    }
+
+    /**
+     * @see #itemsOf(Ingredient...)
+     */
+    @Nullable
+    public static List<Item> itemsOf(Collection<Ingredient> ingredients) {
+        var result = new ArrayList<Item>();
+        for (var ingredient : ingredients) {
+            if (ingredient.isCustom()) {
+                return null;
+            }
+            for (var holder : ingredient.getValues()) {
+                result.add(holder.value());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Describes an index.
+     *
+     * @param type The recipe type to index.
+     * @param keys Returns the keys under which a recipe is found, or null if the recipe should be a candidate for any
+     *             key. Since built indices are looked up by their definition, definitions should be constants.
+     */
+    public record Definition<K, T extends Recipe<?>>(RecipeType<T> type, Function<T, Collection<K>> keys) {
+    }
+}
@@ -21,6 +21,7 @@
 
 import appeng.recipes.AERecipeTypes;
 import appeng.recipes.MechanicsRecipe;
+import appeng.recipes.RecipeIndex;
 
 /**
  * Used to handle upgrading and removal of upgrades for crafting units (in-world).
@@ -45,6 +46,12 @@ public class CraftingUnitTransformRecipe extends MechanicsRecipe<RecipeInput> {
     public static final RecipeSerializer<CraftingUnitTransformRecipe> SERIALIZER = new RecipeSerializer<>(CODEC,
             STREAM_CODEC);
 
+    private static final RecipeIndex.Definition<Block, CraftingUnitTransformRecipe> BY_BLOCK = new RecipeIndex.Definition<>(
+            AERecipeTypes.CRAFTING_UNIT_TRANSFORM, recipe -> List.of(recipe.upgradedBlock));
+
+    private static final RecipeIndex.Definition<Item, CraftingUnitTransformRecipe> BY_ITEM = new RecipeIndex.Definition<>(
+            AERecipeTypes.CRAFTING_UNIT_TRANSFORM, recipe -> List.of(recipe.upgradeItem));
+
     private final Block upgradedBlock;
     private final Item upgradeItem;
 
@@ -67,9 +74,7 @@ public Item getUpgradeItem() {
      * @return Empty stack if no upgrade removal is possible.
      */
     public static ItemStack getRemovedUpgrade(ServerLevel level, Block upgradedBlock) {
-        var recipeManager = level.recipeAccess();
-
-        for (var holder : recipeManager.recipeMap().byType(AERecipeTypes.CRAFTING_UNIT_TRANSFORM)) {
+        for (var holder : RecipeIndex.get(level, BY_BLOCK).getCandidates(upgradedBlock)) {
             if (holder.value().upgradedBlock == upgradedBlock) {
                 return holder.value().upgradeItem.getDefaultInstance();
             }
@@ -82,7 +87,7 @@ public static ItemStack getRemovedUpgrade(ServerLevel level, Block upgradedBlock
      * Search for the resulting upgraded block when upgrading a crafting unit with the given upgrade item.
      */
     public static Block getUpgradedBlock(ServerLevel level, ItemStack upgradeItem) {
-        for (var holder : level.recipeAccess().recipeMap().byType(AERecipeTypes.CRAFTING_UNIT_TRANSFORM)) {
+        for (var holder : RecipeIndex.get(level, BY_ITEM).getCandidates(upgradeItem.getItem())) {
             if (upgradeItem.is(holder.value().getUpgradeItem())) {
                 return holder.value().upgradedBlock;
             }
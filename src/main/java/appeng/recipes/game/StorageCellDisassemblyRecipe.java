@@ -19,6 +19,7 @@
 
 import appeng.recipes.AERecipeTypes;
 import appeng.recipes.MechanicsRecipe;
+import appeng.recipes.RecipeIndex;
 
 /**
  * Used to handle disassembly of the (Portable) Storage Cells.
@@ -43,6 +44,9 @@ public class StorageCellDisassemblyRecipe extends MechanicsRecipe<SingleRecipeIn
     public static final RecipeSerializer<StorageCellDisassemblyRecipe> SERIALIZER = new RecipeSerializer<>(CODEC,
             STREAM_CODEC);
 
+    private static final RecipeIndex.Definition<Item, StorageCellDisassemblyRecipe> BY_CELL = new RecipeIndex.Definition<>(
+            AERecipeTypes.CELL_DISASSEMBLY, recipe -> List.of(recipe.storageCell));
+
     private final List<ItemStackTemplate> disassemblyItems;
     private final Item storageCell;
 
@@ -74,9 +78,7 @@ public boolean canDisassemble() {
      *         the caller.
      */
     public static List<ItemStack> getDisassemblyResult(ServerLevel level, Item cell) {
-        var recipeManager = level.recipeAccess();
-
-        for (var holder : recipeManager.recipeMap().byType(AERecipeTypes.CELL_DISASSEMBLY)) {
+        for (var holder : RecipeIndex.get(level, BY_CELL).getCandidates(cell)) {
             if (holder.value().storageCell == cell) {
                 return holder.value().cellDisassemblyItems().stream().map(ItemStackTemplate::create).toList();
             }
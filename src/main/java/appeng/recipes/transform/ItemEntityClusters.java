@@ -0,0 +1,68 @@
+package appeng.recipes.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.phys.AABB;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * The item entity lookups of one level, shared by all transforms that are started within the same block during one
+ * level tick. Farms tend to drop many items into the same block, so the lookup is only done once per block.
+ * <p>
+ * Entities that join the level drop every lookup that they would have been part of, so that i.e. the result of an
+ * earlier transform can take part in another one within the same tick. Entities that <em>move</em> into a looked up
+ * region later in the tick are not seen by transforms started from other entities until the next tick, but they are
+ * always part of transforms they start themselves.
+ */
+final class ItemEntityClusters {
+    private final Long2ObjectMap<List<ItemEntity>> clusters = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Returns the item entities that may take part in a transform started by any item entity within the block of the
+     * given entity. Entities that are consumed during the tick are still contained, so callers have to check that
+     * they are still alive.
+     *
+     * @param lookup Finds the item entities within a region of the level, if the block was not looked up yet.
+     */
+    List<ItemEntity> get(ItemEntity entity, Function<AABB, List<ItemEntity>> lookup) {
+        var pos = entity.blockPosition();
+        var cluster = clusters.computeIfAbsent(pos.asLong(), p -> {
+            // Every entity in the block only looks one block around itself
+            return new ArrayList<>(lookup.apply(getRegion(pos)));
+        });
+        // The entity may have moved into the block after the cluster was collected
+        if (!cluster.contains(entity)) {
+            cluster.add(entity);
+        }
+        return cluster;
+    }
+
+    /**
+     * Drops all lookups whose region the given entity is in.
+     */
+    void onEntityJoined(ItemEntity entity) {
+        if (clusters.isEmpty()) {
+            return;
+        }
+
+        var bounds = entity.getBoundingBox();
+        for (var pos : BlockPos.betweenClosed(
+                Mth.floor(bounds.minX) - 1, Mth.floor(bounds.minY) - 1, Mth.floor(bounds.minZ) - 1,
+                Mth.floor(bounds.maxX) + 1, Mth.floor(bounds.maxY) + 1, Mth.floor(bounds.maxZ) + 1)) {
+            if (getRegion(pos).intersects(bounds)) {
+                clusters.remove(pos.asLong());
+            }
+        }
+    }
+
+    private static AABB getRegion(BlockPos pos) {
+        return new AABB(pos).inflate(1);
+    }
+}
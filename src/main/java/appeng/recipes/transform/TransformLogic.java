@@ -4,10 +4,9 @@
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 
-import com.google.common.collect.Lists;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +23,9 @@
 import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.AddServerReloadListenersEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.registries.holdersets.OrHolderSet;
 
 import it.unimi.dsi.fastutil.objects.Reference2IntMap;
@@ -32,10 +33,23 @@
 
 import appeng.core.AppEng;
 import appeng.recipes.AERecipeTypes;
+import appeng.recipes.RecipeIndex;
 
 public final class TransformLogic {
     private static final Logger LOG = LoggerFactory.getLogger(TransformLogic.class);
 
+    /**
+     * Transform recipes by the items of any of their ingredients. Only recipes that an item entity takes part in
+     * need to be checked when it starts a transform.
+     */
+    private static final RecipeIndex.Definition<Item, TransformRecipe> BY_INGREDIENT = new RecipeIndex.Definition<>(
+            AERecipeTypes.TRANSFORM, recipe -> RecipeIndex.itemsOf(recipe.ingredients));
+
+    /**
+     * Item entity lookups per level, only for the level tick that is currently running.
+     */
+    private static final Map<ServerLevel, ItemEntityClusters> CLUSTERS = new WeakHashMap<>();
+
     public static boolean canTransformInFluid(ItemEntity entity, FluidState fluid) {
         if (entity.level() instanceof ServerLevel serverLevel) {
             return getTransformableItems(serverLevel, fluid.getType()).contains(entity.getItem().typeHolder());
@@ -62,12 +76,17 @@ public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircums
             return false;
         }
 
+        var candidates = RecipeIndex.get(level.recipeAccess().recipeMap(), BY_INGREDIENT)
+                .getCandidates(entity.getItem().getItem());
+        if (candidates.isEmpty()) {
+            return false;
+        }
+
         var region = new AABB(entity.getX() - 1, entity.getY() - 1, entity.getZ() - 1, entity.getX() + 1,
                 entity.getY() + 1, entity.getZ() + 1);
-        List<ItemEntity> itemEntities = level.getEntities(null, region).stream()
-                .filter(e -> e instanceof ItemEntity && !e.isRemoved()).map(e -> (ItemEntity) e).toList();
+        var cluster = getCluster(level, entity);
 
-        for (var holder : level.recipeAccess().recipeMap().byType(AERecipeTypes.TRANSFORM)) {
+        for (var holder : candidates) {
             var recipe = holder.value();
             if (!circumstancePredicate.test(recipe.circumstance))
                 continue;
@@ -75,18 +94,27 @@ public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircums
             if (recipe.ingredients.isEmpty())
                 continue;
 
-            List<Ingredient> missingIngredients = Lists.newArrayList(recipe.ingredients);
-            Reference2IntMap<ItemEntity> consumedItems = new Reference2IntOpenHashMap<>(missingIngredients.size());
-
             if (recipe.circumstance.isExplosion()) {
-                if (missingIngredients.stream().noneMatch(i -> i.test(entity.getItem())))
+                if (recipe.ingredients.stream().noneMatch(i -> i.test(entity.getItem())))
                     continue;
             } else {
-                if (!missingIngredients.getFirst().test(entity.getItem()))
+                if (!recipe.ingredients.getFirst().test(entity.getItem()))
                     continue;
             }
 
-            for (var itemEntity : itemEntities) {
+            List<Ingredient> missingIngredients = new ArrayList<>(recipe.ingredients);
+            Reference2IntMap<ItemEntity> consumedItems = new Reference2IntOpenHashMap<>(missingIngredients.size());
+
+            for (var itemEntity : cluster) {
+                if (missingIngredients.isEmpty()) {
+                    break;
+                }
+                // The cluster covers the whole block, but only items close to this entity take part. Entities may also
+                // have been consumed or moved to another level by an earlier transform in this tick.
+                if (!itemEntity.isAlive() || itemEntity.level() != level
+                        || !itemEntity.getBoundingBox().intersects(region)) {
+                    continue;
+                }
                 var other = itemEntity.getItem();
                 if (!other.isEmpty()) {
                     for (var it = missingIngredients.iterator(); it.hasNext();) {
@@ -131,6 +159,41 @@ public static boolean tryTransform(ItemEntity entity, Predicate<TransformCircums
         return false;
     }
 
+    /**
+     * @see ItemEntityClusters#get
+     */
+    private static List<ItemEntity> getCluster(ServerLevel level, ItemEntity entity) {
+        ItemEntityClusters clusters;
+        synchronized (CLUSTERS) {
+            clusters = CLUSTERS.computeIfAbsent(level, l -> new ItemEntityClusters());
+        }
+        return clusters.get(entity,
+                region -> level.getEntitiesOfClass(ItemEntity.class, region, e -> !e.isRemoved()));
+    }
+
+    /**
+     * Item entities that spawn during the tick, i.e. transform results, have to be seen by later transforms.
+     */
+    public static void onEntityJoinLevel(EntityJoinLevelEvent e) {
+        if (e.getEntity() instanceof ItemEntity itemEntity && e.getLevel() instanceof ServerLevel level) {
+            ItemEntityClusters clusters;
+            synchronized (CLUSTERS) {
+                clusters = CLUSTERS.get(level);
+            }
+            if (clusters != null) {
+                clusters.onEntityJoined(itemEntity);
+            }
+        }
+    }
+
+    public static void onLevelTickEnd(LevelTickEvent.Post e) {
+        if (e.getLevel() instanceof ServerLevel level) {
+            synchronized (CLUSTERS) {
+                CLUSTERS.remove(level);
+            }
+        }
+    }
+
     // not using a Multimap here because we need to cache the empty set
     static Map<Fluid, HolderSet<Item>> fluidCache = new IdentityHashMap<>();
     static HolderSet<Item> explosionCache = null;
@@ -18,7 +18,9 @@
 
 package appeng.server.services.compass;
 
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,8 @@
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.ExtraCodecs;
 import net.minecraft.util.Util;
@@ -39,6 +43,10 @@
 
 /**
  * A compass region stores information about the occurrence of skystone blocks in a region of 1024x1024 chunks.
+ * <p>
+ * In addition to the per-section bitmaps, it keeps a summary of which chunks have a target in any section and how many
+ * of those there are per tile of 32x32 chunks and in the whole region. The summary is derived from the bitmaps and not
+ * saved. It allows the nearest target to be found without probing every chunk around the origin.
  */
 final class CompassRegion extends SavedData {
     // Helper used to record it in the codec
@@ -69,12 +77,24 @@ private List<Section> sections() {
 
     private static final int BITMAP_LENGTH = CHUNKS_PER_REGION * CHUNKS_PER_REGION;
 
+    /**
+     * The number of chunks on each axis of a tile, which is the unit in which the summary counts chunks with targets.
+     */
+    private static final int CHUNKS_PER_TILE = 32;
+
+    private static final int TILES_PER_REGION = CHUNKS_PER_REGION / CHUNKS_PER_TILE;
+
     private final int regionX;
     private final int regionZ;
 
     // Key is the section index, see ChunkAccess.getSections()
     private final Map<Integer, BitSet> sections = new HashMap<>();
 
+    // Summary of the sections: chunks that have a target in any section, and their count per tile and in total
+    private final BitSet chunksWithTarget = new BitSet(BITMAP_LENGTH);
+    private final int[] tileChunkCounts = new int[TILES_PER_REGION * TILES_PER_REGION];
+    private int chunkCount;
+
     private CompassRegion(int regionX, int regionZ) {
         this.regionX = regionX;
         this.regionZ = regionZ;
@@ -85,6 +105,11 @@ private CompassRegion(int regionX, int regionZ, List<Section> sections) {
         this.regionZ = regionZ;
         for (var section : sections) {
             this.sections.put(section.index(), section.bits());
+            this.chunksWithTarget.or(section.bits());
+        }
+        for (var i = chunksWithTarget.nextSetBit(0); i >= 0; i = chunksWithTarget.nextSetBit(i + 1)) {
+            this.tileChunkCounts[getTileIndex(i)]++;
+            this.chunkCount++;
         }
     }
 
@@ -114,13 +139,100 @@ static boolean hasCompassTarget(ServerLevel level, int cx, int cz) {
     }
 
     boolean hasCompassTarget(int cx, int cz) {
-        var bitmapIndex = getBitmapIndex(cx, cz);
-        for (BitSet bitmap : sections.values()) {
-            if (bitmap.get(bitmapIndex)) {
-                return true;
+        return chunksWithTarget.get(getBitmapIndex(cx, cz));
+    }
+
+    /**
+     * Finds the chunk with a compass target that is closest to the origin, and at most the given number of chunks away
+     * from it on either axis.
+     * <p>
+     * Regions and tiles are visited in the order of the smallest possible distance of a target within them, and are
+     * skipped altogether once they can't contain a closer target than the one already found.
+     */
+    @Nullable
+    static ChunkPos findClosestCompassTarget(ServerLevel level, int originX, int originZ, int range) {
+        int minX = originX - range;
+        int minZ = originZ - range;
+        int maxX = originX + range;
+        int maxZ = originZ + range;
+
+        var regions = new ArrayList<CompassRegion>();
+        for (var rx = Math.floorDiv(minX, CHUNKS_PER_REGION); rx <= Math.floorDiv(maxX, CHUNKS_PER_REGION); rx++) {
+            for (var rz = Math.floorDiv(minZ, CHUNKS_PER_REGION); rz <= Math.floorDiv(maxZ, CHUNKS_PER_REGION); rz++) {
+                var region = get(level, rx * CHUNKS_PER_REGION, rz * CHUNKS_PER_REGION);
+                if (region.chunkCount > 0) {
+                    regions.add(region);
+                }
             }
         }
-        return false;
+        regions.sort(Comparator.comparingLong(region -> region.getMinDistanceSq(originX, originZ)));
+
+        var search = new Search(originX, originZ);
+        for (var region : regions) {
+            if (region.getMinDistanceSq(originX, originZ) >= search.closestDistanceSq) {
+                break;
+            }
+            region.search(search, minX, minZ, maxX, maxZ);
+        }
+        return search.closest;
+    }
+
+    private void search(Search search, int minX, int minZ, int maxX, int maxZ) {
+        var regionMinX = regionX * CHUNKS_PER_REGION;
+        var regionMinZ = regionZ * CHUNKS_PER_REGION;
+        minX = Math.max(minX, regionMinX);
+        minZ = Math.max(minZ, regionMinZ);
+        maxX = Math.min(maxX, regionMinX + CHUNKS_PER_REGION - 1);
+        maxZ = Math.min(maxZ, regionMinZ + CHUNKS_PER_REGION - 1);
+        if (minX > maxX || minZ > maxZ) {
+            return;
+        }
+
+        // Collect the tiles within the search area that have any target
+        var tiles = new ArrayList<Tile>();
+        for (var tx = (minX - regionMinX) / CHUNKS_PER_TILE; tx <= (maxX - regionMinX) / CHUNKS_PER_TILE; tx++) {
+            for (var tz = (minZ - regionMinZ) / CHUNKS_PER_TILE; tz <= (maxZ - regionMinZ) / CHUNKS_PER_TILE; tz++) {
+                if (tileChunkCounts[tx + tz * TILES_PER_REGION] == 0) {
+                    continue;
+                }
+                var tileMinX = Math.max(minX, regionMinX + tx * CHUNKS_PER_TILE);
+                var tileMinZ = Math.max(minZ, regionMinZ + tz * CHUNKS_PER_TILE);
+                var tileMaxX = Math.min(maxX, regionMinX + (tx + 1) * CHUNKS_PER_TILE - 1);
+                var tileMaxZ = Math.min(maxZ, regionMinZ + (tz + 1) * CHUNKS_PER_TILE - 1);
+                var minDistanceSq = getMinDistanceSq(search.originX, search.originZ, tileMinX, tileMinZ, tileMaxX,
+                        tileMaxZ);
+                tiles.add(new Tile(tileMinX, tileMinZ, tileMaxX, tileMaxZ, minDistanceSq));
+            }
+        }
+        tiles.sort(Comparator.comparingLong(Tile::minDistanceSq));
+
+        for (var tile : tiles) {
+            if (tile.minDistanceSq() >= search.closestDistanceSq) {
+                break;
+            }
+            for (var z = tile.minZ(); z <= tile.maxZ(); z++) {
+                var rowStart = (z - regionMinZ) * CHUNKS_PER_REGION - regionMinX;
+                var rowEnd = rowStart + tile.maxX();
+                for (var i = chunksWithTarget.nextSetBit(rowStart + tile.minX()); i >= 0
+                        && i <= rowEnd; i = chunksWithTarget.nextSetBit(i + 1)) {
+                    search.offer(i - rowStart, z);
+                }
+            }
+        }
+    }
+
+    private long getMinDistanceSq(int originX, int originZ) {
+        return getMinDistanceSq(originX, originZ, regionX * CHUNKS_PER_REGION, regionZ * CHUNKS_PER_REGION,
+                (regionX + 1) * CHUNKS_PER_REGION - 1, (regionZ + 1) * CHUNKS_PER_REGION - 1);
+    }
+
+    /**
+     * Squared distance in chunks between the origin and the closest chunk in the given area (inclusive).
+     */
+    private static long getMinDistanceSq(int originX, int originZ, int minX, int minZ, int maxX, int maxZ) {
+        long dx = Math.max(0, Math.max(minX - originX, originX - maxX));
+        long dz = Math.max(0, Math.max(minZ - originZ, originZ - maxZ));
+        return dx * dx + dz * dz;
     }
 
     boolean hasCompassTarget(int cx, int cz, int sectionIndex) {
@@ -134,6 +246,11 @@ boolean hasCompassTarget(int cx, int cz, int sectionIndex) {
 
     void setHasCompassTarget(int cx, int cz, int sectionIndex, boolean hasTarget) {
         var bitmapIndex = getBitmapIndex(cx, cz);
+        setSectionHasCompassTarget(bitmapIndex, sectionIndex, hasTarget);
+        updateSummary(bitmapIndex);
+    }
+
+    private void setSectionHasCompassTarget(int bitmapIndex, int sectionIndex, boolean hasTarget) {
         var section = sections.get(sectionIndex);
         if (section == null) {
             if (hasTarget) {
@@ -159,6 +276,30 @@ void setHasCompassTarget(int cx, int cz, int sectionIndex, boolean hasTarget) {
         }
     }
 
+    private void updateSummary(int bitmapIndex) {
+        var hadTarget = chunksWithTarget.get(bitmapIndex);
+        var hasTarget = false;
+        for (BitSet bitmap : sections.values()) {
+            if (bitmap.get(bitmapIndex)) {
+                hasTarget = true;
+                break;
+            }
+        }
+
+        if (hasTarget != hadTarget) {
+            var delta = hasTarget ? 1 : -1;
+            chunksWithTarget.set(bitmapIndex, hasTarget);
+            tileChunkCounts[getTileIndex(bitmapIndex)] += delta;
+            chunkCount += delta;
+        }
+    }
+
+    private static int getTileIndex(int bitmapIndex) {
+        var x = bitmapIndex % CHUNKS_PER_REGION;
+        var z = bitmapIndex / CHUNKS_PER_REGION;
+        return x / CHUNKS_PER_TILE + z / CHUNKS_PER_TILE * TILES_PER_REGION;
+    }
+
     private int getBitmapIndex(int cx, int cz) {
         cx -= regionX * CHUNKS_PER_REGION;
         cz -= regionZ * CHUNKS_PER_REGION;
@@ -170,4 +311,29 @@ private int getBitmapIndex(int cx, int cz) {
         return cx + cz * CHUNKS_PER_REGION;
     }
 
+    private record Tile(int minX, int minZ, int maxX, int maxZ, long minDistanceSq) {
+    }
+
+    private static class Search {
+        private final int originX;
+        private final int originZ;
+        @Nullable
+        private ChunkPos closest;
+        private long closestDistanceSq = Long.MAX_VALUE;
+
+        Search(int originX, int originZ) {
+            this.originX = originX;
+            this.originZ = originZ;
+        }
+
+        void offer(int cx, int cz) {
+            long dx = cx - originX;
+            long dz = cz - originZ;
+            var distanceSq = dx * dx + dz * dz;
+            if (distanceSq < closestDistanceSq) {
+                closest = new ChunkPos(cx, cz);
+                closestDistanceSq = distanceSq;
+            }
+        }
+    }
 }
@@ -25,6 +25,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -51,20 +52,18 @@ public final class ServerCompassService {
      * Maximum distance to search in chunks.
      */
     private static final int MAX_RANGE = 174;
-    private static final int CHUNK_SIZE = 16;
 
     private record Query(ServerLevel level, ChunkPos chunk) {
     }
 
     // We use this basic cache to prevent client-side spamming, although the client can request arbitrary
-    // chunk positions and range, if malicious.
+    // chunk positions and range, if malicious. Results are invalidated when the compass data around them changes.
     private static final LoadingCache<Query, Optional<BlockPos>> CLOSEST_METEORITE_CACHE = CacheBuilder.newBuilder()
             .maximumSize(100)
-            .weakKeys()
             .expireAfterWrite(5, TimeUnit.SECONDS)
             .build(new CacheLoader<>() {
                 @Override
-                public Optional<BlockPos> load(ServerCompassService.Query query) {
+                public Optional<BlockPos> load(Query query) {
                     return Optional.ofNullable(findClosestMeteoritePos(query.level, query.chunk));
                 }
             });
@@ -73,6 +72,16 @@ public static Optional<BlockPos> getClosestMeteorite(ServerLevel level, ChunkPos
         return CLOSEST_METEORITE_CACHE.getUnchecked(new Query(level, chunkPos));
     }
 
+    /**
+     * Forgets the cached results of all queries that could have found a meteorite in the given chunk.
+     */
+    @VisibleForTesting
+    static void invalidateArea(ServerLevel level, ChunkPos chunkPos) {
+        CLOSEST_METEORITE_CACHE.asMap().keySet().removeIf(query -> query.level == level
+                && Math.abs(query.chunk.x() - chunkPos.x()) < MAX_RANGE
+                && Math.abs(query.chunk.z() - chunkPos.z()) < MAX_RANGE);
+    }
+
     @Nullable
     private static BlockPos findClosestMeteoritePos(ServerLevel level, ChunkPos originChunkPos) {
         var chunkPos = findClosestMeteoriteChunk(level, originChunkPos);
@@ -104,72 +113,7 @@ private static BlockPos findClosestMeteoritePos(ServerLevel level, ChunkPos orig
 
     @Nullable
     private static ChunkPos findClosestMeteoriteChunk(ServerLevel level, ChunkPos chunkPos) {
-        var cx = chunkPos.x();
-        var cz = chunkPos.z();
-
-        // Am I standing on it?
-        if (CompassRegion.hasCompassTarget(level, cx, cz)) {
-            return chunkPos;
-        }
-
-        // spiral outward...
-        for (int offset = 1; offset < MAX_RANGE; offset++) {
-            final int minX = cx - offset;
-            final int minZ = cz - offset;
-            final int maxX = cx + offset;
-            final int maxZ = cz + offset;
-
-            int closest = Integer.MAX_VALUE;
-            int chosen_x = cx;
-            int chosen_z = cz;
-
-            for (int z = minZ; z <= maxZ; z++) {
-                if (CompassRegion.hasCompassTarget(level, minX, z)) {
-                    final int closeness = dist(cx, cz, minX, z);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = minX;
-                        chosen_z = z;
-                    }
-                }
-
-                if (CompassRegion.hasCompassTarget(level, maxX, z)) {
-                    final int closeness = dist(cx, cz, maxX, z);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = maxX;
-                        chosen_z = z;
-                    }
-                }
-            }
-
-            for (int x = minX + 1; x < maxX; x++) {
-                if (CompassRegion.hasCompassTarget(level, x, minZ)) {
-                    final int closeness = dist(cx, cz, x, minZ);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = x;
-                        chosen_z = minZ;
-                    }
-                }
-
-                if (CompassRegion.hasCompassTarget(level, x, maxZ)) {
-                    final int closeness = dist(cx, cz, x, maxZ);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = x;
-                        chosen_z = maxZ;
-                    }
-                }
-            }
-
-            if (closest < Integer.MAX_VALUE) {
-                return new ChunkPos(chosen_x, chosen_z);
-            }
-        }
-
-        // didn't find shit...
-        return null;
+        return CompassRegion.findClosestCompassTarget(level, chunkPos.x(), chunkPos.z(), MAX_RANGE - 1);
     }
 
     public static void updateArea(ServerLevel level, ChunkAccess chunk) {
@@ -178,7 +122,7 @@ public static void updateArea(ServerLevel level, ChunkAccess chunk) {
         for (var i = 0; i < level.getSectionsCount(); i++) {
             updateArea(compassRegion, chunk, i);
         }
-        CLOSEST_METEORITE_CACHE.invalidate(new Query(level, chunk.getPos()));
+        invalidateArea(level, chunk.getPos());
     }
 
     /**
@@ -188,7 +132,7 @@ public static void notifyBlockChange(ServerLevel level, BlockPos pos) {
         ChunkAccess chunk = level.getChunk(pos);
         var compassRegion = CompassRegion.get(level, chunk.getPos());
         updateArea(compassRegion, chunk, level.getSectionIndex(pos.getY()));
-        CLOSEST_METEORITE_CACHE.invalidate(new Query(level, chunk.getPos()));
+        invalidateArea(level, chunk.getPos());
     }
 
     public static void rebuild(ServerLevel level, ChunkPos center, CommandSourceStack source) {
@@ -238,8 +182,8 @@ public static void rebuild(ServerLevel level, ChunkPos center, CommandSourceStac
             }
         }
 
-        source.sendSystemMessage(Component.literal("Found " + hits + " hits"));
         CLOSEST_METEORITE_CACHE.invalidateAll();
+        source.sendSystemMessage(Component.literal("Found " + hits + " hits"));
     }
 
     private static boolean[] indexChunk(ChunkAccess chunk) {
@@ -286,11 +230,4 @@ private static void updateArea(CompassRegion compassRegion, ChunkAccess chunk, i
         compassRegion.setHasCompassTarget(cx, cz, sectionIndex, blockCount.get() > 0);
     }
 
-    private static int dist(int ax, int az, int bx, int bz) {
-        final int up = (bz - az) * CHUNK_SIZE;
-        final int side = (bx - ax) * CHUNK_SIZE;
-
-        return up * up + side * side;
-    }
-
 }
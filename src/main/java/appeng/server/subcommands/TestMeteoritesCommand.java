@@ -18,6 +18,7 @@
 
 package appeng.server.subcommands;
 
+import static net.minecraft.commands.Commands.argument;
 import static net.minecraft.commands.Commands.literal;
 
 import java.util.ArrayList;
@@ -26,6 +27,7 @@
 import java.util.Locale;
 
 import com.google.common.math.StatsAccumulator;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -49,6 +51,7 @@
 import net.minecraft.world.level.levelgen.structure.Structure;
 
 import appeng.server.ISubCommand;
+import appeng.worldgen.meteorite.MeteoritePlacer;
 import appeng.worldgen.meteorite.MeteoriteStructure;
 import appeng.worldgen.meteorite.MeteoriteStructurePiece;
 import appeng.worldgen.meteorite.PlacedMeteoriteSettings;
@@ -58,12 +61,62 @@
  */
 public class TestMeteoritesCommand implements ISubCommand {
 
+    /**
+     * Minimum distance in chunks between the benchmarked area and the command source.
+     */
+    private static final int BENCHMARK_OFFSET = 2000;
+    /**
+     * The chunks are generated synchronously on the server thread, so the area is kept small.
+     */
+    private static final int MAX_BENCHMARK_RADIUS = 8;
+
     @Override
     public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
         builder.then(literal("force").executes(ctx -> {
             test(ctx.getSource().getServer(), ctx.getSource(), true);
             return 1;
         }));
+        var radius = IntegerArgumentType.integer(1, MAX_BENCHMARK_RADIUS);
+        builder.then(literal("benchmark").then(argument("radius", radius).executes(ctx -> {
+            benchmark(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "radius"));
+            return 1;
+        })));
+    }
+
+    /**
+     * Generates all chunks within the given radius around a far away, most likely not yet generated, position and
+     * reports the chunk generation throughput along with the time spent placing meteorites.
+     */
+    private static void benchmark(CommandSourceStack sender, int radius) {
+        var level = sender.getLevel();
+        var origin = ChunkPos.containing(BlockPos.containing(sender.getPosition()));
+        // Move far enough away to not hit chunks generated by previous runs with the same radius
+        var center = new ChunkPos(origin.x() + BENCHMARK_OFFSET + level.getRandom().nextInt(BENCHMARK_OFFSET),
+                origin.z() + BENCHMARK_OFFSET + level.getRandom().nextInt(BENCHMARK_OFFSET));
+
+        // Placements in chunks generated for other reasons in the meantime are included, too
+        var stats = new MeteoritePlacer.PlacementStats();
+        MeteoritePlacer.setBenchmarkStats(stats);
+        var start = System.nanoTime();
+        int chunks = 0;
+        try {
+            for (int cx = center.x() - radius; cx <= center.x() + radius; cx++) {
+                for (int cz = center.z() - radius; cz <= center.z() + radius; cz++) {
+                    level.getChunk(cx, cz, ChunkStatus.FEATURES);
+                    chunks++;
+                }
+            }
+        } finally {
+            MeteoritePlacer.setBenchmarkStats(null);
+        }
+        var elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        var placements = stats.getCount();
+        var placementMs = stats.getNanos() / 1_000_000.0;
+
+        sendLine(sender, "Generated %d chunks around %d,%d in %.1f ms (%.1f chunks/s)", chunks,
+                center.getMinBlockX(), center.getMinBlockZ(), elapsedMs, chunks / (elapsedMs / 1000.0));
+        sendLine(sender, "Meteorite placements: %d, %.1f ms total, %.3f ms each", placements, placementMs,
+                placements > 0 ? placementMs / placements : 0.0);
     }
 
     @Override
@@ -847,6 +847,31 @@ public static void blockingModeSubnetworkChestTest(PlotBuilder plot) {
         });
     }
 
+    /**
+     * Rows of every cable type in every color, partially covered with parts and facades, to measure how long it takes
+     * to rebuild the chunk sections they are in (see the client-side {@code cable_model_benchmark} debug command).
+     */
+    @TestPlot(value = "cable_rendering_benchmark", gameTest = false)
+    public static void cableRenderingBenchmark(PlotBuilder plot) {
+        plot.creativeEnergyCell("0 -1 0");
+        var cableTypes = List.of(AEParts.GLASS_CABLE, AEParts.COVERED_CABLE, AEParts.SMART_CABLE,
+                AEParts.COVERED_DENSE_CABLE, AEParts.SMART_DENSE_CABLE);
+        var colors = AEColor.values();
+        for (int i = 0; i < cableTypes.size(); i++) {
+            var cableType = cableTypes.get(i);
+            var dense = cableType == AEParts.COVERED_DENSE_CABLE || cableType == AEParts.SMART_DENSE_CABLE;
+            for (int x = 0; x < colors.length; x++) {
+                var y = i * 2;
+                plot.cable(x + " " + y + " [0,7]", cableType, colors[x]);
+                var busRow = plot.cable(x + " " + y + " [8,15]", cableType, colors[x])
+                        .facade(Direction.DOWN, Blocks.STONE);
+                if (!dense) {
+                    busRow.part(Direction.UP, AEParts.TERMINAL);
+                }
+            }
+        }
+    }
+
     /**
      * Simple terminal full of enchanted items to test rendering performance.
      */
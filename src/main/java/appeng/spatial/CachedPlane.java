@@ -31,7 +31,6 @@
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ThreadedLevelLightEngine;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.entity.ai.village.poi.PoiType;
 import net.minecraft.world.level.block.Block;
@@ -40,19 +39,18 @@
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.LevelChunkSection;
-import net.minecraft.world.level.lighting.LevelLightEngine;
 import net.minecraft.world.ticks.LevelChunkTicks;
 import net.minecraft.world.ticks.ScheduledTick;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 
 import appeng.api.ids.AETags;
 import appeng.api.movable.BlockEntityMoveStrategies;
 import appeng.api.movable.IBlockEntityMoveStrategy;
 import appeng.core.AELog;
 import appeng.core.definitions.AEBlocks;
-import appeng.server.services.compass.ServerCompassService;
-import appeng.util.Platform;
 
 public class CachedPlane {
     private static final Logger LOG = LoggerFactory.getLogger(CachedPlane.class);
@@ -212,15 +210,24 @@ void swap(CachedPlane dst) {
 
             long startTime = System.nanoTime();
 
+            var swappedSections = this.swapSections(dst);
+
             for (int x = 0; x < this.x_size; x++) {
                 for (int z = 0; z < this.z_size; z++) {
                     final Column srcCol = this.myColumns[x][z];
                     final Column dstCol = dst.myColumns[x][z];
+                    var srcSectionX = SectionPos.blockToSectionCoord(this.x_offset + x);
+                    var srcSectionZ = SectionPos.blockToSectionCoord(this.z_offset + z);
 
                     for (int y = 0; y < this.y_size; y++) {
                         var src_y = this.y_offset + y;
                         var dst_y = dst.y_offset + y;
 
+                        if (!swappedSections.isEmpty() && swappedSections.contains(
+                                SectionPos.asLong(srcSectionX, SectionPos.blockToSectionCoord(src_y), srcSectionZ))) {
+                            continue;
+                        }
+
                         if (srcCol.doNotSkip(src_y) && dstCol.doNotSkip(dst_y)) {
                             var srcSection = srcCol.getSection(src_y);
                             var dstSection = dstCol.getSection(dst_y);
@@ -248,7 +255,7 @@ void swap(CachedPlane dst) {
 
             long endTime = System.nanoTime();
             long duration = endTime - startTime;
-            AELog.info("Block Copy Time: " + duration);
+            AELog.info("Block Copy Time: " + duration + " (" + swappedSections.size() + " whole sections)");
 
             for (var moveRecord : this.blockEntities) {
                 var pos = moveRecord.blockEntity().getBlockPos();
@@ -281,14 +288,85 @@ void swap(CachedPlane dst) {
                 addPoi(record);
             }
 
-            startTime = System.nanoTime();
             this.updateChunks();
             dst.updateChunks();
-            endTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Swaps the blocks of all sections that are entirely inside the region by exchanging their block state containers,
+     * rather than copying them block by block. This is only possible if both regions are aligned the same way relative
+     * to the section grid. Sections containing blocks that have to be skipped, or the matrix frame, are left to the
+     * block by block copy.
+     *
+     * @return The positions of the swapped sections in this plane's level.
+     */
+    private LongSet swapSections(CachedPlane dst) {
+        var swapped = new LongOpenHashSet();
+        if (((this.x_offset - dst.x_offset) & 0xF) != 0 || ((this.y_offset - dst.y_offset) & 0xF) != 0
+                || ((this.z_offset - dst.z_offset) & 0xF) != 0) {
+            return swapped;
+        }
+
+        // Range of sections (in this plane's level) that are fully contained in the region
+        int minSX = SectionPos.blockToSectionCoord(this.x_offset + 15);
+        int minSY = SectionPos.blockToSectionCoord(this.y_offset + 15);
+        int minSZ = SectionPos.blockToSectionCoord(this.z_offset + 15);
+        int maxSX = SectionPos.blockToSectionCoord(this.x_offset + this.x_size) - 1;
+        int maxSY = SectionPos.blockToSectionCoord(this.y_offset + this.y_size) - 1;
+        int maxSZ = SectionPos.blockToSectionCoord(this.z_offset + this.z_size) - 1;
+
+        for (int sx = minSX; sx <= maxSX; sx++) {
+            for (int sz = minSZ; sz <= maxSZ; sz++) {
+                int x = SectionPos.sectionToBlockCoord(sx) - this.x_offset;
+                int z = SectionPos.sectionToBlockCoord(sz) - this.z_offset;
+                var srcChunk = this.myColumns[x][z].c;
+                var dstChunk = dst.myColumns[x][z].c;
+
+                for (int sy = minSY; sy <= maxSY; sy++) {
+                    int y = SectionPos.sectionToBlockCoord(sy) - this.y_offset;
+                    if (!this.canSwapSection(x, y, z) || !dst.canSwapSection(x, y, z)) {
+                        continue;
+                    }
 
-            duration = endTime - startTime;
-            AELog.info("Update Time: " + duration);
+                    var srcSections = srcChunk.getSections();
+                    var dstSections = dstChunk.getSections();
+                    int srcIndex = srcChunk.getSectionIndex(this.y_offset + y);
+                    int dstIndex = dstChunk.getSectionIndex(dst.y_offset + y);
+                    var srcSection = srcSections[srcIndex];
+                    var dstSection = dstSections[dstIndex];
+
+                    // Biomes stay where they are, only the blocks are exchanged
+                    srcSections[srcIndex] = new LevelChunkSection(dstSection.getStates(), srcSection.getBiomes());
+                    dstSections[dstIndex] = new LevelChunkSection(srcSection.getStates(), dstSection.getBiomes());
+                    swapped.add(SectionPos.asLong(sx, sy, sz));
+                }
+            }
         }
+
+        return swapped;
+    }
+
+    /**
+     * @param x Relative x coordinate of the section's first block within this plane.
+     * @param y Relative y coordinate of the section's first block within this plane.
+     * @param z Relative z coordinate of the section's first block within this plane.
+     */
+    private boolean canSwapSection(int x, int y, int z) {
+        var section = this.myColumns[x][z].getSection(this.y_offset + y);
+        if (section.maybeHas(state -> state == this.matrixBlockState || state.is(AETags.SPATIAL_BLACKLIST))) {
+            return false;
+        }
+
+        for (int cx = 0; cx < LevelChunkSection.SECTION_WIDTH; cx++) {
+            for (int cz = 0; cz < LevelChunkSection.SECTION_WIDTH; cz++) {
+                if (this.myColumns[x + cx][z + cz].hasSkip(this.y_offset + y,
+                        this.y_offset + y + LevelChunkSection.SECTION_HEIGHT - 1)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     private void markForUpdate(int x, int y, int z) {
@@ -369,36 +447,14 @@ private void attemptRecovery(int x, int y, int z, BlockEntityMoveRecord moveReco
     }
 
     private void updateChunks() {
-
-        LevelLightEngine lightManager = level.getLightEngine();
-
-        // update shit..
-        if (lightManager instanceof ThreadedLevelLightEngine serverLightManager) {
-            for (int x = 0; x < this.cx_size; x++) {
-                for (int z = 0; z < this.cz_size; z++) {
-                    final LevelChunk c = this.myChunks[x][z];
-                    serverLightManager.lightChunk(c, false);
-                    c.markUnsaved();
-                }
-            }
-        }
-
-        // send shit...
+        // Relighting and resending the chunks is spread over the following ticks
+        var chunks = new ArrayList<LevelChunk>(this.cx_size * this.cz_size);
         for (int x = 0; x < this.cx_size; x++) {
             for (int z = 0; z < this.cz_size; z++) {
-
-                final LevelChunk c = this.myChunks[x][z];
-
-                ServerCompassService.updateArea(this.getLevel(), c);
-
-                var cdp = Platform.getFullChunkPacket(c);
-                level.getChunkSource().chunkMap.getPlayers(c.getPos(), false)
-                        .forEach(spe -> spe.connection.send(cdp));
+                chunks.add(this.myChunks[x][z]);
             }
         }
-
-        // FIXME check if this makes any sense at all to send changes to players asap
-        level.getChunkSource().tick(() -> false, false);
+        SpatialChunkUpdates.schedule(this.level, chunks);
     }
 
     List<BlockPos> getUpdates() {
@@ -436,6 +492,17 @@ private boolean doNotSkip(int y) {
             return this.skipThese == null || !this.skipThese.contains(y);
         }
 
+        private boolean hasSkip(int minY, int maxY) {
+            if (this.skipThese != null) {
+                for (var y : this.skipThese) {
+                    if (y >= minY && y <= maxY) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         private void setSkip(int y) {
             if (this.skipThese == null) {
                 this.skipThese = new ArrayList<>();
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.spatial;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import appeng.hooks.ticking.TickHandler;
+import appeng.server.services.compass.ServerCompassService;
+import appeng.util.ILevelRunnable;
+import appeng.util.Platform;
+
+/**
+ * Relights and resends the chunks changed by a spatial transfer over several ticks, instead of doing it for all chunks
+ * of the region in the tick of the transfer.
+ * <p>
+ * Chunks are relit in one tick and sent to players in the next, which gives the threaded light engine a chance to
+ * finish before the chunk is sent.
+ */
+final class SpatialChunkUpdates implements ILevelRunnable {
+    private static final int CHUNKS_PER_TICK = 16;
+
+    /**
+     * Updates that have not finished yet. Held weakly, since the tick handler drops queued updates of unloaded levels.
+     */
+    private static final Set<SpatialChunkUpdates> IN_PROGRESS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final ServerLevel level;
+    /**
+     * Positions of all chunks of this update, until it has finished.
+     */
+    private final LongSet chunkPositions = new LongOpenHashSet();
+    private final Queue<LevelChunk> toLight;
+    private final Queue<LevelChunk> toSend = new ArrayDeque<>();
+
+    private SpatialChunkUpdates(ServerLevel level, Collection<LevelChunk> chunks) {
+        this.level = level;
+        this.toLight = new ArrayDeque<>(chunks);
+        for (var chunk : chunks) {
+            this.chunkPositions.add(chunk.getPos().pack());
+        }
+    }
+
+    static void schedule(ServerLevel level, Collection<LevelChunk> chunks) {
+        var updates = new SpatialChunkUpdates(level, chunks);
+        synchronized (IN_PROGRESS) {
+            IN_PROGRESS.add(updates);
+        }
+        TickHandler.instance().addCallable(level, updates);
+    }
+
+    /**
+     * @return True while any chunk of the given level that overlaps the given block region (inclusive) is still being
+     *         relit or resent after a previous transfer.
+     */
+    static boolean isInProgress(ServerLevel level, BlockPos min, BlockPos max) {
+        var minX = SectionPos.blockToSectionCoord(Math.min(min.getX(), max.getX()));
+        var minZ = SectionPos.blockToSectionCoord(Math.min(min.getZ(), max.getZ()));
+        var maxX = SectionPos.blockToSectionCoord(Math.max(min.getX(), max.getX()));
+        var maxZ = SectionPos.blockToSectionCoord(Math.max(min.getZ(), max.getZ()));
+
+        synchronized (IN_PROGRESS) {
+            for (var updates : IN_PROGRESS) {
+                if (updates.level == level && updates.overlaps(minX, minZ, maxX, maxZ)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean overlaps(int minX, int minZ, int maxX, int maxZ) {
+        var it = chunkPositions.iterator();
+        while (it.hasNext()) {
+            var pos = it.nextLong();
+            var x = ChunkPos.getX(pos);
+            var z = ChunkPos.getZ(pos);
+            if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void call(@Nullable Level ignored) {
+        // Send the chunks that were relit in the previous tick
+        for (var chunk : toSend) {
+            var packet = Platform.getFullChunkPacket(chunk);
+            level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false)
+                    .forEach(player -> player.connection.send(packet));
+        }
+        toSend.clear();
+
+        var lightEngine = level.getLightEngine();
+        for (int i = 0; i < CHUNKS_PER_TICK && !toLight.isEmpty(); i++) {
+            var chunk = toLight.poll();
+            if (lightEngine instanceof ThreadedLevelLightEngine serverLightEngine) {
+                serverLightEngine.lightChunk(chunk, false);
+            }
+            chunk.markUnsaved();
+            ServerCompassService.updateArea(level, chunk);
+            toSend.add(chunk);
+        }
+
+        if (toSend.isEmpty()) {
+            synchronized (IN_PROGRESS) {
+                IN_PROGRESS.remove(this);
+            }
+        } else {
+            TickHandler.instance().addCallable(level, this);
+        }
+    }
+}
@@ -121,6 +121,29 @@ private Entity teleportEntity(Entity entity, TelDestination link) {
         return entity;
     }
 
+    /**
+     * @param min    The inclusive minimum of the region to transfer in the given level.
+     * @param max    The inclusive maximum of the region to transfer in the given level.
+     * @param plotId The plot of the spatial cell that is used for the transfer, or -1 if it has none yet.
+     * @return True while chunks of either region are still being relit and resent to players after a previous
+     *         transfer. The transfer should be postponed in the meantime.
+     */
+    public boolean isTransitionInProgress(ServerLevel level, BlockPos min, BlockPos max, int plotId) {
+        if (SpatialChunkUpdates.isInProgress(level, min, max)) {
+            return true;
+        }
+
+        var plotManager = SpatialStoragePlotManager.INSTANCE;
+        var plot = plotManager.getPlot(plotId);
+        if (plot != null) {
+            // Includes the matrix frame around the plot
+            var origin = plot.getOrigin();
+            return SpatialChunkUpdates.isInProgress(plotManager.getLevel(), origin.offset(-1, -1, -1),
+                    origin.offset(plot.getSize()));
+        }
+        return false;
+    }
+
     private void transverseEdges(int minX, int minY, int minZ, int maxX, int maxY,
             int maxZ, ISpatialVisitor visitor) {
         for (int y = minY; y < maxY; y++) {
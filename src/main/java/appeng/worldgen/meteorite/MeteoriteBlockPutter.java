@@ -18,22 +18,182 @@
 
 package appeng.worldgen.meteorite;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 
+/**
+ * Places the blocks of a meteorite.
+ * <p>
+ * During world generation, blocks are not placed immediately. They are collected per chunk section and written to the
+ * sections in bulk by {@link #flush}, after which the heightmaps of each touched chunk are recomputed once. Blocks
+ * that need more than just a state change (block entities and fluids) are still placed through the level.
+ */
 public class MeteoriteBlockPutter {
+    private static final int SECTION_VOLUME = SectionPos.SECTION_SIZE * SectionPos.SECTION_SIZE
+            * SectionPos.SECTION_SIZE;
+
+    private final boolean batched;
+
+    /**
+     * Pending block states per section, indexed by {@link #getIndex}. Null entries are not changed.
+     */
+    private final Long2ObjectMap<BlockState[]> pendingSections = new Long2ObjectLinkedOpenHashMap<>();
+
+    private long lastSectionPos = Long.MIN_VALUE;
+    @Nullable
+    private BlockState[] lastSection;
+
+    public MeteoriteBlockPutter() {
+        this(false);
+    }
+
+    public MeteoriteBlockPutter(boolean batched) {
+        this.batched = batched;
+    }
+
+    /**
+     * Creates a putter that batches its changes if the meteorite is placed as part of world generation.
+     */
+    public static MeteoriteBlockPutter forLevel(LevelAccessor level) {
+        return new MeteoriteBlockPutter(level instanceof WorldGenRegion);
+    }
+
     public boolean put(LevelAccessor level, BlockPos pos, BlockState blk) {
-        final BlockState original = level.getBlockState(pos);
+        final BlockState original = getBlockState(level, pos);
 
         if (original.getBlock() == Blocks.BEDROCK || original == blk) {
             return false;
         }
 
-        level.setBlock(pos, blk, Block.UPDATE_ALL);
+        if (batched) {
+            getPendingSection(pos, true)[getIndex(pos)] = blk;
+        } else {
+            level.setBlock(pos, blk, Block.UPDATE_ALL);
+        }
         return true;
     }
 
+    /**
+     * Returns the block state at the given position, taking changes that have not been flushed yet into account.
+     */
+    public BlockState getBlockState(LevelAccessor level, BlockPos pos) {
+        if (batched) {
+            var pending = getPendingSection(pos, false);
+            if (pending != null) {
+                var state = pending[getIndex(pos)];
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+        return level.getBlockState(pos);
+    }
+
+    /**
+     * Writes all pending changes to the level.
+     */
+    public void flush(LevelAccessor level) {
+        var touchedChunks = new ArrayList<ChunkAccess>();
+        var pos = new BlockPos.MutableBlockPos();
+
+        for (var entry : pendingSections.long2ObjectEntrySet()) {
+            var sectionPos = SectionPos.of(entry.getLongKey());
+            var chunk = level.getChunk(sectionPos.x(), sectionPos.z());
+            var direct = canWriteDirectly(chunk);
+            var section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionPos.y()));
+
+            var states = entry.getValue();
+            for (int i = 0; i < states.length; i++) {
+                var state = states[i];
+                if (state == null) {
+                    continue;
+                }
+                int x = i & 0xF;
+                int z = (i >> 4) & 0xF;
+                int y = i >> 8;
+
+                if (direct && !state.hasBlockEntity() && state.getFluidState().isEmpty()
+                        && !section.getBlockState(x, y, z).hasBlockEntity()) {
+                    section.setBlockState(x, y, z, state, false);
+                } else {
+                    pos.set(sectionPos.minBlockX() + x, sectionPos.minBlockY() + y, sectionPos.minBlockZ() + z);
+                    level.setBlock(pos, state, Block.UPDATE_ALL);
+                }
+            }
+
+            if (direct && !touchedChunks.contains(chunk)) {
+                touchedChunks.add(chunk);
+            }
+        }
+
+        // Heightmaps are recomputed once for each column instead of being updated for every block
+        for (var chunk : touchedChunks) {
+            primeHeightmaps(chunk);
+        }
+
+        pendingSections.clear();
+        lastSectionPos = Long.MIN_VALUE;
+        lastSection = null;
+    }
+
+    /**
+     * Chunks that are still being generated and have not been lit yet can have their sections written directly.
+     */
+    private static boolean canWriteDirectly(ChunkAccess chunk) {
+        return chunk instanceof ProtoChunk
+                && !chunk.getPersistedStatus().isOrAfter(ChunkStatus.INITIALIZE_LIGHT);
+    }
+
+    private static void primeHeightmaps(ChunkAccess chunk) {
+        var types = EnumSet.noneOf(Heightmap.Types.class);
+        for (var entry : chunk.getHeightmaps()) {
+            types.add(entry.getKey());
+        }
+        if (!types.isEmpty()) {
+            Heightmap.primeHeightmaps(chunk, types);
+        }
+    }
+
+    @Nullable
+    private BlockState[] getPendingSection(BlockPos pos, boolean create) {
+        var sectionPos = SectionPos.asLong(pos);
+        if (sectionPos == lastSectionPos && lastSection != null) {
+            return lastSection;
+        }
+
+        var pending = pendingSections.get(sectionPos);
+        if (pending == null) {
+            if (!create) {
+                return null;
+            }
+            pending = new BlockState[SECTION_VOLUME];
+            pendingSections.put(sectionPos, pending);
+        }
+        lastSectionPos = sectionPos;
+        lastSection = pending;
+        return pending;
+    }
+
+    private static int getIndex(BlockPos pos) {
+        return SectionPos.sectionRelative(pos.getX())
+                | SectionPos.sectionRelative(pos.getZ()) << 4
+                | SectionPos.sectionRelative(pos.getY()) << 8;
+    }
 }
@@ -19,8 +19,11 @@
 package appeng.worldgen.meteorite;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.BlockPos.MutableBlockPos;
 import net.minecraft.core.Direction;
@@ -33,7 +36,6 @@
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
@@ -47,16 +49,34 @@
 import appeng.worldgen.meteorite.fallout.FalloutSnow;
 
 public final class MeteoritePlacer {
+    /**
+     * Collects placement timings while the meteorite benchmark command runs, and is null otherwise.
+     */
+    @Nullable
+    private static volatile PlacementStats benchmarkStats;
+
     public static void place(LevelAccessor level, PlacedMeteoriteSettings settings, BoundingBox boundingBox,
             RandomSource random) {
+        var stats = benchmarkStats;
+        var start = stats != null ? System.nanoTime() : 0;
         var placer = new MeteoritePlacer(level, settings, boundingBox, random);
         placer.place();
+        if (stats != null) {
+            stats.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Starts collecting the timings of all meteorite placements into the given stats, or stops it if null is given.
+     */
+    public static void setBenchmarkStats(@Nullable PlacementStats stats) {
+        benchmarkStats = stats;
     }
 
     private final BlockState skyStone;
     private final List<BlockState> quartzBlocks;
     private final List<BlockState> quartzBuds;
-    private final MeteoriteBlockPutter putter = new MeteoriteBlockPutter();
+    private final MeteoriteBlockPutter putter;
     private final LevelAccessor level;
     private final RandomSource random;
     private final Fallout type;
@@ -77,6 +97,7 @@ private MeteoritePlacer(LevelAccessor level, PlacedMeteoriteSettings settings, B
             RandomSource random) {
         this.boundingBox = boundingBox;
         this.level = level;
+        this.putter = MeteoriteBlockPutter.forLevel(level);
         this.random = random;
         this.pos = settings.getPos();
         this.x = settings.getPos().getX();
@@ -129,6 +150,8 @@ public void place() {
         if (craterLake) {
             this.placeCraterLake();
         }
+
+        this.putter.flush(level);
     }
 
     private int minX(int x) {
@@ -187,7 +210,7 @@ private void placeCrater() {
                     final double distanceFrom = dx * dx + dz * dz;
 
                     if (j > h + distanceFrom * 0.02) {
-                        BlockState currentBlock = level.getBlockState(blockPos);
+                        BlockState currentBlock = this.putter.getBlockState(level, blockPos);
 
                         if (craterType != CraterType.NORMAL && j < y && currentBlock.isSolid()) {
                             if (j > h + distanceFrom * 0.02) {
@@ -288,8 +311,8 @@ private void decay() {
                     blockPos.setY(j);
                     blockPosUp.setY(j + 1);
                     blockPosDown.setY(j - 1);
-                    BlockState state = level.getBlockState(blockPos);
-                    Block blk = level.getBlockState(blockPos).getBlock();
+                    BlockState state = this.putter.getBlockState(level, blockPos);
+                    Block blk = state.getBlock();
 
                     if (this.pureCrater && blk == craterType.getFiller()) {
                         continue;
@@ -297,16 +320,16 @@ private void decay() {
 
                     // TODO reconsider
                     if (state.canBeReplaced()) {
-                        if (!level.isEmptyBlock(blockPosUp)) {
-                            final BlockState stateUp = level.getBlockState(blockPosUp);
-                            level.setBlock(blockPos, stateUp, Block.UPDATE_ALL);
+                        final BlockState stateUp = this.putter.getBlockState(level, blockPosUp);
+                        if (!stateUp.isAir()) {
+                            this.putter.put(level, blockPos, stateUp);
                         } else if (randomShit < 100 * this.crater) {
                             final double dx = i - x;
                             final double dy = j - y;
                             final double dz = k - z;
                             final double dist = dx * dx + dy * dy + dz * dz;
 
-                            final BlockState xf = level.getBlockState(blockPosDown);
+                            final BlockState xf = this.putter.getBlockState(level, blockPosDown);
                             if (!xf.canBeReplaced()) {
                                 final double extraRange = random.nextDouble() * 0.6;
                                 final double height = this.crater * (extraRange + 0.2)
@@ -318,7 +341,8 @@ private void decay() {
                                 }
                             }
                         }
-                    } else if (level.isEmptyBlock(blockPosUp) && random.nextDouble() > 0.4) { // decay.
+                    } else if (this.putter.getBlockState(level, blockPosUp).isAir()
+                            && random.nextDouble() > 0.4) { // decay.
                         final double dx = i - x;
                         final double dy = j - y;
                         final double dz = k - z;
@@ -340,14 +364,12 @@ private void decay() {
     private void placeCraterLake() {
         final int maxY = level.getSeaLevel() - 1;
         MutableBlockPos blockPos = new MutableBlockPos();
-        ChunkAccess currentChunk;
 
         for (int currentX = boundingBox.minX(); currentX <= boundingBox.maxX(); currentX++) {
             blockPos.setX(currentX);
 
             for (int currentZ = boundingBox.minZ(); currentZ <= boundingBox.maxZ(); currentZ++) {
                 blockPos.setZ(currentZ);
-                currentChunk = level.getChunk(blockPos);
 
                 for (int currentY = y - 5; currentY <= maxY; currentY++) {
                     blockPos.setY(currentY);
@@ -359,7 +381,7 @@ private void placeCraterLake() {
                     final double distanceFrom = dx * dx + dz * dz;
 
                     if (currentY > h + distanceFrom * 0.02) {
-                        BlockState currentBlock = currentChunk.getBlockState(blockPos);
+                        BlockState currentBlock = this.putter.getBlockState(level, blockPos);
                         if (currentBlock.getBlock() == Blocks.AIR) {
                             this.putter.put(level, blockPos, Blocks.WATER.defaultBlockState());
 
@@ -368,27 +390,27 @@ private void placeCraterLake() {
                             }
                         }
                     } else if (maxY + (maxY - currentY) * 2 + 2 > h + distanceFrom * 0.02) {
-                        pillarDownSlopeBlocks(currentChunk, blockPos);
+                        pillarDownSlopeBlocks(blockPos);
                     }
                 }
             }
         }
     }
 
-    private void pillarDownSlopeBlocks(ChunkAccess currentChunk, MutableBlockPos blockPos) {
+    private void pillarDownSlopeBlocks(MutableBlockPos blockPos) {
         MutableBlockPos enclosingBlockPos = new MutableBlockPos();
         enclosingBlockPos.set(blockPos);
 
         for (int i = 0; i < 20; i++) {
-            if (placeEnclosingBlock(currentChunk, enclosingBlockPos)) {
+            if (placeEnclosingBlock(enclosingBlockPos)) {
                 break;
             }
             enclosingBlockPos.move(Direction.DOWN);
         }
     }
 
-    private boolean placeEnclosingBlock(ChunkAccess currentChunk, MutableBlockPos enclosingBlockPos) {
-        BlockState currentState = currentChunk.getBlockState(enclosingBlockPos);
+    private boolean placeEnclosingBlock(MutableBlockPos enclosingBlockPos) {
+        BlockState currentState = this.putter.getBlockState(level, enclosingBlockPos);
         if (currentState.getBlock() == Blocks.AIR ||
                 (currentState.getFluidState().isEmpty() &&
                         (currentState.canBeReplaced() || currentState.is(BlockTags.REPLACEABLE)))) {
@@ -413,4 +435,30 @@ private Fallout getFallout(LevelAccessor level, BlockPos pos, FalloutMode mode)
         };
     }
 
+    /**
+     * Timings of meteorite placements. Chunks are generated on worker threads, so this is thread-safe.
+     */
+    public static final class PlacementStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+
+        private void add(long placementNanos) {
+            count.incrementAndGet();
+            nanos.addAndGet(placementNanos);
+        }
+
+        /**
+         * @return How often a meteorite was (partially) placed. Every chunk touched by a meteorite counts once.
+         */
+        public long getCount() {
+            return count.get();
+        }
+
+        /**
+         * @return The total time spent placing meteorites.
+         */
+        public long getNanos() {
+            return nanos.get();
+        }
+    }
 }
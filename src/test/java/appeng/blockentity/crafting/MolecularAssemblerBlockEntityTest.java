@@ -0,0 +1,57 @@
+package appeng.blockentity.crafting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class MolecularAssemblerBlockEntityTest {
+    @Test
+    void testQueueStacksMatchingIngredients() {
+        var current = new ItemStack(Items.BLAZE_POWDER, 3);
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(current, new ItemStack(Items.BLAZE_POWDER), 3))
+                .isTrue();
+    }
+
+    /**
+     * Ender pearls only stack to 16, so at most 16 Eyes of Ender can be queued even though the eyes stack to 64.
+     */
+    @Test
+    void testQueueRespectsIngredientStackLimit() {
+        var pearl = new ItemStack(Items.ENDER_PEARL);
+
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(new ItemStack(Items.ENDER_PEARL, 15), pearl, 15))
+                .isTrue();
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(new ItemStack(Items.ENDER_PEARL, 16), pearl, 16))
+                .isFalse();
+    }
+
+    @Test
+    void testQueueRejectsUnstackableIngredients() {
+        var sword = new ItemStack(Items.IRON_SWORD);
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(sword, sword.copy(), 1)).isFalse();
+    }
+
+    @Test
+    void testQueueRejectsDifferentLayout() {
+        var powder = new ItemStack(Items.BLAZE_POWDER);
+
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(ItemStack.EMPTY, ItemStack.EMPTY, 1)).isTrue();
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(ItemStack.EMPTY, powder, 1)).isFalse();
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(powder, ItemStack.EMPTY, 1)).isFalse();
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(powder, new ItemStack(Items.ENDER_PEARL), 1))
+                .isFalse();
+    }
+
+    @Test
+    void testQueueRejectsSlotThatDoesNotMatchQueuedCount() {
+        var current = new ItemStack(Items.BLAZE_POWDER, 2);
+        assertThat(MolecularAssemblerBlockEntity.canQueueIngredient(current, new ItemStack(Items.BLAZE_POWDER), 3))
+                .isFalse();
+    }
+}
@@ -0,0 +1,131 @@
+package appeng.client.render.cablebus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.client.resources.model.SimpleModelWrapper;
+import net.minecraft.client.resources.model.geometry.BakedQuad;
+import net.minecraft.client.resources.model.geometry.QuadCollection;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Blocks;
+
+import appeng.api.util.AECableType;
+import appeng.api.util.AEColor;
+import appeng.block.networking.CableBusRenderState;
+import appeng.block.networking.CableCoreType;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CableModelCacheTest {
+    private final CableModelCache cache = new CableModelCache(10);
+
+    @Test
+    void testKeyIgnoresPositionAndFacades() {
+        var state = createState(8);
+        var other = createState(8);
+        other.setPos(new BlockPos(100, 64, -20));
+        other.setFacade(Direction.UP, Blocks.STONE.defaultBlockState());
+
+        assertThat(CableModelKey.of(other, false)).isEqualTo(CableModelKey.of(state, false));
+        assertThat(CableModelKey.of(state, true)).isNotEqualTo(CableModelKey.of(state, false));
+    }
+
+    @Test
+    void testKeyDependsOnGeometry() {
+        var key = CableModelKey.of(createState(8), false);
+
+        assertThat(CableModelKey.of(createState(4), false)).isNotEqualTo(key);
+
+        var colored = createState(8);
+        colored.setCableColor(AEColor.RED);
+        assertThat(CableModelKey.of(colored, false)).isNotEqualTo(key);
+
+        var busAdjacent = createState(8);
+        busAdjacent.setCableBusAdjacent(EnumSet.of(Direction.NORTH));
+        assertThat(CableModelKey.of(busAdjacent, false)).isNotEqualTo(key);
+
+        var attachment = createState(8);
+        attachment.getAttachmentConnections().put(Direction.UP, 4);
+        assertThat(CableModelKey.of(attachment, false)).isNotEqualTo(key);
+    }
+
+    @Test
+    void testChannelsBeyondShownMaximumShareKey() {
+        assertThat(CableModelKey.of(createState(40), false)).isEqualTo(CableModelKey.of(createState(32), false));
+    }
+
+    @Test
+    void testCachedModelIsReused() {
+        var key = CableModelKey.of(createState(8), false);
+        var model = createModel(2);
+
+        assertThat(cache.get(key, () -> model)).isSameAs(model);
+        assertThat(cache.get(key, () -> createModel(2))).isSameAs(model);
+
+        var stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.quads()).isEqualTo(2);
+    }
+
+    @Test
+    void testLeastRecentlyUsedModelsAreEvicted() {
+        var first = CableModelKey.of(createState(1), false);
+        var second = CableModelKey.of(createState(2), false);
+        var third = CableModelKey.of(createState(3), false);
+        var firstModel = createModel(4);
+        cache.get(first, () -> firstModel);
+        cache.get(second, () -> createModel(4));
+        // Using the first model again makes the second one the least recently used
+        cache.get(first, () -> createModel(4));
+        cache.get(third, () -> createModel(4));
+
+        var stats = cache.getStats();
+        assertThat(stats.evictions()).isEqualTo(1);
+        assertThat(stats.entries()).isEqualTo(2);
+        assertThat(stats.quads()).isEqualTo(8);
+        assertThat(cache.get(first, () -> createModel(4))).isSameAs(firstModel);
+    }
+
+    @Test
+    void testModelLargerThanCacheIsKept() {
+        var key = CableModelKey.of(createState(8), false);
+        var model = createModel(20);
+
+        cache.get(key, () -> model);
+
+        assertThat(cache.getStats().entries()).isEqualTo(1);
+        assertThat(cache.get(key, () -> createModel(20))).isSameAs(model);
+    }
+
+    private static CableBusRenderState createState(int channels) {
+        var state = new CableBusRenderState();
+        state.setCableType(AECableType.SMART);
+        state.setCoreType(CableCoreType.COVERED);
+        var connections = new EnumMap<Direction, AECableType>(Direction.class);
+        connections.put(Direction.NORTH, AECableType.SMART);
+        connections.put(Direction.SOUTH, AECableType.SMART);
+        state.setConnectionTypes(connections);
+        var channelsOnSide = new EnumMap<Direction, Integer>(Direction.class);
+        channelsOnSide.put(Direction.NORTH, channels);
+        channelsOnSide.put(Direction.SOUTH, channels);
+        state.setChannelsOnSide(channelsOnSide);
+        return state;
+    }
+
+    private static SimpleModelWrapper createModel(int quadCount) {
+        var quads = mock(QuadCollection.class);
+        when(quads.getAll()).thenReturn(Collections.<BakedQuad>nCopies(quadCount, null));
+        var model = mock(SimpleModelWrapper.class);
+        when(model.quads()).thenReturn(quads);
+        return model;
+    }
+}
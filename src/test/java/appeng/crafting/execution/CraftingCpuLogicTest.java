@@ -0,0 +1,68 @@
+package appeng.crafting.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.me.cluster.implementations.CraftingCPUCluster;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CraftingCpuLogicTest {
+    private final CraftingCpuLogic logic = new CraftingCpuLogic(mock(CraftingCPUCluster.class));
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEItemKey stick = AEItemKey.of(Items.STICK);
+    private final AEItemKey gold = AEItemKey.of(Items.GOLD_INGOT);
+
+    @Test
+    void testNoChangesSinceCurrentVersion() {
+        logic.getInventory().insert(diamond, 1, Actionable.MODULATE);
+
+        assertThat(getChangesSince(logic.getChangeVersion())).isEmpty();
+    }
+
+    @Test
+    void testChangesAreReturnedNewestFirst() {
+        var version = logic.getChangeVersion();
+        logic.getInventory().insert(diamond, 1, Actionable.MODULATE);
+        logic.getInventory().insert(stick, 1, Actionable.MODULATE);
+
+        assertThat(getChangesSince(version)).containsExactly(stick, diamond);
+    }
+
+    @Test
+    void testOnlyChangesAfterVersionAreReturned() {
+        logic.getInventory().insert(diamond, 1, Actionable.MODULATE);
+        logic.getInventory().insert(stick, 1, Actionable.MODULATE);
+        var version = logic.getChangeVersion();
+        logic.getInventory().insert(gold, 1, Actionable.MODULATE);
+        // Changing a key again moves it to the end of the journal
+        logic.getInventory().extract(diamond, 1, Actionable.MODULATE);
+
+        assertThat(getChangesSince(version)).containsExactly(diamond, gold);
+    }
+
+    @Test
+    void testSimulatedChangesAreIgnored() {
+        var version = logic.getChangeVersion();
+        logic.getInventory().insert(diamond, 1, Actionable.SIMULATE);
+
+        assertThat(logic.getChangeVersion()).isEqualTo(version);
+        assertThat(getChangesSince(version)).isEmpty();
+    }
+
+    private List<AEKey> getChangesSince(long version) {
+        var changes = new ArrayList<AEKey>();
+        assertThat(logic.getChangesSince(version, changes::add)).isTrue();
+        return changes;
+    }
+}
@@ -0,0 +1,88 @@
+package appeng.crafting.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.ProblemReporter;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.storage.TagValueInput;
+import net.minecraft.world.level.storage.TagValueOutput;
+
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.GenericStack;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class KeyDictionaryTest {
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEItemKey stick = AEItemKey.of(Items.STICK);
+
+    @Test
+    void testRoundtrip() {
+        var amounts = List.of(new GenericStack(diamond, 5), new GenericStack(stick, Long.MAX_VALUE),
+                new GenericStack(diamond, 1));
+
+        assertThat(roundtrip(amounts)).containsExactlyElementsOf(amounts);
+    }
+
+    /**
+     * The buffer grows beyond the written bytes, which must not be stored and read back as additional amounts.
+     */
+    @Test
+    void testOnlyWrittenBytesAreStored() {
+        var amounts = new ArrayList<GenericStack>();
+        var expected = new FriendlyByteBuf(Unpooled.buffer());
+        for (int i = 0; i < 100; i++) {
+            amounts.add(new GenericStack(i % 2 == 0 ? diamond : stick, i + 1));
+            expected.writeVarInt(i % 2);
+            expected.writeVarLong(i + 1);
+        }
+
+        var dictionary = new KeyDictionary();
+        var writer = dictionary.writer();
+        for (var amount : amounts) {
+            writer.add(amount.what(), amount.amount());
+        }
+        var output = TagValueOutput.createWithoutContext(ProblemReporter.DISCARDING);
+        writer.write(output, "amounts");
+        var tag = output.buildResult();
+        assertThat(tag.getByteArray("amounts").orElseThrow()).hasSize(expected.readableBytes());
+
+        assertThat(roundtrip(amounts)).containsExactlyElementsOf(amounts);
+    }
+
+    @Test
+    void testMissingAmountsAreEmpty() {
+        assertThat(roundtrip(List.of(new GenericStack(diamond, 1)), "other")).isEmpty();
+    }
+
+    private static List<GenericStack> roundtrip(List<GenericStack> amounts) {
+        return roundtrip(amounts, "amounts");
+    }
+
+    private static List<GenericStack> roundtrip(List<GenericStack> amounts, String readName) {
+        var dictionary = new KeyDictionary();
+        var writer = dictionary.writer();
+        for (var amount : amounts) {
+            writer.add(amount.what(), amount.amount());
+        }
+        var output = TagValueOutput.createWithoutContext(ProblemReporter.DISCARDING);
+        writer.write(output, "amounts");
+        dictionary.write(output);
+
+        var input = TagValueInput.create(ProblemReporter.DISCARDING, RegistryAccess.EMPTY, output.buildResult());
+        var readDictionary = KeyDictionary.read(input);
+        assertThat(readDictionary).isNotNull();
+        var result = new ArrayList<GenericStack>();
+        readDictionary.readAmounts(input, readName, (what, amount) -> result.add(new GenericStack(what, amount)));
+        return result;
+    }
+}
@@ -176,4 +176,35 @@ private AECraftingPattern decode(CompoundTag tag) {
         }
         return assertInstanceOf(AECraftingPattern.class, details);
     }
+
+    @Test
+    void testBoundedCacheEvictsOldestEntries() {
+        var cache = AECraftingPattern.<Integer, String>createBoundedCache(4);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "v" + i);
+            // Lookups must not affect which entry is evicted next
+            cache.get(0);
+        }
+        assertThat(cache).hasSize(4);
+        assertThat(cache.keySet()).containsExactly(6, 7, 8, 9);
+    }
+
+    @Test
+    void testBoundedCacheStaysBoundedWithConcurrentAccess() throws Exception {
+        var cache = AECraftingPattern.<Integer, Integer>createBoundedCache(8);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            var offset = t * 1000;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertThat(cache).hasSize(8);
+    }
 }
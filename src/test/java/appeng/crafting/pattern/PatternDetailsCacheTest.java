@@ -0,0 +1,91 @@
+package appeng.crafting.pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+
+import appeng.api.crafting.EncodedPatternDecoder;
+import appeng.api.crafting.IPatternDetails;
+import appeng.api.stacks.AEItemKey;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class PatternDetailsCacheTest {
+    private final Level level = mock(Level.class);
+    private final Level otherLevel = mock(Level.class);
+    private final AEItemKey pattern = AEItemKey.of(Items.PAPER);
+    private final AEItemKey otherPattern = AEItemKey.of(Items.BOOK);
+    private final AtomicInteger decodeCount = new AtomicInteger();
+    private final EncodedPatternDecoder<IPatternDetails> decoder = (what, level) -> {
+        decodeCount.incrementAndGet();
+        return mock(IPatternDetails.class);
+    };
+
+    @BeforeEach
+    @AfterEach
+    void clearCache() {
+        PatternDetailsCache.clear();
+    }
+
+    @Test
+    void testIdenticalPatternsShareDecodedDetails() {
+        var first = PatternDetailsCache.decode(pattern, level, decoder);
+        var second = PatternDetailsCache.decode(pattern, level, decoder);
+
+        assertThat(second).isSameAs(first);
+        assertThat(decodeCount).hasValue(1);
+    }
+
+    @Test
+    void testDifferentPatternsAreDecodedSeparately() {
+        var first = PatternDetailsCache.decode(pattern, level, decoder);
+        var second = PatternDetailsCache.decode(otherPattern, level, decoder);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(decodeCount).hasValue(2);
+    }
+
+    @Test
+    void testLevelsDoNotShareDecodedDetails() {
+        var inLevel = PatternDetailsCache.decode(pattern, level, decoder);
+        var inOtherLevel = PatternDetailsCache.decode(pattern, otherLevel, decoder);
+
+        assertThat(inOtherLevel).isNotSameAs(inLevel);
+        assertThat(PatternDetailsCache.decode(pattern, level, decoder)).isSameAs(inLevel);
+        assertThat(PatternDetailsCache.decode(pattern, otherLevel, decoder)).isSameAs(inOtherLevel);
+        assertThat(decodeCount).hasValue(2);
+    }
+
+    /**
+     * Decoded details capture the recipe they were decoded against, so a reload must decode them again.
+     */
+    @Test
+    void testClearOnReloadDecodesAgain() {
+        var beforeReload = PatternDetailsCache.decode(pattern, level, decoder);
+        PatternDetailsCache.clear();
+        var afterReload = PatternDetailsCache.decode(pattern, level, decoder);
+
+        assertThat(afterReload).isNotSameAs(beforeReload);
+        assertThat(decodeCount).hasValue(2);
+    }
+
+    @Test
+    void testFailedDecodesAreNotCached() {
+        EncodedPatternDecoder<IPatternDetails> failing = (what, level) -> {
+            decodeCount.incrementAndGet();
+            return null;
+        };
+
+        assertThat(PatternDetailsCache.decode(pattern, level, failing)).isNull();
+        assertThat(PatternDetailsCache.decode(pattern, level, failing)).isNull();
+        assertThat(decodeCount).hasValue(2);
+    }
+}
@@ -3,6 +3,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +18,7 @@
 import appeng.api.stacks.AEFluidKey;
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKeyType;
+import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.StorageCells;
 import appeng.api.storage.cells.CellState;
 import appeng.core.definitions.AEItems;
@@ -176,6 +178,36 @@ void testVoidUpgradeUnformatted() {
         assertThat(cell.insert(rejected, Long.MAX_VALUE, Actionable.MODULATE, SRC)).isZero();
     }
 
+    @Test
+    void testInsertAllSavesOnce() {
+        var item = AEItems.ITEM_CELL_1K.get();
+        var stack = new ItemStack(item);
+        var saves = new AtomicInteger();
+        var cell = StorageCells.getCellInventory(stack, saves::incrementAndGet);
+        Objects.requireNonNull(cell);
+
+        var maxTypes = item.getTotalTypes(stack);
+        var keys = generateDifferentKeys(maxTypes + 1);
+        var batch = new KeyCounter();
+        for (var key : keys) {
+            batch.add(key, 1);
+        }
+
+        var inserted = new KeyCounter();
+        cell.insertAll(batch, Actionable.MODULATE, SRC, inserted);
+
+        // Only as many types as the cell can hold are accepted, but the cell is saved only once
+        assertThat(inserted.size()).isEqualTo(maxTypes);
+        assertThat(cell.getAvailableStacks().size()).isEqualTo(maxTypes);
+        assertThat(saves).hasValue(1);
+
+        var extracted = new KeyCounter();
+        cell.extractAll(inserted, Actionable.MODULATE, SRC, extracted);
+        assertThat(extracted.size()).isEqualTo(maxTypes);
+        assertThat(cell.getStatus()).isEqualTo(CellState.EMPTY);
+        assertThat(saves).hasValue(2);
+    }
+
     private static AEItemKey[] generateDifferentKeys(int count) {
         var out = new AEItemKey[count];
         for (int i = 0; i < count; ++i) {
@@ -0,0 +1,240 @@
+package appeng.me.cells;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.GenericStack;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CellContentsStoreTest {
+    private static final RegistryAccess REGISTRIES = RegistryAccess
+            .fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+
+    private static final List<GenericStack> DIAMONDS = List.of(new GenericStack(AEItemKey.of(Items.DIAMOND), 5));
+    private static final List<GenericStack> STICKS = List.of(new GenericStack(AEItemKey.of(Items.STICK), 64),
+            new GenericStack(AEItemKey.of(Items.STONE), 1));
+
+    @TempDir
+    Path tempDir;
+
+    private final UUID id = UUID.randomUUID();
+    private CellContentsStore store;
+
+    @AfterEach
+    void closeStore() throws IOException {
+        if (store != null) {
+            store.closeWithoutSaving();
+        }
+    }
+
+    @Test
+    void testContentIsOnlyWrittenOnSave() throws IOException {
+        open();
+        assertThat(store.scheduleWrite(id, 0, () -> DIAMONDS)).isTrue();
+        assertThat(store.load(id)).isEqualTo(DIAMONDS);
+
+        crash();
+        assertThat(store.load(id)).isNull();
+
+        assertThat(store.scheduleWrite(id, 0, () -> DIAMONDS)).isTrue();
+        store.save(1);
+        crash();
+        assertThat(store.load(id)).isEqualTo(DIAMONDS);
+    }
+
+    @Test
+    void testLatestContentIsReadAfterReopening() throws IOException {
+        open();
+        var other = UUID.randomUUID();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.scheduleWrite(other, 0, () -> DIAMONDS);
+        store.save(1);
+        store.scheduleWrite(id, 1, () -> STICKS);
+        store.save(2);
+
+        restart();
+        assertThat(store.load(id)).isEqualTo(STICKS);
+        assertThat(store.load(other)).isEqualTo(DIAMONDS);
+        // The revision is restored too
+        assertThat(store.scheduleWrite(id, 1, () -> DIAMONDS)).isFalse();
+        assertThat(store.scheduleWrite(id, 2, () -> DIAMONDS)).isTrue();
+    }
+
+    @Test
+    void testCompactionKeepsLatestContent() throws IOException {
+        open();
+        var deleted = UUID.randomUUID();
+        store.scheduleWrite(deleted, 0, () -> STICKS);
+        for (int i = 0; i < 10; i++) {
+            store.scheduleWrite(id, i, () -> STICKS);
+            store.save(i + 1);
+        }
+        store.delete(deleted, 1);
+        store.save(11);
+        store.save(12);
+        var sizeBefore = Files.size(logFile());
+
+        store.startCompaction();
+        // Changes made while the compaction is running must be carried over
+        var changed = UUID.randomUUID();
+        store.scheduleWrite(changed, 0, () -> DIAMONDS);
+        store.save(13);
+        store.finishCompaction(true);
+        assertThat(Files.size(logFile())).isLessThan(sizeBefore);
+
+        restart();
+        assertThat(store.load(id)).isEqualTo(STICKS);
+        assertThat(store.load(changed)).isEqualTo(DIAMONDS);
+        assertThat(store.load(deleted)).isNull();
+    }
+
+    @Test
+    void testDeletionSurvivesCrashBeforeNextSave() throws IOException {
+        open();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.save(1);
+
+        // The cell referencing the content may not have been saved yet when the server crashes
+        store.delete(id, 1);
+        store.save(2);
+        crash();
+        assertThat(store.load(id)).isEqualTo(DIAMONDS);
+
+        // Once a save has completed after the deletion, the content is gone
+        store.delete(id, 1);
+        store.save(3);
+        store.save(4);
+        crash();
+        assertThat(store.load(id)).isNull();
+    }
+
+    @Test
+    void testDeletionIsWrittenOnShutdown() throws IOException {
+        open();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.save(1);
+        store.delete(id, 1);
+
+        restart();
+        assertThat(store.load(id)).isNull();
+    }
+
+    @Test
+    void testCopiesDoNotOverwriteEachOther() throws IOException {
+        open();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.save(1);
+
+        // Two copies of a cell loaded revision 1, the second one to change it has to move to a new id
+        assertThat(store.scheduleWrite(id, 1, () -> STICKS)).isTrue();
+        assertThat(store.scheduleWrite(id, 1, () -> DIAMONDS)).isFalse();
+        store.save(2);
+
+        restart();
+        assertThat(store.load(id)).isEqualTo(STICKS);
+    }
+
+    @Test
+    void testDeletionByOutdatedCopyIsIgnored() throws IOException {
+        open();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.save(1);
+        store.scheduleWrite(id, 1, () -> STICKS);
+
+        store.delete(id, 1);
+        restart();
+        assertThat(store.load(id)).isEqualTo(STICKS);
+    }
+
+    @Test
+    void testIncompleteRecordIsDiscarded() throws IOException {
+        open();
+        store.scheduleWrite(id, 0, () -> DIAMONDS);
+        store.save(1);
+        store.scheduleWrite(id, 1, () -> STICKS);
+        store.save(2);
+        store.closeWithoutSaving();
+
+        // Cut the last record in half
+        try (var channel = FileChannel.open(logFile(), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        open();
+        assertThat(store.load(id)).isEqualTo(DIAMONDS);
+    }
+
+    /**
+     * Allays and item collectors of other mods discard item entities without emptying them first.
+     */
+    @Test
+    void testPickedUpItemEntityIsNotDestroyed() {
+        var itemEntity = itemEntity(Entity.RemovalReason.DISCARDED, 100);
+        assertThat(CellContentsStore.isDestroyed(itemEntity)).isFalse();
+
+        var emptied = itemEntity(Entity.RemovalReason.DISCARDED, 6000);
+        when(emptied.getItem()).thenReturn(ItemStack.EMPTY);
+        assertThat(CellContentsStore.isDestroyed(emptied)).isFalse();
+    }
+
+    @Test
+    void testUnloadedItemEntityIsNotDestroyed() {
+        assertThat(CellContentsStore.isDestroyed(itemEntity(Entity.RemovalReason.UNLOADED_TO_CHUNK, 6000))).isFalse();
+        assertThat(CellContentsStore.isDestroyed(itemEntity(Entity.RemovalReason.CHANGED_DIMENSION, 6000))).isFalse();
+    }
+
+    @Test
+    void testKilledOrDespawnedItemEntityIsDestroyed() {
+        assertThat(CellContentsStore.isDestroyed(itemEntity(Entity.RemovalReason.KILLED, 100))).isTrue();
+        assertThat(CellContentsStore.isDestroyed(itemEntity(Entity.RemovalReason.DISCARDED, 6000))).isTrue();
+    }
+
+    private static ItemEntity itemEntity(Entity.RemovalReason reason, int age) {
+        var itemEntity = mock(ItemEntity.class);
+        itemEntity.lifespan = 6000;
+        when(itemEntity.getItem()).thenReturn(new ItemStack(Items.DIAMOND));
+        when(itemEntity.getRemovalReason()).thenReturn(reason);
+        when(itemEntity.getAge()).thenReturn(age);
+        return itemEntity;
+    }
+
+    private void open() throws IOException {
+        store = new CellContentsStore(logFile(), REGISTRIES);
+    }
+
+    private void crash() throws IOException {
+        store.closeWithoutSaving();
+        open();
+    }
+
+    private void restart() throws IOException {
+        store.shutdown();
+        open();
+    }
+
+    private Path logFile() {
+        return tempDir.resolve("cell_contents.log");
+    }
+}
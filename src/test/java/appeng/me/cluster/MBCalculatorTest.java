@@ -0,0 +1,287 @@
+package appeng.me.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import appeng.util.BootstrapMinecraft;
+
+/**
+ * Builds a 2x2x2 multiblock from 0,0,0 to 1,1,1 and changes blocks around it.
+ */
+@BootstrapMinecraft
+class MBCalculatorTest {
+    private final Map<BlockPos, BlockEntity> blockEntities = new HashMap<>();
+    private final ServerLevel level = mock(ServerLevel.class);
+    private int calculations;
+
+    @BeforeEach
+    void buildCube() {
+        when(level.getBlockEntity(any())).thenAnswer(invocation -> {
+            BlockPos pos = invocation.getArgument(0);
+            return blockEntities.get(pos.immutable());
+        });
+        for (var pos : BlockPos.betweenClosed(0, 0, 0, 1, 1, 1)) {
+            place(pos.immutable());
+        }
+        member(0, 0, 0).calc.calculateMultiblock(level, new BlockPos(0, 0, 0));
+        calculations = 0;
+        assertFormed(new BlockPos(0, 0, 0), new BlockPos(1, 1, 1));
+    }
+
+    @Test
+    void testMemberChangingDataDoesNotRecalculate() {
+        notifyNeighbors(new BlockPos(1, 1, 1));
+
+        assertThat(calculations).isZero();
+        assertFormed(new BlockPos(0, 0, 0), new BlockPos(1, 1, 1));
+    }
+
+    @Test
+    void testUnrelatedBlockOutsideDoesNotRecalculate() {
+        notifyNeighbors(new BlockPos(2, 0, 0));
+
+        assertThat(calculations).isZero();
+        assertFormed(new BlockPos(0, 0, 0), new BlockPos(1, 1, 1));
+    }
+
+    @Test
+    void testBlockAddedToFaceBreaksMultiblock() {
+        place(new BlockPos(2, 0, 1));
+        notifyNeighbors(new BlockPos(2, 0, 1));
+
+        assertThat(calculations).isPositive();
+        assertDisconnected();
+    }
+
+    @Test
+    void testBlockAddedAtCornerBreaksMultiblock() {
+        place(new BlockPos(0, 2, 0));
+        notifyNeighbors(new BlockPos(0, 2, 0));
+
+        assertDisconnected();
+    }
+
+    @Test
+    void testCompletedFaceLayerGrowsMultiblock() {
+        for (var pos : BlockPos.betweenClosed(2, 0, 0, 2, 1, 1)) {
+            place(pos.immutable());
+            notifyNeighbors(pos.immutable());
+        }
+
+        assertFormed(new BlockPos(0, 0, 0), new BlockPos(2, 1, 1));
+    }
+
+    @Test
+    void testCompletedFaceLayerAtMinimumGrowsMultiblock() {
+        for (var pos : BlockPos.betweenClosed(0, -1, 0, 1, -1, 1)) {
+            place(pos.immutable());
+            notifyNeighbors(pos.immutable());
+        }
+
+        assertFormed(new BlockPos(0, -1, 0), new BlockPos(1, 1, 1));
+    }
+
+    @Test
+    void testCornerMemberRemovedBreaksMultiblock() {
+        remove(new BlockPos(0, 0, 0));
+
+        assertThat(calculations).isPositive();
+        assertDisconnected();
+    }
+
+    @Test
+    void testFaceLayerRemovedShrinksMultiblock() {
+        for (var pos : BlockPos.betweenClosed(2, 0, 0, 2, 1, 1)) {
+            place(pos.immutable());
+            notifyNeighbors(pos.immutable());
+        }
+        for (var pos : BlockPos.betweenClosed(0, 0, 0, 0, 1, 1)) {
+            remove(pos.immutable());
+        }
+
+        assertFormed(new BlockPos(1, 0, 0), new BlockPos(2, 1, 1));
+    }
+
+    private void assertFormed(BlockPos min, BlockPos max) {
+        var cluster = member(min.getX(), min.getY(), min.getZ()).getCluster();
+        assertThat(cluster).isNotNull();
+        assertThat(cluster.getBoundsMin()).isEqualTo(min);
+        assertThat(cluster.getBoundsMax()).isEqualTo(max);
+        for (var pos : BlockPos.betweenClosed(min, max)) {
+            assertThat(member(pos.getX(), pos.getY(), pos.getZ()).getCluster()).isSameAs(cluster);
+        }
+    }
+
+    private void assertDisconnected() {
+        for (var be : blockEntities.values()) {
+            if (be instanceof Member member) {
+                assertThat(member.getCluster()).isNull();
+            }
+        }
+    }
+
+    private Member member(int x, int y, int z) {
+        return (Member) blockEntities.get(new BlockPos(x, y, z));
+    }
+
+    private void place(BlockPos pos) {
+        blockEntities.put(pos, new Member(pos));
+    }
+
+    private void remove(BlockPos pos) {
+        var removed = (Member) blockEntities.remove(pos);
+        removed.disconnect(true);
+        notifyNeighbors(pos);
+    }
+
+    /**
+     * Sends the neighbor change to all adjacent members, like a block update would.
+     */
+    private void notifyNeighbors(BlockPos changedPos) {
+        for (var side : Direction.values()) {
+            if (blockEntities.get(changedPos.relative(side)) instanceof Member neighbor) {
+                neighbor.calc.updateMultiblockAfterNeighborChange(level, neighbor.getBlockPos(), changedPos);
+            }
+        }
+    }
+
+    private class Member extends BlockEntity implements IAEMultiBlock<TestCluster> {
+        private final TestCalculator calc = new TestCalculator(this);
+        private TestCluster cluster;
+
+        Member(BlockPos pos) {
+            super(BlockEntityType.CHEST, pos, Blocks.CHEST.defaultBlockState());
+        }
+
+        @Override
+        public void disconnect(boolean b) {
+            if (cluster != null) {
+                cluster.destroy();
+            }
+        }
+
+        @Override
+        public TestCluster getCluster() {
+            return cluster;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+    }
+
+    private class TestCluster implements IAECluster {
+        private final BlockPos min;
+        private final BlockPos max;
+        private final List<Member> members = new ArrayList<>();
+        private boolean destroyed;
+
+        TestCluster(BlockPos min, BlockPos max) {
+            this.min = min.immutable();
+            this.max = max.immutable();
+        }
+
+        @Override
+        public BlockPos getBoundsMin() {
+            return min;
+        }
+
+        @Override
+        public BlockPos getBoundsMax() {
+            return max;
+        }
+
+        @Override
+        public void updateStatus(boolean updateGrid) {
+        }
+
+        @Override
+        public void destroy() {
+            if (destroyed) {
+                return;
+            }
+            destroyed = true;
+            for (var member : members) {
+                member.cluster = null;
+            }
+        }
+
+        @Override
+        public boolean isDestroyed() {
+            return destroyed;
+        }
+
+        @Override
+        public Iterator<? extends BlockEntity> getBlockEntities() {
+            return members.iterator();
+        }
+    }
+
+    private class TestCalculator extends MBCalculator<Member, TestCluster> {
+        TestCalculator(Member target) {
+            super(target);
+        }
+
+        @Override
+        public void calculateMultiblock(ServerLevel level, BlockPos loc) {
+            calculations++;
+            super.calculateMultiblock(level, loc);
+        }
+
+        @Override
+        public boolean checkMultiblockScale(BlockPos min, BlockPos max) {
+            return true;
+        }
+
+        @Override
+        public TestCluster createCluster(ServerLevel level, BlockPos min, BlockPos max) {
+            return new TestCluster(min, max);
+        }
+
+        @Override
+        public boolean verifyInternalStructure(ServerLevel level, BlockPos min, BlockPos max) {
+            for (var pos : BlockPos.betweenClosed(min, max)) {
+                if (!isValidBlockEntity(level.getBlockEntity(pos))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void updateBlockEntities(TestCluster c, ServerLevel level, BlockPos min, BlockPos max) {
+            for (var pos : BlockPos.betweenClosed(min, max)) {
+                var member = (Member) level.getBlockEntity(pos);
+                if (member.cluster != null && member.cluster != c) {
+                    member.cluster.destroy();
+                }
+                member.cluster = c;
+                c.members.add(member);
+            }
+        }
+
+        @Override
+        public boolean isValidBlockEntity(BlockEntity te) {
+            return te instanceof Member;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package appeng.me.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.HashMultimap;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.networking.IStackWatcher;
+import appeng.api.stacks.AEItemKey;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class InterestManagerTest {
+    private final InterestManager<String> interestManager = new InterestManager<>(HashMultimap.create());
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEItemKey stick = AEItemKey.of(Items.STICK);
+
+    @Test
+    void testCrossingUpwards() {
+        interestManager.putThreshold(diamond, 10, "ten");
+        interestManager.putThreshold(diamond, 20, "twenty");
+
+        assertThat(getCrossed(0, 5)).isEmpty();
+        assertThat(getCrossed(5, 15)).containsExactly("ten");
+        assertThat(getCrossed(5, 25)).containsExactlyInAnyOrder("ten", "twenty");
+    }
+
+    @Test
+    void testCrossingDownwards() {
+        interestManager.putThreshold(diamond, 10, "ten");
+        interestManager.putThreshold(diamond, 20, "twenty");
+
+        assertThat(getCrossed(15, 5)).containsExactly("ten");
+        assertThat(getCrossed(25, 0)).containsExactlyInAnyOrder("ten", "twenty");
+        assertThat(getCrossed(25, 21)).isEmpty();
+    }
+
+    /**
+     * Reaching the threshold exactly crosses it, since the amount is then at least the threshold.
+     */
+    @Test
+    void testExactBoundary() {
+        interestManager.putThreshold(diamond, 10, "ten");
+
+        assertThat(getCrossed(9, 10)).containsExactly("ten");
+        assertThat(getCrossed(10, 9)).containsExactly("ten");
+        assertThat(getCrossed(10, 11)).isEmpty();
+        assertThat(getCrossed(11, 10)).isEmpty();
+        assertThat(getCrossed(10, 10)).isEmpty();
+    }
+
+    @Test
+    void testThresholdsArePerKey() {
+        interestManager.putThreshold(stick, 10, "stick");
+
+        assertThat(getCrossed(0, 100)).isEmpty();
+    }
+
+    @Test
+    void testRemoval() {
+        interestManager.putThreshold(diamond, 10, "first");
+        interestManager.putThreshold(diamond, 10, "second");
+
+        interestManager.removeThreshold(diamond, 10, "first");
+        assertThat(getCrossed(0, 10)).containsExactly("second");
+
+        // Removing a threshold that was never added does nothing
+        interestManager.removeThreshold(diamond, 20, "second");
+        interestManager.removeThreshold(stick, 10, "second");
+        assertThat(getCrossed(0, 10)).containsExactly("second");
+
+        interestManager.removeThreshold(diamond, 10, "second");
+        assertThat(getCrossed(0, 10)).isEmpty();
+        assertThat(interestManager.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testStackWatcherResetRemovesThresholds() {
+        var watchers = new InterestManager<StackWatcher<String>>(HashMultimap.create());
+        var watcher = new StackWatcher<>(watchers, "host");
+        watcher.addThreshold(diamond, 10);
+        watcher.addThreshold(diamond, 20);
+        assertThat(watchers.isEmpty()).isFalse();
+
+        watcher.removeThreshold(diamond, 10);
+        var crossed = new ArrayList<StackWatcher<String>>();
+        watchers.forEachCrossedThreshold(diamond, 0, 100, crossed::add);
+        assertThat(crossed).containsExactly(watcher);
+
+        watcher.reset();
+        assertThat(watchers.isEmpty()).isTrue();
+    }
+
+    /**
+     * Watchers that predate thresholds watch the entire key instead.
+     */
+    @Test
+    void testThresholdsFallBackToWatchingKey() {
+        var watcher = mock(IStackWatcher.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+
+        watcher.addThreshold(diamond, 10);
+        verify(watcher).add(diamond);
+
+        watcher.removeThreshold(diamond, 10);
+        verify(watcher).remove(diamond);
+    }
+
+    private List<String> getCrossed(long oldAmount, long newAmount) {
+        var crossed = new ArrayList<String>();
+        interestManager.forEachCrossedThreshold(diamond, oldAmount, newAmount, crossed::add);
+        return crossed;
+    }
+}
@@ -0,0 +1,80 @@
+package appeng.me.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.IStorageProvider;
+import appeng.api.storage.MEStorage;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class StorageServiceTest {
+    private final StorageService service = new StorageService();
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEItemKey stick = AEItemKey.of(Items.STICK);
+
+    @Test
+    void testFuzzyVariantsFollowMountedStorage() {
+        var first = new SimpleStorage(diamond);
+        IStorageProvider firstProvider = mounts -> mounts.mount(first);
+        service.addGlobalStorageProvider(firstProvider);
+        assertThat(findFuzzyVariants(diamond)).containsExactly(diamond);
+
+        // Storage that becomes available through a mount must be visible right away, not only once the variants age
+        var second = new SimpleStorage(stick);
+        IStorageProvider secondProvider = mounts -> mounts.mount(second);
+        service.addGlobalStorageProvider(secondProvider);
+        assertThat(findFuzzyVariants(stick)).containsExactly(stick);
+
+        service.removeGlobalStorageProvider(firstProvider);
+        assertThat(findFuzzyVariants(diamond)).isEmpty();
+    }
+
+    @Test
+    void testFuzzyVariantsFollowRefreshedProvider() {
+        var storage = new SimpleStorage(diamond);
+        var current = new MEStorage[] { storage };
+        IStorageProvider provider = mounts -> mounts.mount(current[0]);
+        service.addGlobalStorageProvider(provider);
+        assertThat(findFuzzyVariants(diamond)).containsExactly(diamond);
+
+        current[0] = new SimpleStorage(stick);
+        service.refreshGlobalStorageProvider(provider);
+        assertThat(findFuzzyVariants(diamond)).isEmpty();
+        assertThat(findFuzzyVariants(stick)).containsExactly(stick);
+    }
+
+    private ArrayList<AEKey> findFuzzyVariants(AEKey key) {
+        var result = new ArrayList<AEKey>();
+        service.findFuzzyVariants(key, FuzzyMode.IGNORE_ALL, result);
+        return result;
+    }
+
+    private static class SimpleStorage implements MEStorage {
+        private final KeyCounter stored = new KeyCounter();
+
+        SimpleStorage(AEKey what) {
+            stored.add(what, 1);
+        }
+
+        @Override
+        public void getAvailableStacks(KeyCounter out) {
+            out.addAll(stored);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.literal("test");
+        }
+    }
+}
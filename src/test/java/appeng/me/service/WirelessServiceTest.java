@@ -0,0 +1,89 @@
+package appeng.me.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.blockentity.networking.WirelessAccessPointBlockEntity;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class WirelessServiceTest {
+    private final WirelessService service = new WirelessService(mock(IGrid.class));
+    private final Level level = mock(Level.class);
+    private final Level otherLevel = mock(Level.class);
+
+    @Test
+    void testOnlyNearbyAccessPointsAreReturned() {
+        var near = addAccessPoint(level, new BlockPos(10, 64, 10), 16);
+        var far = addAccessPoint(level, new BlockPos(1000, 64, 1000), 16);
+        var otherLevelAccessPoint = addAccessPoint(otherLevel, new BlockPos(10, 64, 10), 16);
+
+        assertThat(service.getNearbyAccessPoints(level, 0, 0, null).accessPoints()).containsExactly(near);
+        assertThat(service.getNearbyAccessPoints(level, 1000, 1000, null).accessPoints()).containsExactly(far);
+        assertThat(service.getNearbyAccessPoints(otherLevel, 0, 0, null).accessPoints())
+                .containsExactly(otherLevelAccessPoint);
+    }
+
+    /**
+     * Cells are as wide as the largest range, so an access point is found from anywhere within its range.
+     */
+    @Test
+    void testAccessPointIsFoundAcrossCellBorders() {
+        var accessPoint = addAccessPoint(level, new BlockPos(0, 64, 0), 100);
+        addAccessPoint(level, new BlockPos(5000, 64, 5000), 10);
+
+        assertThat(service.getNearbyAccessPoints(level, 99, -99, null).accessPoints()).containsExactly(accessPoint);
+        assertThat(service.getNearbyAccessPoints(level, -99, 99, null).accessPoints()).containsExactly(accessPoint);
+    }
+
+    @Test
+    void testPreviousResultIsReusedInSameCell() {
+        addAccessPoint(level, new BlockPos(0, 64, 0), 16);
+
+        var first = service.getNearbyAccessPoints(level, 1, 1, null);
+        assertThat(service.getNearbyAccessPoints(level, 2, 2, first)).isSameAs(first);
+        assertThat(service.getNearbyAccessPoints(level, 100, 100, first)).isNotSameAs(first);
+        assertThat(service.getNearbyAccessPoints(otherLevel, 1, 1, first)).isNotSameAs(first);
+    }
+
+    @Test
+    void testChangesInvalidatePreviousResult() {
+        var accessPoint = addAccessPoint(level, new BlockPos(0, 64, 0), 16);
+        var first = service.getNearbyAccessPoints(level, 1, 1, null);
+
+        var added = addAccessPoint(level, new BlockPos(5, 64, 5), 16);
+        var second = service.getNearbyAccessPoints(level, 1, 1, first);
+        assertThat(second.accessPoints()).containsExactlyInAnyOrder(accessPoint, added);
+
+        when(accessPoint.getRange()).thenReturn(32.0);
+        service.onAccessPointChanged(accessPoint);
+        var third = service.getNearbyAccessPoints(level, 1, 1, second);
+        assertThat(third).isNotSameAs(second);
+
+        service.removeNode(createNode(added));
+        assertThat(service.getNearbyAccessPoints(level, 1, 1, third).accessPoints()).containsExactly(accessPoint);
+    }
+
+    private WirelessAccessPointBlockEntity addAccessPoint(Level level, BlockPos pos, double range) {
+        var accessPoint = mock(WirelessAccessPointBlockEntity.class);
+        when(accessPoint.getLevel()).thenReturn(level);
+        when(accessPoint.getBlockPos()).thenReturn(pos);
+        when(accessPoint.getRange()).thenReturn(range);
+        service.addNode(createNode(accessPoint), null);
+        return accessPoint;
+    }
+
+    private static IGridNode createNode(WirelessAccessPointBlockEntity accessPoint) {
+        var node = mock(IGridNode.class);
+        when(node.getOwner()).thenReturn(accessPoint);
+        return node;
+    }
+}
@@ -4,6 +4,7 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -87,6 +88,112 @@ public Set<AEKey> getEmitableItems() {
         assertThat(craftingProviders.getMediums(pattern)).isEmpty();
     }
 
+    @Test
+    void testCraftableChangesSince() {
+        var craftingProviders = new NetworkCraftingProviders();
+        var andesite = AEItemKey.of(Items.ANDESITE);
+        var pattern = new ProcessingPatternBuilder(new GenericStack(andesite, 1)).build();
+        var testProvider = new ICraftingProvider() {
+            @Override
+            public List<IPatternDetails> getAvailablePatterns() {
+                return List.of(pattern);
+            }
+
+            @Override
+            public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] inputHolder) {
+                return false;
+            }
+
+            @Override
+            public boolean isBusy() {
+                return true;
+            }
+        };
+        var testNode1 = mock(IGridNode.class);
+        when(testNode1.getService(ICraftingProvider.class)).thenReturn(testProvider);
+        var testNode2 = mock(IGridNode.class);
+        when(testNode2.getService(ICraftingProvider.class)).thenReturn(testProvider);
+
+        var version = craftingProviders.getCraftablesVersion();
+        craftingProviders.addProvider(testNode1);
+        // The second provider doesn't change what is craftable
+        craftingProviders.addProvider(testNode2);
+
+        var changes = new ArrayList<AEKey>();
+        assertThat(craftingProviders.getCraftableChangesSince(version, changes::add)).isTrue();
+        assertThat(changes).containsExactly(andesite);
+
+        version = craftingProviders.getCraftablesVersion();
+        changes.clear();
+        assertThat(craftingProviders.getCraftableChangesSince(version, changes::add)).isTrue();
+        assertThat(changes).isEmpty();
+
+        craftingProviders.removeProvider(testNode1);
+        assertThat(craftingProviders.getCraftablesVersion()).isEqualTo(version);
+        craftingProviders.removeProvider(testNode2);
+        assertThat(craftingProviders.getCraftableChangesSince(version, changes::add)).isTrue();
+        assertThat(changes).containsExactly(andesite);
+
+        // Versions from the future are unknown
+        assertThat(craftingProviders.getCraftableChangesSince(version + 100, changes::add)).isFalse();
+    }
+
+    @Test
+    void testRefreshOnlyAppliesChanges() {
+        var craftingProviders = new NetworkCraftingProviders();
+        var andesite = AEItemKey.of(Items.ANDESITE);
+        var diorite = AEItemKey.of(Items.DIORITE);
+        var andesitePattern = new ProcessingPatternBuilder(new GenericStack(andesite, 1)).build();
+        var dioritePattern = new ProcessingPatternBuilder(new GenericStack(diorite, 1)).build();
+        var patterns = new ArrayList<IPatternDetails>();
+        patterns.add(andesitePattern);
+        patterns.add(andesitePattern);
+        var testProvider = new ICraftingProvider() {
+            @Override
+            public List<IPatternDetails> getAvailablePatterns() {
+                return patterns;
+            }
+
+            @Override
+            public boolean pushPattern(IPatternDetails patternDetails, KeyCounter[] inputHolder) {
+                return false;
+            }
+
+            @Override
+            public boolean isBusy() {
+                return true;
+            }
+        };
+        var testNode = mock(IGridNode.class);
+        when(testNode.getService(ICraftingProvider.class)).thenReturn(testProvider);
+
+        craftingProviders.addProvider(testNode);
+        var version = craftingProviders.getCraftablesVersion();
+
+        // Removing one of the duplicated patterns keeps it craftable
+        patterns.remove(andesitePattern);
+        patterns.add(dioritePattern);
+        craftingProviders.refreshProvider(testNode);
+
+        assertThat(craftingProviders.getCraftingFor(andesite)).containsExactly(andesitePattern);
+        assertThat(craftingProviders.getCraftingFor(diorite)).containsExactly(dioritePattern);
+        assertThat(craftingProviders.getMediums(andesitePattern)).containsExactly(testProvider);
+        var changes = new ArrayList<AEKey>();
+        assertThat(craftingProviders.getCraftableChangesSince(version, changes::add)).isTrue();
+        assertThat(changes).containsExactly(diorite);
+
+        // Refreshing without changes does nothing
+        version = craftingProviders.getCraftablesVersion();
+        craftingProviders.refreshProvider(testNode);
+        assertThat(craftingProviders.getCraftablesVersion()).isEqualTo(version);
+
+        patterns.clear();
+        craftingProviders.refreshProvider(testNode);
+        assertThat(craftingProviders.getCraftingFor(andesite)).isEmpty();
+        assertThat(craftingProviders.getCraftingFor(diorite)).isEmpty();
+        assertThat(craftingProviders.getMediums(andesitePattern)).isEmpty();
+    }
+
     @Test
     void testPatternPriorities() {
         var craftingProviders = new NetworkCraftingProviders();
@@ -0,0 +1,112 @@
+package appeng.me.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class MEInventoryHandlerTest {
+    private static final IActionSource SRC = new BaseActionSource();
+
+    private final LimitedStorage storage = new LimitedStorage(10);
+    private final MEInventoryHandler handler = new MEInventoryHandler(storage);
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+
+    @Test
+    void testCommitInsertsIntoDelegate() {
+        var reservation = handler.reserveInsert(diamond, 5, SRC);
+        assertThat(reservation.amount()).isEqualTo(5);
+        assertThat(reservation.commit()).isEqualTo(5);
+        assertThat(storage.stored.get(diamond)).isEqualTo(5);
+    }
+
+    @Test
+    void testCancelDoesNotInsert() {
+        handler.setVoidOverflow(true);
+        var reservation = handler.reserveInsert(diamond, 20, SRC);
+        reservation.release();
+        assertThat(reservation.commit()).isZero();
+        assertThat(storage.stored.get(diamond)).isZero();
+    }
+
+    @Test
+    void testVoidOverflowMatchesInsert() {
+        handler.setVoidOverflow(true);
+        var reservation = handler.reserveInsert(diamond, 25, SRC);
+        assertThat(reservation.amount()).isEqualTo(25);
+
+        assertThat(reservation.commit()).isEqualTo(25);
+        assertThat(storage.stored.get(diamond)).isEqualTo(10);
+
+        // A full storage still voids everything, both with and without a reservation
+        assertThat(handler.insert(diamond, 25, Actionable.MODULATE, SRC)).isEqualTo(25);
+        assertThat(handler.reserveInsert(diamond, 25, SRC).commit()).isEqualTo(25);
+        assertThat(storage.stored.get(diamond)).isEqualTo(10);
+    }
+
+    @Test
+    void testVoidOverflowWhenStorageChangedBeforeCommit() {
+        handler.setVoidOverflow(true);
+        var reservation = handler.reserveInsert(diamond, 8, SRC);
+        storage.insert(diamond, 6, Actionable.MODULATE, SRC);
+
+        assertThat(reservation.commit()).isEqualTo(8);
+        assertThat(storage.stored.get(diamond)).isEqualTo(10);
+    }
+
+    @Test
+    void testDoubleCommitIsIgnored() {
+        handler.setVoidOverflow(true);
+        var reservation = handler.reserveInsert(diamond, 4, SRC);
+        assertThat(reservation.commit()).isEqualTo(4);
+        assertThat(reservation.commit()).isZero();
+        reservation.release();
+        assertThat(storage.stored.get(diamond)).isEqualTo(4);
+    }
+
+    @Test
+    void testPartialCommitIsClampedToReservation() {
+        handler.setVoidOverflow(true);
+        var reservation = handler.reserveInsert(diamond, 12, SRC);
+        assertThat(reservation.commit(3)).isEqualTo(3);
+        assertThat(storage.stored.get(diamond)).isEqualTo(3);
+    }
+
+    /**
+     * Storage that uses the default reservations and accepts up to a fixed total amount.
+     */
+    private static class LimitedStorage implements MEStorage {
+        private final KeyCounter stored = new KeyCounter();
+        private final long capacity;
+
+        LimitedStorage(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
+            var inserted = Math.min(amount, capacity - stored.get(what));
+            if (inserted > 0 && mode == Actionable.MODULATE) {
+                stored.add(what, inserted);
+            }
+            return Math.max(0, inserted);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.literal("test");
+        }
+    }
+}
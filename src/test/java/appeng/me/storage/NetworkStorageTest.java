@@ -0,0 +1,117 @@
+package appeng.me.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class NetworkStorageTest {
+    private static final IActionSource SRC = new BaseActionSource();
+
+    private final NetworkStorage storage = new NetworkStorage();
+    private final SimpleStorage mounted = new SimpleStorage();
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+
+    @Test
+    void testSpaceVersionChangesWithMounts() {
+        var version = storage.getSpaceVersion();
+        storage.mount(0, mounted);
+        assertThat(storage.getSpaceVersion()).isNotEqualTo(version);
+
+        version = storage.getSpaceVersion();
+        storage.unmount(mounted);
+        assertThat(storage.getSpaceVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void testSpaceVersionChangesOnlyWhenSomethingIsExtracted() {
+        storage.mount(0, mounted);
+        var version = storage.getSpaceVersion();
+
+        storage.insert(diamond, 10, Actionable.MODULATE, SRC);
+        assertThat(storage.getSpaceVersion()).isEqualTo(version);
+
+        storage.extract(diamond, 5, Actionable.SIMULATE, SRC);
+        assertThat(storage.getSpaceVersion()).isEqualTo(version);
+
+        storage.extract(AEItemKey.of(Items.STICK), 5, Actionable.MODULATE, SRC);
+        assertThat(storage.getSpaceVersion()).isEqualTo(version);
+
+        storage.extract(diamond, 5, Actionable.MODULATE, SRC);
+        assertThat(storage.getSpaceVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void testSpaceVersionChangesWhenExtractionIsCommitted() {
+        storage.mount(0, mounted);
+        storage.insert(diamond, 10, Actionable.MODULATE, SRC);
+        var version = storage.getSpaceVersion();
+
+        var released = storage.reserveExtract(diamond, 5, SRC);
+        released.release();
+        assertThat(storage.getSpaceVersion()).isEqualTo(version);
+
+        var committed = storage.reserveExtract(diamond, 5, SRC);
+        assertThat(committed.commit()).isEqualTo(5);
+        assertThat(storage.getSpaceVersion()).isNotEqualTo(version);
+        assertThat(mounted.stored.get(diamond)).isEqualTo(5);
+    }
+
+    @Test
+    void testSpaceVersionChangesWhenExtractingInBulk() {
+        storage.mount(0, mounted);
+        storage.insert(diamond, 10, Actionable.MODULATE, SRC);
+        var version = storage.getSpaceVersion();
+
+        var request = new KeyCounter();
+        request.add(diamond, 3);
+        storage.extractAll(request, Actionable.SIMULATE, SRC, new KeyCounter());
+        assertThat(storage.getSpaceVersion()).isEqualTo(version);
+
+        storage.extractAll(request, Actionable.MODULATE, SRC, new KeyCounter());
+        assertThat(storage.getSpaceVersion()).isNotEqualTo(version);
+    }
+
+    private static class SimpleStorage implements MEStorage {
+        private final KeyCounter stored = new KeyCounter();
+
+        @Override
+        public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
+            if (mode == Actionable.MODULATE) {
+                stored.add(what, amount);
+            }
+            return amount;
+        }
+
+        @Override
+        public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
+            var extracted = Math.min(amount, stored.get(what));
+            if (extracted > 0 && mode == Actionable.MODULATE) {
+                stored.remove(what, extracted);
+            }
+            return extracted;
+        }
+
+        @Override
+        public void getAvailableStacks(KeyCounter out) {
+            out.addAll(stored);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.literal("test");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package appeng.menu.guisync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class DataSynchronizationTest {
+    private final Host server = new Host();
+    private final Host client = new Host();
+    private final DataSynchronization serverSync = new DataSynchronization(server);
+    private final DataSynchronization clientSync = new DataSynchronization(client);
+
+    @Test
+    void testFullRoundtrip() {
+        server.polled = 5;
+        server.tracked.set("server");
+        server.nullable.set(42);
+
+        assertThat(sendFull()).containsExactlyInAnyOrder((short) 1, (short) 2, (short) 3);
+        assertThat(client.polled).isEqualTo(5);
+        assertThat(client.tracked.get()).isEqualTo("server");
+        assertThat(client.nullable.get()).isEqualTo(42);
+        assertThat(serverSync.hasChanges()).isFalse();
+    }
+
+    @Test
+    void testOnlyChangedFieldsAreSent() {
+        sendFull();
+
+        server.tracked.set("changed");
+        assertThat(serverSync.hasChanges()).isTrue();
+        assertThat(sendUpdate()).containsExactly((short) 2);
+        assertThat(client.tracked.get()).isEqualTo("changed");
+        assertThat(serverSync.hasChanges()).isFalse();
+
+        server.polled = 7;
+        assertThat(sendUpdate()).containsExactly((short) 1);
+        assertThat(client.polled).isEqualTo(7);
+    }
+
+    @Test
+    void testSettingAnEqualValueIsNotAChange() {
+        sendFull();
+
+        server.tracked.set(new String("initial"));
+        server.nullable.set(null);
+        assertThat(serverSync.hasChanges()).isFalse();
+        assertThat(sendUpdate()).isEmpty();
+    }
+
+    @Test
+    void testNullableValueCanBeCleared() {
+        server.nullable.set(1);
+        sendFull();
+
+        server.nullable.set(null);
+        assertThat(sendUpdate()).containsExactly((short) 3);
+        assertThat(client.nullable.get()).isNull();
+    }
+
+    @Test
+    void testValuesSetBeforeFirstSyncAreSent() {
+        server.tracked.set("early");
+        assertThat(serverSync.hasChanges()).isTrue();
+        assertThat(sendUpdate()).contains((short) 2);
+        assertThat(client.tracked.get()).isEqualTo("early");
+    }
+
+    private ShortSet sendFull() {
+        var buffer = createBuffer();
+        serverSync.writeFull(buffer);
+        return read(buffer);
+    }
+
+    private ShortSet sendUpdate() {
+        var buffer = createBuffer();
+        serverSync.writeUpdate(buffer);
+        return read(buffer);
+    }
+
+    private ShortSet read(RegistryFriendlyByteBuf buffer) {
+        var updatedFields = new ShortOpenHashSet();
+        clientSync.readUpdate(buffer, updatedFields);
+        return updatedFields;
+    }
+
+    private static RegistryFriendlyByteBuf createBuffer() {
+        return new RegistryFriendlyByteBuf(Unpooled.buffer(),
+                RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY));
+    }
+
+    public static class Host {
+        @GuiSync(1)
+        public int polled;
+
+        @GuiSync(2)
+        private final SynchronizedValue<String> tracked = SynchronizedValue.create(ByteBufCodecs.STRING_UTF8,
+                "initial");
+
+        @GuiSync(3)
+        private final NullableSynchronizedValue<Integer> nullable = NullableSynchronizedValue
+                .create(ByteBufCodecs.VAR_INT);
+    }
+}
@@ -0,0 +1,73 @@
+package appeng.menu.me.crafting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.CpuSelectionMode;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.GenericStack;
+import appeng.menu.me.crafting.CraftingStatusMenu.CraftingCpuList;
+import appeng.menu.me.crafting.CraftingStatusMenu.CraftingCpuListEntry;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CraftingCpuListTest {
+    private static final GenericStack JOB = new GenericStack(AEItemKey.of(Items.DIAMOND), 64);
+
+    @Test
+    void testSmallProgressIsNotNoticeable() {
+        var entry = entry(1, JOB, 0.5f, 0);
+
+        assertThat(entry.differsNoticeably(entry(1, JOB, 0.5f, 0))).isFalse();
+        assertThat(entry.differsNoticeably(entry(1, JOB, 0.505f, TimeUnit.SECONDS.toNanos(4)))).isFalse();
+        assertThat(entry.differsNoticeably(entry(1, JOB, 0.52f, 0))).isTrue();
+        assertThat(entry.differsNoticeably(entry(1, JOB, 0.5f, TimeUnit.SECONDS.toNanos(5)))).isTrue();
+    }
+
+    @Test
+    void testChangedJobIsNoticeable() {
+        var entry = entry(1, JOB, 0.5f, 0);
+
+        assertThat(entry.differsNoticeably(entry(1, null, 0.5f, 0))).isTrue();
+        assertThat(entry.differsNoticeably(entry(1, new GenericStack(JOB.what(), 32), 0.5f, 0))).isTrue();
+        assertThat(entry.differsNoticeably(entry(2, JOB, 0.5f, 0))).isTrue();
+    }
+
+    @Test
+    void testAddedOrChangedCpuIsNoticeable() {
+        var list = new CraftingCpuList(List.of(entry(1, JOB, 0.5f, 0)));
+
+        assertThat(list.differsNoticeably(new CraftingCpuList(List.of(entry(1, JOB, 0.501f, 0))))).isFalse();
+        assertThat(list.differsNoticeably(new CraftingCpuList(List.of(entry(1, JOB, 0.5f, 0),
+                entry(2, null, 0, 0))))).isTrue();
+        assertThat(list.differsNoticeably(new CraftingCpuList(List.of(entry(1, null, 0, 0))))).isTrue();
+    }
+
+    @Test
+    void testPacketRoundtrip() {
+        var list = new CraftingCpuList(List.of(entry(1, JOB, 0.25f, 1234), entry(2, null, 0, 0)));
+        var buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(),
+                RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY));
+        list.writeToPacket(buffer);
+
+        assertThat(new CraftingCpuList(buffer)).isEqualTo(list);
+        assertThat(buffer.isReadable()).isFalse();
+    }
+
+    private static CraftingCpuListEntry entry(int serial, GenericStack job, float progress, long elapsedTimeNanos) {
+        return new CraftingCpuListEntry(serial, 1024, 1, Component.literal("CPU " + serial), CpuSelectionMode.ANY,
+                job, progress, elapsedTimeNanos);
+    }
+}
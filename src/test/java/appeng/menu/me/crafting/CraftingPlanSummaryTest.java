@@ -0,0 +1,116 @@
+package appeng.menu.me.crafting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.world.item.Items;
+
+import appeng.api.crafting.IPatternDetails;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.GenericStack;
+import appeng.api.stacks.KeyCounter;
+import appeng.core.network.clientbound.CraftConfirmPlanEntriesPacket;
+import appeng.crafting.CraftingPlan;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class CraftingPlanSummaryTest {
+    private final AEItemKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEItemKey stick = AEItemKey.of(Items.STICK);
+    private final AEItemKey gold = AEItemKey.of(Items.GOLD_INGOT);
+
+    @Test
+    void testSummaryOfCompletePlan() {
+        var used = new KeyCounter();
+        used.add(diamond, 10);
+        var emitted = new KeyCounter();
+        emitted.add(stick, 3);
+        var pattern = mock(IPatternDetails.class);
+        when(pattern.getOutputs()).thenReturn(List.of(new GenericStack(gold, 2)));
+
+        var plan = new CraftingPlan(new GenericStack(gold, 8), 1234, false, false, used, emitted, new KeyCounter(),
+                Map.of(pattern, 4L));
+        var summary = CraftingPlanSummary.fromCompletePlan(plan);
+
+        assertThat(summary.getUsedBytes()).isEqualTo(1234);
+        assertThat(summary.isSimulation()).isFalse();
+        assertThat(summary.getEntries()).isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(describe(summary.getEntries())).containsExactlyInAnyOrder(
+                List.of(diamond, 0L, 10L, 0L),
+                List.of(stick, 0L, 3L, 3L),
+                List.of(gold, 0L, 0L, 8L));
+    }
+
+    @Test
+    void testSimulatedPlanNeedsGrid() {
+        var plan = new CraftingPlan(new GenericStack(gold, 1), 0, true, false, new KeyCounter(), new KeyCounter(),
+                new KeyCounter(), Map.of());
+
+        assertThatThrownBy(() -> CraftingPlanSummary.fromCompletePlan(plan))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEntriesAreReceivedInPages() {
+        var entries = new ArrayList<CraftingPlanSummaryEntry>();
+        BuiltInRegistries.ITEM.stream().filter(item -> item != Items.AIR).limit(150).forEach(
+                item -> entries.add(new CraftingPlanSummaryEntry(AEItemKey.of(item), 1, entries.size(), 3)));
+        var pending = CraftingPlanSummary.createPending(100, true, entries.size());
+        assertThat(pending.getEntries()).hasSize(150).containsOnlyNulls();
+
+        // The page visible on screen is requested first, the others follow in order
+        receivePage(pending, entries, 64);
+        assertThat(pending.getEntries().subList(0, 64)).containsOnlyNulls();
+        assertThat(describe(pending.getEntries().subList(64, 128))).isEqualTo(describe(entries.subList(64, 128)));
+        assertThat(pending.getEntries().subList(128, 150)).containsOnlyNulls();
+
+        receivePage(pending, entries, 0);
+        receivePage(pending, entries, 128);
+        assertThat(describe(pending.getEntries())).isEqualTo(describe(entries));
+    }
+
+    @Test
+    void testEntriesBeyondPendingSizeAreIgnored() {
+        var pending = CraftingPlanSummary.createPending(0, false, 1);
+        pending.setEntries(0, List.of(new CraftingPlanSummaryEntry(diamond, 0, 1, 0),
+                new CraftingPlanSummaryEntry(stick, 0, 1, 0)));
+
+        assertThat(describe(pending.getEntries())).containsExactly(List.of(diamond, 0L, 1L, 0L));
+    }
+
+    /**
+     * Sends a page through the packet codec and stores it in the pending summary.
+     */
+    private static void receivePage(CraftingPlanSummary pending, List<CraftingPlanSummaryEntry> entries,
+            int offset) {
+        var page = entries.subList(offset, Math.min(offset + 64, entries.size()));
+        var buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(),
+                RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY));
+        CraftConfirmPlanEntriesPacket.STREAM_CODEC.encode(buffer, new CraftConfirmPlanEntriesPacket(offset, page));
+        var packet = CraftConfirmPlanEntriesPacket.STREAM_CODEC.decode(buffer);
+        assertThat(buffer.isReadable()).isFalse();
+
+        pending.setEntries(packet.offset(), packet.entries());
+    }
+
+    private static List<List<Object>> describe(List<CraftingPlanSummaryEntry> entries) {
+        return entries.stream()
+                .map(entry -> List.<Object>of(entry.getWhat(), entry.getMissingAmount(), entry.getStoredAmount(),
+                        entry.getCraftAmount()))
+                .toList();
+    }
+}
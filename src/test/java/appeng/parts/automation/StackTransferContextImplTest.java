@@ -0,0 +1,61 @@
+package appeng.parts.automation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.material.Fluids;
+
+import appeng.api.networking.energy.IEnergySource;
+import appeng.api.networking.storage.IStorageService;
+import appeng.api.stacks.AEFluidKey;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.BootstrapMinecraft;
+import appeng.util.prioritylist.DefaultPriorityList;
+import appeng.util.prioritylist.IPartitionList;
+
+@BootstrapMinecraft
+class StackTransferContextImplTest {
+    private final IStorageService storage = mock(IStorageService.class);
+    private final IEnergySource energy = mock(IEnergySource.class);
+
+    @Test
+    void testResetRestoresOperations() {
+        var context = new StackTransferContextImpl(storage, energy, new BaseActionSource(), 8,
+                DefaultPriorityList.INSTANCE);
+        context.reduceOperationsRemaining(8);
+        assertThat(context.hasOperationsLeft()).isFalse();
+        assertThat(context.hasDoneWork()).isTrue();
+
+        context.reset(storage, energy, 4, DefaultPriorityList.INSTANCE);
+        assertThat(context.getOperationsRemaining()).isEqualTo(4);
+        assertThat(context.hasDoneWork()).isFalse();
+    }
+
+    @Test
+    void testResetUpdatesKeyTypesWhenFilterChanges() {
+        var itemFilter = IPartitionList.builder();
+        itemFilter.add(AEItemKey.of(Items.DIAMOND));
+        var fluidFilter = IPartitionList.builder();
+        fluidFilter.add(AEFluidKey.of(Fluids.WATER));
+
+        var context = new StackTransferContextImpl(storage, energy, new BaseActionSource(), 1, itemFilter.build());
+        assertThat(context.isKeyTypeEnabled(AEKeyType.items())).isTrue();
+        assertThat(context.isKeyTypeEnabled(AEKeyType.fluids())).isFalse();
+        assertThat(context.isInFilter(AEItemKey.of(Items.DIAMOND))).isTrue();
+
+        context.reset(storage, energy, 1, fluidFilter.build());
+        assertThat(context.isKeyTypeEnabled(AEKeyType.items())).isFalse();
+        assertThat(context.isKeyTypeEnabled(AEKeyType.fluids())).isTrue();
+        assertThat(context.isInFilter(AEItemKey.of(Items.DIAMOND))).isFalse();
+        assertThat(context.isInFilter(AEFluidKey.of(Fluids.WATER))).isTrue();
+
+        context.reset(storage, energy, 1, DefaultPriorityList.INSTANCE);
+        assertThat(context.isKeyTypeEnabled(AEKeyType.items())).isTrue();
+        assertThat(context.isKeyTypeEnabled(AEKeyType.fluids())).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package appeng.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeMap;
+
+import appeng.core.AppEng;
+import appeng.recipes.handlers.ChargerRecipe;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class RecipeIndexTest {
+    private final Map<ChargerRecipe, Collection<String>> recipeKeys = new IdentityHashMap<>();
+    private final RecipeIndex.Definition<String, ChargerRecipe> definition = new RecipeIndex.Definition<>(
+            AERecipeTypes.CHARGER, recipeKeys::get);
+
+    @Test
+    void testCandidatesAreRecipesWithKey() {
+        var a = recipe("a", List.of("quartz"));
+        var b = recipe("b", List.of("gold"));
+        var c = recipe("c", List.of("quartz", "gold"));
+        var index = RecipeIndex.get(recipeMap(a, b, c), definition);
+
+        assertThat(index.getCandidates("quartz")).containsExactly(a, c);
+        assertThat(index.getCandidates("gold")).containsExactly(b, c);
+        assertThat(index.getCandidates("iron")).isEmpty();
+    }
+
+    @Test
+    void testUnindexedRecipesAreCandidatesForAnyKeyInRecipeOrder() {
+        var first = recipe("first", null);
+        var a = recipe("a", List.of("quartz"));
+        var middle = recipe("middle", null);
+        var b = recipe("b", List.of("gold"));
+        var index = RecipeIndex.get(recipeMap(first, a, middle, b), definition);
+
+        assertThat(index.getCandidates("quartz")).containsExactly(first, a, middle);
+        assertThat(index.getCandidates("gold")).containsExactly(first, middle, b);
+        assertThat(index.getCandidates("iron")).containsExactly(first, middle);
+        assertThat(index.getCandidates(null)).containsExactly(first, middle);
+    }
+
+    @Test
+    void testRepeatedKeyListsRecipeOnce() {
+        var a = recipe("a", List.of("quartz", "quartz"));
+        var index = RecipeIndex.get(recipeMap(a), definition);
+
+        assertThat(index.getCandidates("quartz")).containsExactly(a);
+    }
+
+    /**
+     * A reload creates a new recipe map, which must not see the index of the old one.
+     */
+    @Test
+    void testIndexIsBuiltOncePerRecipeMap() {
+        var a = recipe("a", List.of("quartz"));
+        var recipeMap = recipeMap(a);
+        var index = RecipeIndex.get(recipeMap, definition);
+        assertThat(RecipeIndex.get(recipeMap, definition)).isSameAs(index);
+
+        var b = recipe("b", List.of("quartz"));
+        var reloaded = RecipeIndex.get(recipeMap(b), definition);
+        assertThat(reloaded).isNotSameAs(index);
+        assertThat(reloaded.getCandidates("quartz")).containsExactly(b);
+    }
+
+    @Test
+    void testItemsOfIngredients() {
+        assertThat(RecipeIndex.itemsOf(Ingredient.of(Items.DIAMOND, Items.EMERALD), Ingredient.of(Items.STICK)))
+                .containsExactly(Items.DIAMOND, Items.EMERALD, Items.STICK);
+    }
+
+    private RecipeHolder<ChargerRecipe> recipe(String id, Collection<String> keys) {
+        var recipe = mock(ChargerRecipe.class);
+        when(recipe.getType()).thenReturn(AERecipeTypes.CHARGER);
+        recipeKeys.put(recipe, keys);
+        return new RecipeHolder<>(ResourceKey.create(Registries.RECIPE, AppEng.makeId(id)), recipe);
+    }
+
+    @SafeVarargs
+    private static RecipeMap recipeMap(RecipeHolder<ChargerRecipe>... recipes) {
+        return RecipeMap.create(List.<RecipeHolder<?>>of(recipes));
+    }
+}
@@ -0,0 +1,118 @@
+package appeng.recipes.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.phys.AABB;
+
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class ItemEntityClustersTest {
+    private final ItemEntityClusters clusters = new ItemEntityClusters();
+    private final List<ItemEntity> entities = new ArrayList<>();
+    private int lookups;
+
+    @Test
+    void testEntitiesInSameBlockShareLookup() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        var second = addEntity(0.2, 0.7, 0.9);
+
+        var cluster = get(first);
+        assertThat(get(second)).isSameAs(cluster);
+        assertThat(cluster).containsExactlyInAnyOrder(first, second);
+        assertThat(lookups).isEqualTo(1);
+    }
+
+    @Test
+    void testEntitiesInDifferentBlocksAreLookedUpSeparately() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        var second = addEntity(5.5, 0.5, 0.5);
+
+        assertThat(get(first)).containsExactly(first);
+        assertThat(get(second)).containsExactly(second);
+        assertThat(lookups).isEqualTo(2);
+    }
+
+    @Test
+    void testLookupOnlyCoversNeighboringBlocks() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        var near = addEntity(1.9, 0.5, -0.9);
+        addEntity(2.5, 0.5, 0.5);
+
+        assertThat(get(first)).containsExactlyInAnyOrder(first, near);
+    }
+
+    @Test
+    void testEntityThatMovedIntoBlockIsAdded() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        get(first);
+
+        var late = entity(0.5, 0.5, 0.5);
+        assertThat(get(late)).containsExactlyInAnyOrder(first, late);
+        assertThat(lookups).isEqualTo(1);
+    }
+
+    @Test
+    void testJoinedEntityDropsLookupOfItsBlock() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        get(first);
+
+        var result = addEntity(0.6, 0.4, 0.5);
+        clusters.onEntityJoined(result);
+
+        assertThat(get(first)).containsExactlyInAnyOrder(first, result);
+        assertThat(lookups).isEqualTo(2);
+    }
+
+    @Test
+    void testJoinedEntityAtCornerDropsLookupOfNeighboringBlock() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        get(first);
+
+        var result = addEntity(-0.5, 1.5, -0.5);
+        clusters.onEntityJoined(result);
+
+        assertThat(get(first)).containsExactlyInAnyOrder(first, result);
+        assertThat(lookups).isEqualTo(2);
+    }
+
+    @Test
+    void testJoinedEntityOutOfRangeKeepsLookup() {
+        var first = addEntity(0.5, 0.5, 0.5);
+        get(first);
+
+        clusters.onEntityJoined(addEntity(5.5, 0.5, 0.5));
+
+        assertThat(get(first)).containsExactly(first);
+        assertThat(lookups).isEqualTo(1);
+    }
+
+    private List<ItemEntity> get(ItemEntity entity) {
+        return clusters.get(entity, region -> {
+            lookups++;
+            return entities.stream().filter(e -> e.getBoundingBox().intersects(region)).toList();
+        });
+    }
+
+    private ItemEntity addEntity(double x, double y, double z) {
+        var entity = entity(x, y, z);
+        entities.add(entity);
+        return entity;
+    }
+
+    private static ItemEntity entity(double x, double y, double z) {
+        var entity = mock(ItemEntity.class);
+        when(entity.blockPosition()).thenReturn(BlockPos.containing(x, y, z));
+        when(entity.getBoundingBox()).thenReturn(new AABB(x - 0.125, y, z - 0.125, x + 0.125, y + 0.25, z + 0.125));
+        return entity;
+    }
+}
@@ -1,10 +1,12 @@
 package appeng.server.services.compass;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +15,7 @@
 import org.mockito.junit.jupiter.MockitoSettings;
 
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.datafix.DataFixers;
 import net.minecraft.world.level.ChunkPos;
@@ -25,6 +28,9 @@ class ServerCompassServiceTest {
     @Mock
     ServerLevel level;
 
+    @Mock
+    ServerChunkCache chunkSource;
+
     @TempDir
     Path tempDir;
 
@@ -52,4 +58,33 @@ public void testOverlapAtZero(MinecraftServer server) {
         region2.setHasCompassTarget(cp2.x(), cp2.z(), 0, true);
     }
 
+    /**
+     * Checks that cached results of the closest meteorite are only forgotten when the compass data within their search
+     * range changes.
+     */
+    @Test
+    public void testCacheInvalidation(MinecraftServer server) {
+        var dimensionalDataStorage = new SavedDataStorage(
+                level,
+                tempDir,
+                DataFixers.getDataFixer(),
+                server.registryAccess());
+        when(level.getDataStorage()).thenReturn(dimensionalDataStorage);
+        when(level.getChunkSource()).thenReturn(chunkSource);
+
+        var origin = new ChunkPos(100, 100);
+        assertEquals(Optional.empty(), ServerCompassService.getClosestMeteorite(level, origin));
+
+        var target = new ChunkPos(103, 100);
+        CompassRegion.get(level, target).setHasCompassTarget(target.x(), target.z(), 0, true);
+        assertEquals(Optional.empty(), ServerCompassService.getClosestMeteorite(level, origin));
+
+        // Changes outside the search range don't affect the result
+        ServerCompassService.invalidateArea(level, new ChunkPos(100 + 500, 100));
+        assertEquals(Optional.empty(), ServerCompassService.getClosestMeteorite(level, origin));
+
+        ServerCompassService.invalidateArea(level, target);
+        assertEquals(Optional.of(target.getMiddleBlockPosition(0)),
+                ServerCompassService.getClosestMeteorite(level, origin));
+    }
 }